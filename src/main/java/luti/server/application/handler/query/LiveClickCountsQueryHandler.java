@@ -0,0 +1,40 @@
+package luti.server.application.handler.query;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import luti.server.application.handler.QueryHandler;
+import luti.server.application.query.LiveClickCountsQuery;
+import luti.server.application.result.LiveClickCountsResult;
+import luti.server.domain.service.LiveClickCountService;
+
+@Component
+public class LiveClickCountsQueryHandler implements QueryHandler<LiveClickCountsQuery, LiveClickCountsResult> {
+
+	private static final Logger log = LoggerFactory.getLogger(LiveClickCountsQueryHandler.class);
+
+	private final LiveClickCountService liveClickCountService;
+
+	public LiveClickCountsQueryHandler(LiveClickCountService liveClickCountService) {
+		this.liveClickCountService = liveClickCountService;
+	}
+
+	@Override
+	public LiveClickCountsResult execute(LiveClickCountsQuery query) {
+
+		log.info("실시간 클릭 수 조회 요청: memberId={}, urls={}", query.getMemberId(), query.getUrlIds().size());
+
+		Map<Long, Long> clickCounts = liveClickCountService.getLiveClickCounts(query.getMemberId(),
+																				query.getUrlIds());
+
+		return LiveClickCountsResult.from(clickCounts);
+	}
+
+	@Override
+	public Class<LiveClickCountsQuery> getSupportedQueryType() {
+		return LiveClickCountsQuery.class;
+	}
+}
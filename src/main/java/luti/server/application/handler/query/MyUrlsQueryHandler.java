@@ -2,54 +2,180 @@ package luti.server.application.handler.query;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import luti.server.application.handler.QueryHandler;
 import luti.server.application.query.MyUrlsQuery;
 import luti.server.application.result.MyUrlsListResult;
 import luti.server.domain.service.ClickStatisticsService;
+import luti.server.domain.service.LiveClickCountService;
 import luti.server.domain.service.MyUrlService;
 import luti.server.domain.service.TagService;
 import luti.server.domain.service.dto.MyUrlsListInfo;
 import luti.server.domain.service.dto.RecentDailyStatisticsInfo;
 import luti.server.domain.service.dto.TagInfo;
+import luti.server.infrastructure.config.AsyncConfig;
 
 @Component
 public class MyUrlsQueryHandler implements QueryHandler<MyUrlsQuery, MyUrlsListResult> {
 
 	private static final Logger log = LoggerFactory.getLogger(MyUrlsQueryHandler.class);
 
+	static final String DEGRADED_METRIC_NAME = "my-urls.stats.degraded";
+
 	private final MyUrlService myUrlService;
 	private final ClickStatisticsService clickStatisticsService;
 	private final TagService tagService;
+	private final LiveClickCountService liveClickCountService;
+	private final Executor fanOutExecutor;
+	private final boolean fanOutEnabled;
+	private final long statsTimeoutMillis;
+	private final TransactionTemplate statsTransaction;
+
+	private final Counter statsTimeouts;
+	private final Counter statsFailures;
+	private final Counter statsRejections;
 
 	public MyUrlsQueryHandler(MyUrlService myUrlService, ClickStatisticsService clickStatisticsService,
-							  TagService tagService) {
+							  TagService tagService, LiveClickCountService liveClickCountService,
+							  @Qualifier(AsyncConfig.MY_URLS_FAN_OUT_EXECUTOR) Executor fanOutExecutor,
+							  MeterRegistry meterRegistry, PlatformTransactionManager transactionManager,
+							  @Value("${my-urls.fan-out.enabled:true}") boolean fanOutEnabled,
+							  @Value("${my-urls.fan-out.stats-timeout:1000}") long statsTimeoutMillis) {
 		this.myUrlService = myUrlService;
 		this.clickStatisticsService = clickStatisticsService;
 		this.tagService = tagService;
+		this.liveClickCountService = liveClickCountService;
+		this.fanOutExecutor = fanOutExecutor;
+		this.fanOutEnabled = fanOutEnabled;
+		this.statsTimeoutMillis = statsTimeoutMillis;
+
+		// 시간 초과로 통계를 버려도 executor 의 쿼리는 계속 돌므로, 같은 시간(초 단위 올림)의 쿼리 timeout 으로 DB 작업도 끊음
+		this.statsTransaction = new TransactionTemplate(transactionManager);
+		this.statsTransaction.setReadOnly(true);
+		this.statsTransaction.setTimeout((int) Math.max(1, (statsTimeoutMillis + 999) / 1000));
+
+		this.statsTimeouts = degradedCounter(meterRegistry, "timeout");
+		this.statsFailures = degradedCounter(meterRegistry, "error");
+		this.statsRejections = degradedCounter(meterRegistry, "rejected");
 	}
 
+	private static Counter degradedCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder(DEGRADED_METRIC_NAME)
+					  .tag("reason", reason)
+					  .register(meterRegistry);
+	}
+
+	/**
+	 * 페이지 조회 후 id 가 정해지면 태그/미니 차트 통계는 fan-out executor 에서 병렬 조회
+	 * (각 서비스 호출이 자체 읽기 전용 트랜잭션으로 실행), 그동안 요청 스레드는 동기화 전 클릭 수 반영
+	 *
+	 * 통계가 stats-timeout 안에 끝나지 않거나 실패하면 미니 차트 없이 목록만 반환
+	 * executor 가 포화되어 거절하면 통계는 생략하고 태그만 요청 스레드에서 조회 (요청 스레드에서 통계 쿼리를 돌리지 않음)
+	 * (기다리지 않을 뿐 작업은 취소되지 않으며, 통계 쿼리는 stats-timeout 의 트랜잭션 timeout 으로 DB 에서 중단)
+	 * fan-out.enabled=false 면 요청 스레드에서 순서대로 조회
+	 */
 	@Override
 	public MyUrlsListResult execute(MyUrlsQuery query) {
 
-		log.info("단축 URL 목록 조회 요청: memberId={}, page={}, size={}",
-				 query.getMemberId(), query.getPage(), query.getSize());
+		log.info("단축 URL 목록 조회 요청: memberId={}, page={}, size={}, cursorMode={}",
+				 query.getMemberId(), query.getPage(), query.getSize(), query.isCursorMode());
+
+		MyUrlsListInfo urlsListInfo = query.isCursorMode()
+			? myUrlService.getMyUrlsByCursor(query.getMemberId(), query.getCursor(), query.getSize(),
+											 query.getTagIds(), query.isAndMode(), query.isIncludeTotal())
+			: myUrlService.getMyUrls(query.getMemberId(), query.getPage(), query.getSize(),
+									 query.getTagIds(), query.isAndMode());
+
+		List<Long> urlIds = urlsListInfo.getUrlIds();
 
-		MyUrlsListInfo urlsListInfo = myUrlService.getMyUrls(query.getMemberId(), query.getPage(),
-															 query.getSize(), query.getTagIds(), query.isAndMode());
+		if (!fanOutEnabled || urlIds.isEmpty()) {
+			// 동기화 전 클릭 수 반영
+			urlsListInfo = liveClickCountService.applyPendingClicks(urlsListInfo);
+			Map<Long, List<TagInfo>> tagsMap = tagService.getTagsForUrls(urlIds);
+			RecentDailyStatisticsInfo recentDailyStatisticsInfo =
+				clickStatisticsService.getRecentDailyStatistics(urlIds);
+			return MyUrlsListResult.from(urlsListInfo, tagsMap, recentDailyStatisticsInfo);
+		}
 
-		Map<Long, List<TagInfo>> tagsMap = tagService.getTagsForUrls(urlsListInfo.getUrlIds());
+		CompletableFuture<Map<Long, List<TagInfo>>> tagsFuture = submit(() -> tagService.getTagsForUrls(urlIds));
+		CompletableFuture<RecentDailyStatisticsInfo> statsFuture = submit(
+			() -> statsTransaction.execute(status -> clickStatisticsService.getRecentDailyStatistics(urlIds)));
 
-		RecentDailyStatisticsInfo recentDailyStatisticsInfo = clickStatisticsService.getRecentDailyStatistics(
-			urlsListInfo.getUrlIds());
+		// 동기화 전 클릭 수 반영 (Redis, 요청 스레드)
+		urlsListInfo = liveClickCountService.applyPendingClicks(urlsListInfo);
+
+		RecentDailyStatisticsInfo recentDailyStatisticsInfo;
+		if (statsFuture != null) {
+			recentDailyStatisticsInfo = awaitStats(statsFuture, query.getMemberId());
+		} else {
+			statsRejections.increment();
+			log.warn("fan-out executor 포화로 미니 차트 통계 생략: memberId={}", query.getMemberId());
+			recentDailyStatisticsInfo = RecentDailyStatisticsInfo.of(Map.of());
+		}
+
+		Map<Long, List<TagInfo>> tagsMap = tagsFuture != null ? join(tagsFuture) : tagService.getTagsForUrls(urlIds);
 
 		return MyUrlsListResult.from(urlsListInfo, tagsMap, recentDailyStatisticsInfo);
 	}
 
+	/**
+	 * @return executor 가 거절하면 null
+	 */
+	private <T> CompletableFuture<T> submit(Supplier<T> task) {
+		try {
+			return CompletableFuture.supplyAsync(task, fanOutExecutor);
+		} catch (RejectedExecutionException e) {
+			return null;
+		}
+	}
+
+	private RecentDailyStatisticsInfo awaitStats(CompletableFuture<RecentDailyStatisticsInfo> statsFuture, Long memberId) {
+		try {
+			return statsFuture.get(statsTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// CompletableFuture 는 실행 중인 작업을 인터럽트하지 않음, 결과만 버리고 쿼리는 트랜잭션 timeout 에 맡김
+			statsTimeouts.increment();
+			log.warn("미니 차트 통계 조회 시간 초과 (통계 없이 반환): memberId={}, timeoutMillis={}", memberId, statsTimeoutMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			statsFailures.increment();
+			log.warn("미니 차트 통계 조회 대기 중 인터럽트 (통계 없이 반환): memberId={}", memberId);
+		} catch (ExecutionException e) {
+			statsFailures.increment();
+			log.warn("미니 차트 통계 조회 실패 (통계 없이 반환): memberId={}, error={}", memberId, e.getCause().getMessage());
+		}
+		return RecentDailyStatisticsInfo.of(Map.of());
+	}
+
+	// 태그는 목록의 일부라 실패를 감추지 않고 원래 예외를 그대로 전파
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (RuntimeException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
 	@Override
 	public Class<MyUrlsQuery> getSupportedQueryType() {
 		return MyUrlsQuery.class;
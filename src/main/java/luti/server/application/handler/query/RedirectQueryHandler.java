@@ -7,9 +7,12 @@ import org.springframework.stereotype.Component;
 import luti.server.application.handler.QueryHandler;
 import luti.server.application.query.RedirectQuery;
 import luti.server.application.result.RedirectResult;
+import luti.server.domain.port.UrlExistenceFilter;
 import luti.server.domain.service.ClickCountService;
 import luti.server.domain.service.UrlQueryService;
 import luti.server.domain.util.Base62Encoder;
+import luti.server.exception.BusinessException;
+import luti.server.exception.ErrorCode;
 
 @Component
 public class RedirectQueryHandler implements QueryHandler<RedirectQuery, RedirectResult> {
@@ -19,12 +22,14 @@ public class RedirectQueryHandler implements QueryHandler<RedirectQuery, Redirec
 	private final Base62Encoder base62Encoder;
 	private final UrlQueryService urlQueryService;
 	private final ClickCountService clickCountService;
+	private final UrlExistenceFilter urlExistenceFilter;
 
 	public RedirectQueryHandler(Base62Encoder base62Encoder, UrlQueryService urlQueryService,
-								ClickCountService clickCountService) {
+								ClickCountService clickCountService, UrlExistenceFilter urlExistenceFilter) {
 		this.base62Encoder = base62Encoder;
 		this.urlQueryService = urlQueryService;
 		this.clickCountService = clickCountService;
+		this.urlExistenceFilter = urlExistenceFilter;
 	}
 
 	@Override
@@ -32,9 +37,24 @@ public class RedirectQueryHandler implements QueryHandler<RedirectQuery, Redirec
 		log.info("리다이렉트 요청: shortCode={}", query.getShortCode());
 
 		Long decodedId = base62Encoder.decode(query.getShortCode());
-		clickCountService.recordClick(decodedId); // async
 
-		String originalUrl = urlQueryService.getOriginalUrl(decodedId);
+		// 존재하지 않는 shortCode는 Redis/DB 조회 없이 즉시 거절
+		if (!urlExistenceFilter.mightExist(decodedId)) {
+			log.debug("존재 필터에서 거절: shortCode={}", query.getShortCode());
+			throw new BusinessException(ErrorCode.URL_NOT_FOUND);
+		}
+
+		clickCountService.recordClick(decodedId); // 메모리 버퍼 누적 (Redis 반영은 비동기 flush)
+
+		String originalUrl;
+		try {
+			originalUrl = urlQueryService.getOriginalUrl(decodedId);
+		} catch (BusinessException e) {
+			if (e.getErrorCode() == ErrorCode.URL_NOT_FOUND) {
+				urlExistenceFilter.reportFalsePositive(decodedId);
+			}
+			throw e;
+		}
 		RedirectResult result = RedirectResult.of(originalUrl);
 
 		return result;
@@ -0,0 +1,30 @@
+package luti.server.application.query;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import luti.server.application.result.LiveClickCountsResult;
+
+public class LiveClickCountsQuery implements IQuery<LiveClickCountsResult> {
+
+	private final List<Long> urlIds;
+	private final Long memberId;
+
+	@JsonCreator
+	public LiveClickCountsQuery(
+					@JsonProperty("urlIds") List<Long> urlIds,
+					@JsonProperty("memberId") Long memberId) {
+		this.urlIds = urlIds != null ? urlIds : List.of();
+		this.memberId = memberId;
+	}
+
+	public List<Long> getUrlIds() {
+		return urlIds;
+	}
+
+	public Long getMemberId() {
+		return memberId;
+	}
+}
@@ -14,19 +14,40 @@ public class MyUrlsQuery implements IQuery<MyUrlsListResult> {
 	private final Long memberId;
 	private final List<Long> tagIds;
 	private final String filterMode;
+	private final String paging;
+	private final String cursor;
+	private final boolean includeTotal;
 
+	public MyUrlsQuery(Integer page, Integer size, Long memberId, List<Long> tagIds, String filterMode) {
+		this(page, size, memberId, tagIds, filterMode, null, null, null);
+	}
+
+	/**
+	 * paging=cursor 또는 cursor 가 있으면 keyset 페이지네이션 (page 무시, includeTotal=true 일 때만 전체 개수 조회)
+	 * 그 외에는 기존 page/size 페이지네이션
+	 */
 	@JsonCreator
 	public MyUrlsQuery(
 					@JsonProperty("page") Integer page,
 					@JsonProperty("size") Integer size,
 					@JsonProperty("memberId") Long memberId,
 					@JsonProperty("tagIds") List<Long> tagIds,
-					@JsonProperty("filterMode") String filterMode) {
+					@JsonProperty("filterMode") String filterMode,
+					@JsonProperty("paging") String paging,
+					@JsonProperty("cursor") String cursor,
+					@JsonProperty("includeTotal") Boolean includeTotal) {
 		this.page = page != null ? page : 0;
 		this.size = size != null ? size : 10;
 		this.memberId = memberId;
 		this.tagIds = tagIds;
 		this.filterMode = filterMode != null ? filterMode : "or";
+		this.paging = paging;
+		this.cursor = cursor;
+		this.includeTotal = includeTotal != null && includeTotal;
+	}
+
+	public boolean isCursorMode() {
+		return "cursor".equalsIgnoreCase(paging) || cursor != null;
 	}
 
 	public boolean isAndMode() {
@@ -48,4 +69,12 @@ public class MyUrlsQuery implements IQuery<MyUrlsListResult> {
 	public List<Long> getTagIds() {
 		return tagIds;
 	}
+
+	public String getCursor() {
+		return cursor;
+	}
+
+	public boolean isIncludeTotal() {
+		return includeTotal;
+	}
 }
@@ -0,0 +1,52 @@
+package luti.server.application.result;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class LiveClickCountsResult {
+
+	@JsonProperty("clickCounts")
+	private final List<LiveClickCountResult> clickCounts;
+
+	private LiveClickCountsResult(List<LiveClickCountResult> clickCounts) {
+		this.clickCounts = clickCounts;
+	}
+
+	public static LiveClickCountsResult from(Map<Long, Long> clickCountsByUrlId) {
+		List<LiveClickCountResult> clickCounts = clickCountsByUrlId.entrySet().stream()
+			.map(entry -> LiveClickCountResult.of(entry.getKey(), entry.getValue()))
+			.toList();
+		return new LiveClickCountsResult(clickCounts);
+	}
+
+	public List<LiveClickCountResult> getClickCounts() {
+		return clickCounts;
+	}
+
+	public static class LiveClickCountResult {
+		@JsonProperty("urlId")
+		private final Long urlId;
+
+		@JsonProperty("clickCount")
+		private final Long clickCount;
+
+		private LiveClickCountResult(Long urlId, Long clickCount) {
+			this.urlId = urlId;
+			this.clickCount = clickCount;
+		}
+
+		public static LiveClickCountResult of(Long urlId, Long clickCount) {
+			return new LiveClickCountResult(urlId, clickCount);
+		}
+
+		public Long getUrlId() {
+			return urlId;
+		}
+
+		public Long getClickCount() {
+			return clickCount;
+		}
+	}
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import luti.server.domain.service.dto.MyUrlsListInfo;
@@ -28,13 +29,24 @@ public class MyUrlsListResult {
 	@JsonProperty("pageSize")
 	private final Long pageSize;
 
+	// 커서 페이지네이션에서만 포함 (page/size 응답 형식은 그대로)
+	@JsonProperty("nextCursor")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private final String nextCursor;
+
+	@JsonProperty("hasNext")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private final Boolean hasNext;
+
 	private MyUrlsListResult(List<MyUrlItemResult> urls, Long totalElements, Long totalPages, Long currentPage,
-							 Long pageSize) {
+							 Long pageSize, String nextCursor, Boolean hasNext) {
 		this.urls = urls;
 		this.totalElements = totalElements;
 		this.totalPages = totalPages;
 		this.currentPage = currentPage;
 		this.pageSize = pageSize;
+		this.nextCursor = nextCursor;
+		this.hasNext = hasNext;
 	}
 
 	public static MyUrlsListResult from(MyUrlsListInfo urlsInfo, RecentDailyStatisticsInfo statsInfo) {
@@ -86,7 +98,9 @@ public class MyUrlsListResult {
 			urlsInfo.getTotalElements(),
 			urlsInfo.getTotalPages(),
 			urlsInfo.getCurrentPage(),
-			urlsInfo.getPageSize()
+			urlsInfo.getPageSize(),
+			urlsInfo.getNextCursor(),
+			urlsInfo.getHasNext()
 		);
 	}
 
@@ -212,4 +226,12 @@ public class MyUrlsListResult {
 	public Long getPageSize() {
 		return pageSize;
 	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public Boolean getHasNext() {
+		return hasNext;
+	}
 }
@@ -0,0 +1,150 @@
+package luti.server.domain.aggregator;
+
+import static java.time.temporal.ChronoUnit.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import luti.server.domain.model.ClickCountDaily;
+import luti.server.domain.model.ClickCountHistory;
+import luti.server.domain.model.ClickCountMonthly;
+import luti.server.domain.service.dto.UrlAnalyticsInfo;
+
+/**
+ * 통합 통계 집계자
+ * 시간별/일별/주별/월별 집계를 원본마다 한 번씩만 순회하며 long[] 버킷에 인덱스 계산으로 누적
+ * (행마다 Map 박싱, LocalDate/YearMonth 생성 없이 epoch 값 차이로 버킷 위치 계산)
+ *
+ * 결과는 단위별 기준 집계자(src/test 의 Hourly/Daily/Weekly/MonthlyStatisticsAggregator)를 각각 실행한 것과 동일
+ */
+@Component
+public class FusedStatisticsAggregator {
+
+	private static final int HOURLY_RANGE_HOURS = 24;
+	private static final int DAILY_RANGE_DAYS = 30;
+	private static final int WEEKLY_RANGE_WEEKS = 12;
+	private static final int MONTHLY_RANGE_MONTHS = 12;
+
+	private static final long SECONDS_PER_HOUR = 3600L;
+
+	/**
+	 * 네 단위 통계를 한 번에 집계
+	 *
+	 * @param histories 시간 단위 히스토리 (최근 24시간)
+	 * @param dailies 일별 롤업 (일별/주별 통계용)
+	 * @param monthlies 월별 롤업
+	 * @param now 현재 시각
+	 * @return UrlAnalyticsInfo 시간대별 통계 데이터
+	 */
+	public UrlAnalyticsInfo aggregate(List<ClickCountHistory> histories, List<ClickCountDaily> dailies,
+									  List<ClickCountMonthly> monthlies, LocalDateTime now) {
+
+		// 각 구간의 시작점 (epoch 기준)
+		LocalDateTime hourlySince = now.minusHours(HOURLY_RANGE_HOURS - 1).truncatedTo(HOURS);
+		long hourlyStart = hourlySince.toEpochSecond(ZoneOffset.UTC);
+
+		LocalDate today = now.toLocalDate();
+		LocalDate dailySince = today.minusDays(DAILY_RANGE_DAYS - 1);
+		long dailyStart = dailySince.toEpochDay();
+
+		LocalDate weeklySince = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+									 .minusWeeks(WEEKLY_RANGE_WEEKS - 1);
+		long weeklyStart = weeklySince.toEpochDay();
+
+		YearMonth monthlySince = YearMonth.from(now).minusMonths(MONTHLY_RANGE_MONTHS - 1);
+		long monthlyStart = monthIndex(monthlySince.getYear(), monthlySince.getMonthValue());
+
+		long[] hourly = new long[HOURLY_RANGE_HOURS];
+		long[] daily = new long[DAILY_RANGE_DAYS];
+		long[] weekly = new long[WEEKLY_RANGE_WEEKS];
+		long[] monthly = new long[MONTHLY_RANGE_MONTHS];
+
+		// 시간별: 정시 단위 행만 해당 시간 버킷에 누적
+		for (ClickCountHistory history : histories) {
+			long offset = history.getHour().toEpochSecond(ZoneOffset.UTC) - hourlyStart;
+			if (offset < 0 || offset % SECONDS_PER_HOUR != 0) {
+				continue;
+			}
+			long index = offset / SECONDS_PER_HOUR;
+			if (index < HOURLY_RANGE_HOURS) {
+				hourly[(int) index] += history.getClickCount();
+			}
+		}
+
+		// 일별 + 주별: 일별 롤업 한 번 순회
+		for (ClickCountDaily rollup : dailies) {
+			long epochDay = rollup.getDate().toEpochDay();
+			long count = rollup.getClickCount();
+
+			long dayIndex = epochDay - dailyStart;
+			if (dayIndex >= 0 && dayIndex < DAILY_RANGE_DAYS) {
+				daily[(int) dayIndex] += count;
+			}
+
+			long weekOffset = epochDay - weeklyStart;
+			if (weekOffset >= 0 && weekOffset / 7 < WEEKLY_RANGE_WEEKS) {
+				weekly[(int) (weekOffset / 7)] += count;
+			}
+		}
+
+		// 월별
+		for (ClickCountMonthly rollup : monthlies) {
+			LocalDate month = rollup.getMonth();
+			long index = monthIndex(month.getYear(), month.getMonthValue()) - monthlyStart;
+			if (index >= 0 && index < MONTHLY_RANGE_MONTHS) {
+				monthly[(int) index] += rollup.getClickCount();
+			}
+		}
+
+		return UrlAnalyticsInfo.of(
+			hourlyStats(hourlySince, hourly),
+			dailyStats(dailySince, daily),
+			weeklyStats(weeklySince, weekly),
+			monthlyStats(monthlySince, monthly)
+		);
+	}
+
+	private static long monthIndex(int year, int month) {
+		return year * 12L + (month - 1);
+	}
+
+	private static List<UrlAnalyticsInfo.HourlyStat> hourlyStats(LocalDateTime since, long[] buckets) {
+		List<UrlAnalyticsInfo.HourlyStat> result = new ArrayList<>(buckets.length);
+		for (int i = 0; i < buckets.length; i++) {
+			result.add(UrlAnalyticsInfo.HourlyStat.of(since.plusHours(i), buckets[i]));
+		}
+		return result;
+	}
+
+	private static List<UrlAnalyticsInfo.DailyStat> dailyStats(LocalDate since, long[] buckets) {
+		List<UrlAnalyticsInfo.DailyStat> result = new ArrayList<>(buckets.length);
+		for (int i = 0; i < buckets.length; i++) {
+			result.add(UrlAnalyticsInfo.DailyStat.of(since.plusDays(i), buckets[i]));
+		}
+		return result;
+	}
+
+	private static List<UrlAnalyticsInfo.WeeklyStat> weeklyStats(LocalDate since, long[] buckets) {
+		List<UrlAnalyticsInfo.WeeklyStat> result = new ArrayList<>(buckets.length);
+		for (int i = 0; i < buckets.length; i++) {
+			result.add(UrlAnalyticsInfo.WeeklyStat.of(since.plusWeeks(i), buckets[i]));
+		}
+		return result;
+	}
+
+	private static List<UrlAnalyticsInfo.MonthlyStat> monthlyStats(YearMonth since, long[] buckets) {
+		List<UrlAnalyticsInfo.MonthlyStat> result = new ArrayList<>(buckets.length);
+		for (int i = 0; i < buckets.length; i++) {
+			result.add(UrlAnalyticsInfo.MonthlyStat.of(since.plusMonths(i).toString(), buckets[i]));
+		}
+		return result;
+	}
+}
@@ -7,9 +7,11 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -23,7 +25,10 @@ import jakarta.persistence.UniqueConstraint;
 @EntityListeners(AuditingEntityListener.class)
 @Table(
 	name = "click_count_history",
-	indexes = @Index(name = "idx_url_mapping_hour", columnList = "url_mapping_id, hour"),
+	indexes = {
+		@Index(name = "idx_url_mapping_hour", columnList = "url_mapping_id, hour"),
+		@Index(name = "idx_click_count_history_hour", columnList = "hour")  // 보관 기간 압축용
+	},
 	uniqueConstraints = @UniqueConstraint(
 		name = "uk_url_mapping_hour",
 		columnNames = {"url_mapping_id", "hour"}
@@ -38,7 +43,8 @@ public class ClickCountHistory {
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = "url_mapping_id", nullable = false)
+	@JoinColumn(name = "url_mapping_id", nullable = false,
+		foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))  // 월 단위 RANGE 파티션 테이블은 FK 를 지원하지 않음
 	private UrlMapping urlMapping;
 
 	@Column(name = "hour", nullable = false)
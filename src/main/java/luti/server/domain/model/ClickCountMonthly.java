@@ -0,0 +1,121 @@
+package luti.server.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 월별 클릭 수 롤업
+ * 배치 writer 가 click_count_history 와 같은 트랜잭션에서 JDBC 로 UPSERT
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(
+	name = "click_count_monthly",
+	indexes = @Index(name = "idx_url_mapping_month", columnList = "url_mapping_id, click_month"),
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_url_mapping_month",
+		columnNames = {"url_mapping_id", "click_month"}
+	)
+)
+public class ClickCountMonthly {
+
+	// 필드
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "url_mapping_id", nullable = false)
+	private UrlMapping urlMapping;
+
+	@Column(name = "click_month", nullable = false)
+	private LocalDate month;  // 해당 월의 1일 (2026-01-01)
+
+	@Column(name = "click_count", nullable = false)
+	private Long clickCount = 0L;
+
+	@CreatedDate
+	@Column(updatable = false)
+	private LocalDateTime createdAt;
+
+	@LastModifiedDate
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	// 생성자
+
+	protected ClickCountMonthly() {}
+
+	private ClickCountMonthly(Builder builder) {
+		this.urlMapping = builder.urlMapping;
+		this.month = builder.month;
+		this.clickCount = builder.clickCount;
+	}
+
+	// Builder
+
+	// static 팩토리 메서드
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	// 내부 Builder 클래스
+	public static class Builder {
+		private UrlMapping urlMapping;
+		private LocalDate month;
+		private Long clickCount = 0L;
+
+		public Builder urlMapping(UrlMapping urlMapping) {
+			this.urlMapping = urlMapping;
+			return this;
+		}
+
+		public Builder month(LocalDate month) {
+			this.month = month;
+			return this;
+		}
+
+		public Builder clickCount(Long clickCount) {
+			this.clickCount = clickCount;
+			return this;
+		}
+
+		public ClickCountMonthly build() {
+			return new ClickCountMonthly(this);
+		}
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public UrlMapping getUrlMapping() {
+		return urlMapping;
+	}
+
+	public LocalDate getMonth() {
+		return month;
+	}
+
+	public Long getClickCount() {
+		return clickCount;
+	}
+}
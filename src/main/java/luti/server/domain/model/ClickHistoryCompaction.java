@@ -0,0 +1,46 @@
+package luti.server.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * click_count_history 압축 진행 위치 (단일 행, id = 1)
+ * compactedThrough 이하 날짜는 일별 롤업으로 확정되었으므로 시간 단위 행을 지워도 됨
+ * 압축 작업이 JDBC 로 직접 기록하며, 중단 후 재실행 시 이 위치부터 이어서 진행
+ */
+@Entity
+@Table(name = "click_history_compaction")
+public class ClickHistoryCompaction {
+
+	// 필드
+
+	@Id
+	private Long id;
+
+	@Column(name = "compacted_through", nullable = false)
+	private LocalDate compactedThrough;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	// 생성자
+
+	protected ClickHistoryCompaction() {}
+
+	public Long getId() {
+		return id;
+	}
+
+	public LocalDate getCompactedThrough() {
+		return compactedThrough;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+}
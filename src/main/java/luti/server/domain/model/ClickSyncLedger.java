@@ -0,0 +1,71 @@
+package luti.server.domain.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 클릭 동기화 반영 기록
+ * (claimId, scrambledId, 클릭 시간 버킷) 이 이미 반영되었으면 같은 claim 을 다시 처리해도 건너뜀 (재처리 시 중복 집계 방지)
+ * 배치 writer 가 JDBC 로 직접 기록하며, 보관 기간이 지나면 삭제
+ */
+@Entity
+@Table(
+	name = "click_sync_ledger",
+	indexes = @Index(name = "idx_click_sync_ledger_created_at", columnList = "created_at"),
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_claim_scrambled",
+		columnNames = {"claim_id", "scrambled_id", "hour_bucket"}
+	)
+)
+public class ClickSyncLedger {
+
+	// 필드
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "claim_id", nullable = false)
+	private Long claimId;
+
+	@Column(name = "scrambled_id", nullable = false)
+	private Long scrambledId;
+
+	@Column(name = "hour_bucket", nullable = false)
+	private Long hourBucket;  // 클릭 시간 (yyyyMMddHH), 이전 형식 데이터는 0
+
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	// 생성자
+
+	protected ClickSyncLedger() {}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getClaimId() {
+		return claimId;
+	}
+
+	public Long getScrambledId() {
+		return scrambledId;
+	}
+
+	public Long getHourBucket() {
+		return hourBucket;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+}
@@ -36,6 +36,10 @@ public class Member {
 	@Column(name = "email", length = 255)
 	private String email;
 
+	// 삭제되지 않은 소유 URL 수 (목록 totalElements 용 카운터, UrlCountReconciler 가 주기적으로 보정)
+	@Column(name = "url_count", nullable = false)
+	private Long urlCount = 0L;
+
 	protected Member() {}
 
 	public Member(Provider provider, String providerSubject, String email) {
@@ -50,6 +54,7 @@ public class Member {
 	public Provider getProvider() { return provider; }
 	public String getProviderSubject() { return providerSubject; }
 	public String getEmail() { return email; }
+	public Long getUrlCount() { return urlCount; }
 
 	public void updateEmailIfPresent(String email) {
 		if (email != null && !email.isBlank()) {
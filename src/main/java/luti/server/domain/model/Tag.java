@@ -44,6 +44,10 @@ public class Tag {
 	@Column(name = "created_at", updatable = false)
 	private LocalDateTime createdAt;
 
+	// 이 태그가 붙은 삭제되지 않은 URL 수 (목록 totalElements 용 카운터, UrlCountReconciler 가 주기적으로 보정)
+	@Column(name = "url_count", nullable = false)
+	private Long urlCount = 0L;
+
 	protected Tag() {}
 
 	private Tag(Builder builder) {
@@ -59,6 +63,7 @@ public class Tag {
 	public Member getMember() { return member; }
 	public String getName() { return name; }
 	public LocalDateTime getCreatedAt() { return createdAt; }
+	public Long getUrlCount() { return urlCount; }
 
 	public static class Builder {
 		private Member member;
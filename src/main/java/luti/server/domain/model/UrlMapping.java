@@ -23,6 +23,8 @@ import jakarta.persistence.Table;
 	name = "url_mapping",
 	indexes = {
 		@Index(name = "idx_member_id", columnList = "member_id"),
+		// 목록 keyset 페이지네이션 (member_id, deleted_at IS NULL 조건 + created_at, id 역순 정렬)
+		@Index(name = "idx_url_mapping_member_deleted_created", columnList = "member_id, deleted_at, created_at, id"),
 	}
 )
 public class UrlMapping {
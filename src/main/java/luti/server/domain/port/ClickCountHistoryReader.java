@@ -1,7 +1,9 @@
 package luti.server.domain.port;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import luti.server.domain.model.ClickCountHistory;
 import luti.server.domain.model.UrlMapping;
@@ -13,4 +15,14 @@ public interface ClickCountHistoryReader {
 		LocalDateTime since
 	);
 
+	/**
+	 * 여러 URL의 since 이후 클릭 수를 (URL, 날짜) 별로 DB에서 합산해 한 번에 조회 (목록 미니 차트용)
+	 * 클릭이 없는 URL/날짜는 결과에 포함되지 않음
+	 * @return urlMappingId -> (날짜 -> 클릭 수)
+	 */
+	Map<Long, Map<LocalDate, Long>> sumDailyClickCountsByUrlMappingIds(
+		List<Long> urlMappingIds,
+		LocalDateTime since
+	);
+
 }
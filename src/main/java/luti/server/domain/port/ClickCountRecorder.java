@@ -0,0 +1,6 @@
+package luti.server.domain.port;
+
+public interface ClickCountRecorder {
+
+	void record(Long scrambledId);
+}
@@ -0,0 +1,22 @@
+package luti.server.domain.port;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import luti.server.domain.model.ClickCountDaily;
+import luti.server.domain.model.ClickCountMonthly;
+import luti.server.domain.model.UrlMapping;
+
+public interface ClickCountRollupReader {
+
+	List<ClickCountDaily> findDailyByUrlMappingAndDateGreaterThanEqual(
+		UrlMapping urlMapping,
+		LocalDate since
+	);
+
+	List<ClickCountMonthly> findMonthlyByUrlMappingAndMonthGreaterThanEqual(
+		UrlMapping urlMapping,
+		LocalDate since
+	);
+
+}
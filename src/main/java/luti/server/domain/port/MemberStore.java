@@ -6,4 +6,9 @@ public interface MemberStore {
 
 	Member save(Member member);
 
+	/**
+	 * 소유 URL 카운터 증감 (호출한 트랜잭션 안에서 반영)
+	 */
+	void adjustUrlCount(Long memberId, long delta);
+
 }
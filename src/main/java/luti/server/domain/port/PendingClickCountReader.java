@@ -0,0 +1,14 @@
+package luti.server.domain.port;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface PendingClickCountReader {
+
+	/**
+	 * 아직 DB에 동기화되지 않은 클릭 수
+	 * @param scrambledIds (shortCode를 base62 디코딩한 id값, pk 아님)
+	 * @return scrambledId -> 대기 중인 클릭 수 (대기 중인 클릭이 없으면 포함되지 않음)
+	 */
+	Map<Long, Long> findPendingCounts(Collection<Long> scrambledIds);
+}
@@ -1,8 +1,15 @@
 package luti.server.domain.port;
 
+import java.util.Collection;
+
 import luti.server.domain.model.Tag;
 
 public interface TagStore {
 	Tag save(Tag tag);
 	void deleteById(Long id);
+
+	/**
+	 * 태그별 URL 카운터 증감 (호출한 트랜잭션 안에서 반영)
+	 */
+	void adjustUrlCounts(Collection<Long> tagIds, long delta);
 }
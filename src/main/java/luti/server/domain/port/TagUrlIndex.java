@@ -0,0 +1,24 @@
+package luti.server.domain.port;
+
+import java.util.List;
+import java.util.Optional;
+
+import luti.server.domain.service.dto.TaggedUrlIds;
+import luti.server.domain.service.dto.UrlListCursor;
+
+public interface TagUrlIndex {
+
+	/**
+	 * 회원의 태그 필터(AND/OR)에 맞는 URL id 를 (created_at, id) 역순으로 최대 limit 개 조회 (DB 목록 쿼리와 같은 순서)
+	 * @param before 이 위치보다 앞선 URL 부터 (처음부터면 UrlListCursor.first())
+	 * @param offset before 이후 건너뛸 개수
+	 * @return 인덱스를 사용할 수 없으면 empty (호출 측에서 DB 쿼리로 조회)
+	 */
+	Optional<TaggedUrlIds> find(Long memberId, List<Long> tagIds, boolean andMode, UrlListCursor before,
+								long offset, int limit);
+
+	/**
+	 * 회원의 태그 할당이 바뀌었음을 알림 (트랜잭션 안이면 커밋 후 반영)
+	 */
+	void invalidate(Long memberId);
+}
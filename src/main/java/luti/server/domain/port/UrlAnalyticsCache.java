@@ -0,0 +1,15 @@
+package luti.server.domain.port;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import luti.server.domain.service.dto.UrlAnalyticsInfo;
+
+public interface UrlAnalyticsCache {
+
+	/**
+	 * URL의 분석 결과를 캐시에서 조회하고, 없으면 loader 로 계산해 저장
+	 * @param window 집계 구간 기준 시각 (시간 단위로 절삭, 같은 시간대 안에서는 결과가 같음)
+	 */
+	UrlAnalyticsInfo get(Long urlMappingId, LocalDateTime window, Supplier<UrlAnalyticsInfo> loader);
+}
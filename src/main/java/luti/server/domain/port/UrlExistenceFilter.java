@@ -0,0 +1,10 @@
+package luti.server.domain.port;
+
+public interface UrlExistenceFilter {
+
+	boolean mightExist(Long scrambledId);
+
+	void register(Long scrambledId);
+
+	void reportFalsePositive(Long scrambledId);
+}
@@ -1,5 +1,6 @@
 package luti.server.domain.port;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +20,30 @@ public interface UrlMappingReader {
 	Page<UrlMapping> findByMemberIdAndTagIds(Long memberId, List<Long> tagIds, Pageable pageable);
 
 	Page<UrlMapping> findByMemberIdAndAllTagIds(Long memberId, List<Long> tagIds, Pageable pageable);
+
+	/**
+	 * COUNT 없이 페이지 내용만 조회 (전체 개수는 회원/태그 카운터로 채움)
+	 */
+	List<UrlMapping> findContentByMemberId(Long memberId, Pageable pageable);
+
+	List<UrlMapping> findContentByMemberIdAndTagId(Long memberId, Long tagId, Pageable pageable);
+
+	List<UrlMapping> findByIdsAndMemberId(List<Long> ids, Long memberId);
+
+	/**
+	 * keyset 페이지네이션: (createdAt, id) 가 커서보다 앞선 URL을 최신순으로 최대 limit 개 조회
+	 */
+	List<UrlMapping> findByMemberIdBefore(Long memberId, LocalDateTime createdAt, Long id, int limit);
+
+	List<UrlMapping> findByMemberIdAndTagIdsBefore(Long memberId, List<Long> tagIds,
+												   LocalDateTime createdAt, Long id, int limit);
+
+	List<UrlMapping> findByMemberIdAndAllTagIdsBefore(Long memberId, List<Long> tagIds,
+													  LocalDateTime createdAt, Long id, int limit);
+
+	long countByMemberId(Long memberId);
+
+	long countByMemberIdAndTagIds(Long memberId, List<Long> tagIds);
+
+	long countByMemberIdAndAllTagIds(Long memberId, List<Long> tagIds);
 }
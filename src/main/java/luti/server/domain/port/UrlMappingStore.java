@@ -6,11 +6,19 @@ public interface UrlMappingStore {
 
 	UrlMapping save(UrlMapping urlMapping);
 
-	void deleteById(Long id);
+	/**
+	 * 삭제되지 않은 URL 만 soft delete
+	 * @return 삭제했으면 true, 그 사이 다른 요청이 먼저 삭제했으면 false
+	 */
+	boolean deleteById(Long id);
 
 	void updateDescription(Long urlMappingId, String description);
 
-	void claimToMember(Long urlMappingId, Long memberId);
+	/**
+	 * 소유자가 없는 URL 에만 소유자를 지정
+	 * @return 지정했으면 true, 그 사이 다른 회원이 먼저 소유했으면 false
+	 */
+	boolean claimToMember(Long urlMappingId, Long memberId);
 
 	void incrementClickCount(Long scrambledId);
 
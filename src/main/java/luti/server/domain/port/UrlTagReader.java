@@ -3,8 +3,14 @@ package luti.server.domain.port;
 import java.util.List;
 
 import luti.server.domain.model.UrlTag;
+import luti.server.domain.service.dto.TagUrlEntry;
 
 public interface UrlTagReader {
 	List<UrlTag> findByUrlMappingId(Long urlMappingId);
 	List<UrlTag> findByUrlMappingIdIn(List<Long> urlMappingIds);
+
+	/**
+	 * 회원이 소유한 삭제되지 않은 URL 의 태그 할당을 URL (created_at, id) 오름차순으로 조회 (태그 인덱스 구성용)
+	 */
+	List<TagUrlEntry> findActiveTagUrlEntries(Long memberId);
 }
@@ -1,44 +1,30 @@
 package luti.server.domain.service;
 
-import java.util.concurrent.TimeUnit;
-
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import luti.server.domain.port.ClickCountRecorder;
 import luti.server.domain.port.UrlMappingStore;
 
 @Service
 public class ClickCountService {
 
-	private final RedisTemplate<String, Long> redisTemplate;
+	private final ClickCountRecorder clickCountRecorder;
 	private final UrlMappingStore urlMappingStore;
 
-	public ClickCountService(@Qualifier("cacheRedisTemplate") RedisTemplate<String, Long> redisTemplate, UrlMappingStore urlMappingStore) {
-		this.redisTemplate = redisTemplate;
+	public ClickCountService(ClickCountRecorder clickCountRecorder, UrlMappingStore urlMappingStore) {
+		this.clickCountRecorder = clickCountRecorder;
 		this.urlMappingStore = urlMappingStore;
 	}
 
-	private static final String CLICK_COUNT_KEY_PREFIX = "click:count:";
-	private static final String DIRTY_SET_KEY = "click:dirty";
-
 	/**
-	 * 클릭 수 redis 기록
+	 * 클릭 수 기록
+	 * 메모리 버퍼에 병합만 하고 Redis 반영은 recorder의 주기적 flush에서 일괄 처리 (리다이렉트 경로에 Redis 왕복 없음)
 	 * @param scrambledId (shortCode를 base62 디코딩한 id값, 순차 id를 스크램블링한 값, pk 아님)
 	 */
-	@Async
 	public void recordClick(Long scrambledId) {
-		String countKey = CLICK_COUNT_KEY_PREFIX + scrambledId;
-
-		Long newCount = redisTemplate.opsForValue().increment(countKey);
-
-		if (newCount != null && newCount == 1L) {
-			redisTemplate.expire(countKey, 2, TimeUnit.HOURS);
-		}
-
-		redisTemplate.opsForSet().add(DIRTY_SET_KEY, scrambledId);
+		clickCountRecorder.record(scrambledId);
 	}
 
 	/**
@@ -1,7 +1,6 @@
 package luti.server.domain.service;
 
 import static luti.server.domain.service.dto.RecentDailyStatisticsInfo.*;
-import static luti.server.exception.ErrorCode.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,65 +12,55 @@ import java.util.Map;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import luti.server.domain.model.ClickCountHistory;
-import luti.server.domain.model.UrlMapping;
 import luti.server.domain.port.ClickCountHistoryReader;
-import luti.server.domain.port.UrlMappingReader;
 import luti.server.domain.service.dto.RecentDailyStatisticsInfo;
-import luti.server.exception.BusinessException;
 
 @Service
 @Transactional(readOnly = true)
 public class ClickStatisticsService {
 
-	private final UrlMappingReader urlMappingReader;
+	private static final int RECENT_DAYS = 7;
+
 	private final ClickCountHistoryReader clickCountHistoryReader;
 
-	public ClickStatisticsService(
-		UrlMappingReader urlMappingReader, ClickCountHistoryReader clickCountHistoryReader) {
-		this.urlMappingReader = urlMappingReader;
+	public ClickStatisticsService(ClickCountHistoryReader clickCountHistoryReader) {
 		this.clickCountHistoryReader = clickCountHistoryReader;
 	}
 
+	/**
+	 * 목록에 보이는 URL들의 최근 7일 일별 클릭 수 (미니 차트용)
+	 * URL 수와 관계없이 쿼리 1회로 (URL, 날짜) 별 합계를 조회하고, 누락된 날짜는 메모리에서 0으로 채움
+	 * (urlIds 는 회원의 목록 조회 결과라 존재 여부를 다시 확인하지 않음)
+	 */
 	public RecentDailyStatisticsInfo getRecentDailyStatistics(List<Long> urlIds) {
 		Map<Long, List<DailyStat>> statisticsMap = new HashMap<>();
-
-		for (Long urlId : urlIds) {
-			List<DailyStat> stats = getStatsForSingleUrl(urlId);
-			statisticsMap.put(urlId, stats);
+		if (urlIds.isEmpty()) {
+			return RecentDailyStatisticsInfo.of(statisticsMap);
 		}
 
-		return RecentDailyStatisticsInfo.of(statisticsMap);
-	}
-
-	private List<DailyStat> getStatsForSingleUrl(Long urlId) {
-
-		// UrlMapping 조회
-		UrlMapping urlMapping = urlMappingReader
-			.findById(urlId)
-			.orElseThrow(() -> new BusinessException(URL_NOT_FOUND));
-
 		// 최근 7일 계산
 		LocalDate today = LocalDate.now();
-		LocalDate sevenDaysAgo = today.minusDays(6);
+		LocalDate sevenDaysAgo = today.minusDays(RECENT_DAYS - 1);
 		LocalDateTime since = sevenDaysAgo.atStartOfDay();
 
-		// 히스토리 데이터 조회
-		List<ClickCountHistory> histories = clickCountHistoryReader
-			.findByUrlMappingAndHourGreaterThanEqual(urlMapping, since);
+		// URL, 날짜별 합계를 한 번에 조회
+		Map<Long, Map<LocalDate, Long>> dailyClicksByUrlId = clickCountHistoryReader
+			.sumDailyClickCountsByUrlMappingIds(urlIds, since);
 
-		// 일별로 집계
-		Map<LocalDate, Long> dailyClickMap = new HashMap<>();
-		for (ClickCountHistory history: histories) {
-			LocalDate date = history.getHour().toLocalDate();
-			dailyClickMap.merge(date, history.getClickCount(), Long::sum);
+		for (Long urlId : urlIds) {
+			Map<LocalDate, Long> dailyClickMap = dailyClicksByUrlId.getOrDefault(urlId, Map.of());
+			statisticsMap.put(urlId, fillRecentDays(dailyClickMap, sevenDaysAgo, today));
 		}
 
-		// 7일치 데이터 생성 및 누락된 날짜 0으로 채우기
-		List<DailyStat> result = new ArrayList<>();
-		LocalDate currentDate = sevenDaysAgo;
+		return RecentDailyStatisticsInfo.of(statisticsMap);
+	}
+
+	// 7일치 데이터 생성 및 누락된 날짜 0으로 채우기
+	private List<DailyStat> fillRecentDays(Map<LocalDate, Long> dailyClickMap, LocalDate from, LocalDate to) {
+		List<DailyStat> result = new ArrayList<>(RECENT_DAYS);
+		LocalDate currentDate = from;
 
-		while (!currentDate.isAfter(today)) {
+		while (!currentDate.isAfter(to)) {
 			Long clickCount = dailyClickMap.getOrDefault(currentDate, 0L);
 			result.add(DailyStat.of(currentDate.toString(), clickCount));
 			currentDate = currentDate.plusDays(1);
@@ -0,0 +1,83 @@
+package luti.server.domain.service;
+
+import static luti.server.exception.ErrorCode.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import luti.server.domain.model.UrlMapping;
+import luti.server.domain.port.PendingClickCountReader;
+import luti.server.domain.port.UrlMappingReader;
+import luti.server.domain.service.dto.MyUrlsListInfo;
+import luti.server.exception.BusinessException;
+
+/**
+ * 실시간 클릭 수 조회 서비스
+ * url_mapping.click_count 는 동기화 주기만큼 늦으므로, 아직 동기화되지 않은 클릭 수를 더해 반환
+ * (대기 중인 클릭 수는 URL 수와 관계없이 한 번에 조회)
+ */
+@Service
+public class LiveClickCountService {
+
+	static final int MAX_URL_IDS = 100;
+
+	private final UrlMappingReader urlMappingReader;
+	private final PendingClickCountReader pendingClickCountReader;
+
+	public LiveClickCountService(UrlMappingReader urlMappingReader,
+								 PendingClickCountReader pendingClickCountReader) {
+		this.urlMappingReader = urlMappingReader;
+		this.pendingClickCountReader = pendingClickCountReader;
+	}
+
+	/**
+	 * 목록 한 페이지의 클릭 수에 대기 중인 클릭 수를 더함
+	 */
+	public MyUrlsListInfo applyPendingClicks(MyUrlsListInfo urlsListInfo) {
+		if (urlsListInfo.getUrls().isEmpty()) {
+			return urlsListInfo;
+		}
+		return urlsListInfo.withPendingClickCounts(
+			pendingClickCountReader.findPendingCounts(urlsListInfo.getScrambledIds()));
+	}
+
+	/**
+	 * 회원이 소유한 URL들의 실시간 클릭 수 (소유하지 않았거나 삭제된 URL은 제외)
+	 * @return urlId -> 클릭 수 (요청 순서 유지)
+	 */
+	@Transactional(readOnly = true)
+	public Map<Long, Long> getLiveClickCounts(Long memberId, List<Long> urlIds) {
+		Map<Long, Long> result = new LinkedHashMap<>();
+		if (urlIds == null || urlIds.isEmpty()) {
+			return result;
+		}
+		if (urlIds.size() > MAX_URL_IDS) {
+			throw new BusinessException(TOO_MANY_URL_IDS);
+		}
+
+		Map<Long, UrlMapping> owned = new LinkedHashMap<>();
+		for (UrlMapping urlMapping : urlMappingReader.findByIdsAndMemberId(urlIds, memberId)) {
+			owned.put(urlMapping.getId(), urlMapping);
+		}
+		if (owned.isEmpty()) {
+			return result;
+		}
+
+		Map<Long, Long> pending = pendingClickCountReader.findPendingCounts(
+			owned.values().stream().map(UrlMapping::getScrambledId).toList());
+
+		for (Long urlId : urlIds) {
+			UrlMapping urlMapping = owned.get(urlId);
+			if (urlMapping == null || result.containsKey(urlId)) {
+				continue;
+			}
+			long synced = urlMapping.getClickCount() != null ? urlMapping.getClickCount() : 0L;
+			result.put(urlId, synced + pending.getOrDefault(urlMapping.getScrambledId(), 0L));
+		}
+		return result;
+	}
+}
@@ -3,19 +3,35 @@ package luti.server.domain.service;
 import static luti.server.exception.ErrorCode.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import luti.server.domain.model.Member;
+import luti.server.domain.model.Tag;
 import luti.server.domain.model.UrlMapping;
+import luti.server.domain.port.MemberReader;
+import luti.server.domain.port.MemberStore;
+import luti.server.domain.port.TagReader;
+import luti.server.domain.port.TagStore;
+import luti.server.domain.port.TagUrlIndex;
 import luti.server.domain.port.UrlMappingReader;
 import luti.server.domain.port.UrlMappingStore;
+import luti.server.domain.port.UrlTagReader;
 import luti.server.exception.BusinessException;
 import luti.server.domain.service.dto.MyUrlsListInfo;
+import luti.server.domain.service.dto.TaggedUrlIds;
+import luti.server.domain.service.dto.UrlListCursor;
 import luti.server.domain.service.dto.UrlMappingInfo;
 
 @Service
@@ -23,10 +39,24 @@ public class MyUrlService {
 
 	private final UrlMappingReader urlMappingReader;
 	private final UrlMappingStore urlMappingStore;
-
-	public MyUrlService(UrlMappingReader urlMappingReader, UrlMappingStore urlMappingStore) {
+	private final MemberReader memberReader;
+	private final MemberStore memberStore;
+	private final TagReader tagReader;
+	private final TagStore tagStore;
+	private final UrlTagReader urlTagReader;
+	private final TagUrlIndex tagUrlIndex;
+
+	public MyUrlService(UrlMappingReader urlMappingReader, UrlMappingStore urlMappingStore,
+						MemberReader memberReader, MemberStore memberStore,
+						TagReader tagReader, TagStore tagStore, UrlTagReader urlTagReader, TagUrlIndex tagUrlIndex) {
 		this.urlMappingReader = urlMappingReader;
 		this.urlMappingStore = urlMappingStore;
+		this.memberReader = memberReader;
+		this.memberStore = memberStore;
+		this.tagReader = tagReader;
+		this.tagStore = tagStore;
+		this.urlTagReader = urlTagReader;
+		this.tagUrlIndex = tagUrlIndex;
 	}
 
 	@Transactional
@@ -34,16 +64,37 @@ public class MyUrlService {
 		if (urlMappingInfo.isHasOwner()) {
 			throw new BusinessException(ALREADY_OWNED_URL);
 		}
-		urlMappingStore.claimToMember(urlMappingInfo.getId(), memberId);
+		// 조회 이후 다른 요청이 먼저 소유했을 수 있으므로 소유자가 없을 때만 갱신하고, 실제 갱신된 경우에만 카운터 증가
+		if (!urlMappingStore.claimToMember(urlMappingInfo.getId(), memberId)) {
+			throw new BusinessException(ALREADY_OWNED_URL);
+		}
+		memberStore.adjustUrlCount(memberId, 1);
 	}
 
+	/**
+	 * 목록 조회
+	 * 태그 필터가 없거나 본인 태그 1개면 전체 개수를 카운터에서 읽고 페이지 내용만 조회 (COUNT 없음)
+	 * 태그 2개 이상 OR/AND 는 태그 인덱스로 한 페이지 분량의 id 와 전체 개수를 구한 뒤 그 id 들만 조회
+	 * (인덱스를 쓸 수 없으면 기존처럼 COUNT 포함 페이지 조회)
+	 */
 	@Transactional(readOnly = true)
 	public MyUrlsListInfo getMyUrls(Long memberId, Integer page, Integer size, List<Long> tagIds, boolean andMode) {
 		Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
+		Long counted = countFromCounters(memberId, tagIds);
+		if (counted != null) {
+			List<UrlMapping> content = (tagIds == null || tagIds.isEmpty())
+				? urlMappingReader.findContentByMemberId(memberId, pageable)
+				: urlMappingReader.findContentByMemberIdAndTagId(memberId, tagIds.get(0), pageable);
+			return MyUrlsListInfo.from(new PageImpl<>(content, pageable, counted));
+		}
+
+		Optional<TaggedUrlIds> indexed = findInTagIndex(memberId, tagIds, andMode,
+			UrlListCursor.first(), pageable.getOffset(), size);
 		Page<UrlMapping> pageResult;
-		if (tagIds == null || tagIds.isEmpty()) {
-			pageResult = urlMappingReader.findByMemberId(memberId, pageable);
+		if (indexed.isPresent()) {
+			List<UrlMapping> content = findInOrder(memberId, indexed.get().getIds());
+			pageResult = new PageImpl<>(content, pageable, indexed.get().getTotal());
 		} else if (andMode) {
 			pageResult = urlMappingReader.findByMemberIdAndAllTagIds(memberId, tagIds, pageable);
 		} else {
@@ -53,6 +104,90 @@ public class MyUrlService {
 		return MyUrlsListInfo.from(pageResult);
 	}
 
+	/**
+	 * keyset(커서) 페이지네이션 목록 조회
+	 * (created_at, id) 역순으로 커서 다음 행부터 size + 1 개만 읽어 다음 페이지 여부를 판단 (OFFSET 없음)
+	 * 전체 개수는 includeTotal 인 경우에만 조회 (카운터로 답할 수 없는 조건만 COUNT)
+	 * 태그 2개 이상 필터는 태그 인덱스에서 커서 다음 위치의 id 를 구해 그 행들만 조회
+	 *
+	 * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+	 */
+	@Transactional(readOnly = true)
+	public MyUrlsListInfo getMyUrlsByCursor(Long memberId, String cursor, Integer size, List<Long> tagIds,
+											boolean andMode, boolean includeTotal) {
+		UrlListCursor position = UrlListCursor.decode(cursor);
+		int limit = size + 1;
+
+		Optional<TaggedUrlIds> indexed = findInTagIndex(memberId, tagIds, andMode, position, 0, limit);
+		List<UrlMapping> fetched;
+		if (indexed.isPresent()) {
+			fetched = findInOrder(memberId, indexed.get().getIds());
+		} else if (tagIds == null || tagIds.isEmpty()) {
+			fetched = urlMappingReader.findByMemberIdBefore(memberId, position.getCreatedAt(), position.getId(), limit);
+		} else if (andMode) {
+			fetched = urlMappingReader.findByMemberIdAndAllTagIdsBefore(memberId, tagIds,
+				position.getCreatedAt(), position.getId(), limit);
+		} else {
+			fetched = urlMappingReader.findByMemberIdAndTagIdsBefore(memberId, tagIds,
+				position.getCreatedAt(), position.getId(), limit);
+		}
+
+		Long totalElements = null;
+		if (includeTotal) {
+			totalElements = indexed.isPresent() ? indexed.get().getTotal() : countTotal(memberId, tagIds, andMode);
+		}
+		return MyUrlsListInfo.ofCursor(fetched, size, totalElements);
+	}
+
+	/**
+	 * 태그 2개 이상 AND/OR 필터는 태그 인덱스(비트맵 교집합/합집합)로 id 를 구함
+	 * 인덱스도 (created_at, id) 역순이라 DB 쿼리로 조회할 때와 같은 순서로 페이지를 나눔
+	 */
+	private Optional<TaggedUrlIds> findInTagIndex(Long memberId, List<Long> tagIds, boolean andMode,
+												  UrlListCursor before, long offset, int limit) {
+		if (tagIds == null || tagIds.stream().distinct().count() < 2) {
+			return Optional.empty();
+		}
+		return tagUrlIndex.find(memberId, tagIds, andMode, before, offset, limit);
+	}
+
+	// 인덱스가 준 id 순서대로 정렬 (그 사이 삭제되었거나 소유자가 바뀐 URL 은 제외)
+	private List<UrlMapping> findInOrder(Long memberId, List<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, UrlMapping> byId = urlMappingReader.findByIdsAndMemberId(ids, memberId).stream()
+													 .collect(Collectors.toMap(UrlMapping::getId, Function.identity()));
+		return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+	}
+
+	private long countTotal(Long memberId, List<Long> tagIds, boolean andMode) {
+		Long counted = countFromCounters(memberId, tagIds);
+		if (counted != null) {
+			return counted;
+		}
+		return andMode
+			? urlMappingReader.countByMemberIdAndAllTagIds(memberId, tagIds)
+			: urlMappingReader.countByMemberIdAndTagIds(memberId, tagIds);
+	}
+
+	/**
+	 * 카운터로 전체 개수를 구할 수 있으면 반환 (태그 없음: 회원 카운터, 본인 태그 1개: 태그 카운터)
+	 * 태그 2개 이상은 합집합/교집합 크기라 카운터로 구할 수 없어 null
+	 */
+	private Long countFromCounters(Long memberId, List<Long> tagIds) {
+		if (tagIds == null || tagIds.isEmpty()) {
+			return memberReader.findById(memberId).map(Member::getUrlCount).orElse(0L);
+		}
+		if (tagIds.stream().distinct().count() != 1) {
+			return null;
+		}
+		return tagReader.findById(tagIds.get(0))
+						.filter(tag -> tag.getMember().getId().equals(memberId))
+						.map(Tag::getUrlCount)
+						.orElse(null);
+	}
+
 	@Transactional
 	public void updateUrlDescription(Long urlId, Long memberId, String description) {
 		UrlMapping urlMapping = urlMappingReader.findById(urlId)
@@ -77,7 +212,24 @@ public class MyUrlService {
 			throw new BusinessException(NOT_URL_OWNER);
 		}
 
-		urlMappingStore.deleteById(urlId);
+		// 이미 삭제된 URL 은 카운터에서 빠져 있으므로 다시 감소시키지 않음
+		if (urlMapping.getDeletedAt() != null) {
+			return;
+		}
+
+		List<Long> tagIds = urlTagReader.findByUrlMappingId(urlId).stream()
+										.map(ut -> ut.getTag().getId())
+										.toList();
+
+		// 동시에 들어온 삭제 요청 중 실제로 삭제한 요청만 카운터를 감소시킴
+		if (!urlMappingStore.deleteById(urlId)) {
+			return;
+		}
+		memberStore.adjustUrlCount(memberId, -1);
+		tagStore.adjustUrlCounts(tagIds, -1);
+		if (!tagIds.isEmpty()) {
+			tagUrlIndex.invalidate(memberId);
+		}
 	}
 
 	@Transactional(readOnly = true)
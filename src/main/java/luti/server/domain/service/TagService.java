@@ -16,6 +16,7 @@ import luti.server.domain.model.UrlTag;
 import luti.server.domain.port.MemberReader;
 import luti.server.domain.port.TagReader;
 import luti.server.domain.port.TagStore;
+import luti.server.domain.port.TagUrlIndex;
 import luti.server.domain.port.UrlMappingReader;
 import luti.server.domain.port.UrlTagReader;
 import luti.server.domain.port.UrlTagStore;
@@ -34,15 +35,17 @@ public class TagService {
 	private final UrlTagStore urlTagStore;
 	private final MemberReader memberReader;
 	private final UrlMappingReader urlMappingReader;
+	private final TagUrlIndex tagUrlIndex;
 
 	public TagService(TagReader tagReader, TagStore tagStore, UrlTagReader urlTagReader, UrlTagStore urlTagStore,
-					  MemberReader memberReader, UrlMappingReader urlMappingReader) {
+					  MemberReader memberReader, UrlMappingReader urlMappingReader, TagUrlIndex tagUrlIndex) {
 		this.tagReader = tagReader;
 		this.tagStore = tagStore;
 		this.urlTagReader = urlTagReader;
 		this.urlTagStore = urlTagStore;
 		this.memberReader = memberReader;
 		this.urlMappingReader = urlMappingReader;
+		this.tagUrlIndex = tagUrlIndex;
 	}
 
 	@Transactional(readOnly = true)
@@ -109,6 +112,7 @@ public class TagService {
 		// UrlTag 삭제 후 Tag 삭제
 		urlTagStore.deleteByTagId(tagId);
 		tagStore.deleteById(tagId);
+		tagUrlIndex.invalidate(memberId);
 	}
 
 	@Transactional
@@ -137,17 +141,47 @@ public class TagService {
 			.map(tag -> UrlTag.of(urlMapping, tag))
 			.toList();
 
-		// 새로운 UrlTag 저장
+		// 새로운 UrlTag 저장 (삭제되지 않은 URL 이면 태그별 URL 카운터도 같은 트랜잭션에서 증가)
 		if (!newUrlTags.isEmpty()) {
 			urlTagStore.saveAll(newUrlTags);
+			if (urlMapping.getDeletedAt() == null) {
+				tagStore.adjustUrlCounts(newUrlTags.stream().map(ut -> ut.getTag().getId()).toList(), 1);
+				invalidateTagIndex(urlMapping);
+			}
 		}
 	}
 
 	@Transactional
 	public void unassignTags(Long memberId, Long urlId, List<Long> tagIds) {
 
+		// 실제로 할당되어 있던 태그만 카운터 감소 대상
+		List<Long> assigned = urlTagReader.findByUrlMappingId(urlId).stream()
+										  .map(ut -> ut.getTag().getId())
+										  .filter(tagIds::contains)
+										  .distinct()
+										  .toList();
+
 		// 태그 할당 해제
 		urlTagStore.deleteByUrlMappingIdAndTagIdIn(urlId, tagIds);
+
+		if (assigned.isEmpty()) {
+			return;
+		}
+
+		// 삭제된 URL 은 이미 카운터와 태그 인덱스에서 빠져 있으므로 제외
+		urlMappingReader.findById(urlId)
+						.filter(um -> um.getDeletedAt() == null)
+						.ifPresent(um -> {
+							tagStore.adjustUrlCounts(assigned, -1);
+							invalidateTagIndex(um);
+						});
+	}
+
+	// 태그 인덱스는 URL 소유자 기준 (소유자 없는 URL 은 어느 인덱스에도 없음)
+	private void invalidateTagIndex(UrlMapping urlMapping) {
+		if (urlMapping.getMember() != null) {
+			tagUrlIndex.invalidate(urlMapping.getMember().getId());
+		}
 	}
 
 	@Transactional(readOnly = true)
@@ -2,19 +2,26 @@ package luti.server.domain.service;
 
 import static luti.server.exception.ErrorCode.*;
 
+import static java.time.temporal.ChronoUnit.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import luti.server.domain.aggregator.DailyStatisticsAggregator;
-import luti.server.domain.aggregator.HourlyStatisticsAggregator;
-import luti.server.domain.aggregator.MonthlyStatisticsAggregator;
-import luti.server.domain.aggregator.WeeklyStatisticsAggregator;
+import luti.server.domain.aggregator.FusedStatisticsAggregator;
+import luti.server.domain.model.ClickCountDaily;
 import luti.server.domain.model.ClickCountHistory;
+import luti.server.domain.model.ClickCountMonthly;
 import luti.server.domain.model.UrlMapping;
 import luti.server.domain.port.ClickCountHistoryReader;
+import luti.server.domain.port.ClickCountRollupReader;
+import luti.server.domain.port.UrlAnalyticsCache;
 import luti.server.domain.port.UrlMappingReader;
 import luti.server.domain.service.dto.UrlAnalyticsInfo;
 import luti.server.domain.validator.UrlOwnershipValidator;
@@ -23,38 +30,43 @@ import luti.server.exception.BusinessException;
 /**
  * URL 분석 서비스
  * URL의 클릭 통계 데이터를 조회하고 오케스트레이션하는 책임을 가진 서비스
- * 실제 집계 로직은 각 Aggregator에게 위임하여 SRP 준수
+ * 실제 집계 로직은 FusedStatisticsAggregator 에게 위임하여 SRP 준수 (네 단위를 원본당 한 번 순회로 집계)
+ *
+ * 시간별 통계만 click_count_history 를 읽고, 일별/주별/월별 통계는 일별/월별 롤업을 읽음
+ * (1년 범위를 시간 단위 행 최대 8,760개 대신 일별 최대 84행 + 월별 12행으로 조회)
+ *
+ * 집계 결과는 UrlAnalyticsCache 에 (URL, 클릭 데이터 버전, 시간대) 단위로 캐시하고, 소유권 검증은 매번 수행
  */
 @Service
 @Transactional(readOnly = true)
 public class UrlAnalyticsService {
 
+	private static final int HOURLY_RANGE_HOURS = 24;
+	private static final int DAILY_RANGE_DAYS = 30;
+	private static final int WEEKLY_RANGE_WEEKS = 12;
 	private static final int MONTHLY_RANGE_MONTHS = 12;
 
 	private final UrlMappingReader urlMappingReader;
 	private final ClickCountHistoryReader clickCountHistoryReader;
+	private final ClickCountRollupReader clickCountRollupReader;
 	private final UrlOwnershipValidator ownershipValidator;
-	private final HourlyStatisticsAggregator hourlyAggregator;
-	private final DailyStatisticsAggregator dailyAggregator;
-	private final WeeklyStatisticsAggregator weeklyAggregator;
-	private final MonthlyStatisticsAggregator monthlyAggregator;
+	private final FusedStatisticsAggregator statisticsAggregator;
+	private final UrlAnalyticsCache analyticsCache;
 
 	public UrlAnalyticsService(
 		UrlMappingReader urlMappingReader,
 		ClickCountHistoryReader clickCountHistoryReader,
+		ClickCountRollupReader clickCountRollupReader,
 		UrlOwnershipValidator ownershipValidator,
-		HourlyStatisticsAggregator hourlyAggregator,
-		DailyStatisticsAggregator dailyAggregator,
-		WeeklyStatisticsAggregator weeklyAggregator,
-		MonthlyStatisticsAggregator monthlyAggregator
+		FusedStatisticsAggregator statisticsAggregator,
+		UrlAnalyticsCache analyticsCache
 	) {
 		this.urlMappingReader = urlMappingReader;
 		this.clickCountHistoryReader = clickCountHistoryReader;
+		this.clickCountRollupReader = clickCountRollupReader;
 		this.ownershipValidator = ownershipValidator;
-		this.hourlyAggregator = hourlyAggregator;
-		this.dailyAggregator = dailyAggregator;
-		this.weeklyAggregator = weeklyAggregator;
-		this.monthlyAggregator = monthlyAggregator;
+		this.statisticsAggregator = statisticsAggregator;
+		this.analyticsCache = analyticsCache;
 	}
 
 	/**
@@ -74,20 +86,35 @@ public class UrlAnalyticsService {
 		// 소유권 검증 (위임)
 		ownershipValidator.validateOwnership(urlMapping, memberId);
 
-		// 히스토리 조회 (최근 12개월)
 		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime since = now.minusMonths(MONTHLY_RANGE_MONTHS).withDayOfMonth(1).toLocalDate().atStartOfDay();
 
-		List<ClickCountHistory> histories = clickCountHistoryReader
-			.findByUrlMappingAndHourGreaterThanEqual(urlMapping, since);
+		// 데이터 버전과 시간대가 같으면 캐시된 결과 사용
+		return analyticsCache.get(urlMappingId, now.truncatedTo(HOURS), () -> computeAnalytics(urlMapping, now));
+	}
 
-		// 각 aggregator에게 위임하여 통계 생성
-		List<UrlAnalyticsInfo.HourlyStat> hourlyStats = hourlyAggregator.aggregate(histories, now);
-		List<UrlAnalyticsInfo.DailyStat> dailyStats = dailyAggregator.aggregate(histories, now);
-		List<UrlAnalyticsInfo.WeeklyStat> weeklyStats = weeklyAggregator.aggregate(histories, now);
-		List<UrlAnalyticsInfo.MonthlyStat> monthlyStats = monthlyAggregator.aggregate(histories, now);
+	private UrlAnalyticsInfo computeAnalytics(UrlMapping urlMapping, LocalDateTime now) {
 
-		return UrlAnalyticsInfo.of(hourlyStats, dailyStats, weeklyStats, monthlyStats);
+		// 시간별 히스토리 조회 (최근 24시간)
+		LocalDateTime hourlySince = now.minusHours(HOURLY_RANGE_HOURS - 1).truncatedTo(HOURS);
+		List<ClickCountHistory> histories = clickCountHistoryReader
+			.findByUrlMappingAndHourGreaterThanEqual(urlMapping, hourlySince);
+
+		// 일별 롤업 조회 (최근 30일과 최근 12주 중 더 이른 날짜부터)
+		LocalDate today = now.toLocalDate();
+		LocalDate weeklySince = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+									 .minusWeeks(WEEKLY_RANGE_WEEKS - 1);
+		LocalDate dailySince = today.minusDays(DAILY_RANGE_DAYS - 1);
+		List<ClickCountDaily> dailies = clickCountRollupReader
+			.findDailyByUrlMappingAndDateGreaterThanEqual(urlMapping,
+				weeklySince.isBefore(dailySince) ? weeklySince : dailySince);
+
+		// 월별 롤업 조회 (최근 12개월)
+		LocalDate monthlySince = YearMonth.from(now).minusMonths(MONTHLY_RANGE_MONTHS - 1).atDay(1);
+		List<ClickCountMonthly> monthlies = clickCountRollupReader
+			.findMonthlyByUrlMappingAndMonthGreaterThanEqual(urlMapping, monthlySince);
+
+		// aggregator에게 위임하여 통계 생성
+		return statisticsAggregator.aggregate(histories, dailies, monthlies, now);
 	}
 
 }
@@ -2,6 +2,7 @@ package luti.server.domain.service.dto;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 
@@ -13,14 +14,18 @@ public class MyUrlsListInfo {
 	private final Long totalPages;
 	private final Long currentPage;
 	private final Long pageSize;
+	private final String nextCursor;
+	private final Boolean hasNext;
 
 	private MyUrlsListInfo(List<MyUrlItemInfo> urls, Long totalElements, Long totalPages,
-						   Long currentPage, Long pageSize) {
+						   Long currentPage, Long pageSize, String nextCursor, Boolean hasNext) {
 		this.urls = urls;
 		this.totalElements = totalElements;
 		this.totalPages = totalPages;
 		this.currentPage = currentPage;
 		this.pageSize = pageSize;
+		this.nextCursor = nextCursor;
+		this.hasNext = hasNext;
 	}
 
 	public static MyUrlsListInfo from(Page<UrlMapping> page) {
@@ -33,7 +38,37 @@ public class MyUrlsListInfo {
 			page.getTotalElements(),
 			(long) page.getTotalPages(),
 			(long) page.getNumber(),
-			(long) page.getSize()
+			(long) page.getSize(),
+			null,
+			null
+		);
+	}
+
+	/**
+	 * keyset 페이지네이션 결과
+	 * @param fetched size + 1 개까지 조회한 행 (size 를 넘으면 다음 페이지가 있음)
+	 * @param totalElements 요청하지 않았으면 null (totalPages 도 null)
+	 */
+	public static MyUrlsListInfo ofCursor(List<UrlMapping> fetched, int size, Long totalElements) {
+		boolean hasNext = fetched.size() > size;
+		List<UrlMapping> content = hasNext ? fetched.subList(0, size) : fetched;
+
+		String nextCursor = null;
+		if (hasNext) {
+			UrlMapping last = content.get(content.size() - 1);
+			nextCursor = UrlListCursor.of(last.getCreatedAt(), last.getId()).encode();
+		}
+
+		Long totalPages = totalElements != null ? (totalElements + size - 1) / size : null;
+
+		return new MyUrlsListInfo(
+			content.stream().map(MyUrlItemInfo::from).toList(),
+			totalElements,
+			totalPages,
+			null,
+			(long) size,
+			nextCursor,
+			hasNext
 		);
 	}
 
@@ -57,23 +92,54 @@ public class MyUrlsListInfo {
 		return pageSize;
 	}
 
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public Boolean getHasNext() {
+		return hasNext;
+	}
+
 	public List<Long> getUrlIds() {
 		return urls.stream()
 			.map(MyUrlItemInfo::getId)
 			.toList();
 	}
 
+	public List<Long> getScrambledIds() {
+		return urls.stream()
+			.map(MyUrlItemInfo::getScrambledId)
+			.toList();
+	}
+
+	/**
+	 * 동기화 전 클릭 수를 더한 목록 (페이지 정보는 그대로)
+	 * @param pendingByScrambledId scrambledId -> 대기 중인 클릭 수
+	 */
+	public MyUrlsListInfo withPendingClickCounts(Map<Long, Long> pendingByScrambledId) {
+		if (pendingByScrambledId.isEmpty()) {
+			return this;
+		}
+
+		List<MyUrlItemInfo> items = urls.stream()
+			.map(item -> item.plusClickCount(pendingByScrambledId.getOrDefault(item.getScrambledId(), 0L)))
+			.toList();
+		return new MyUrlsListInfo(items, totalElements, totalPages, currentPage, pageSize, nextCursor, hasNext);
+	}
+
 	public static class MyUrlItemInfo {
 		private final Long id;
+		private final Long scrambledId;
 		private final String shortUrl;
 		private final String originalUrl;
 		private final String description;
 		private final LocalDateTime createdAt;
 		private final Long clickCount;
 
-		private MyUrlItemInfo(Long id, String shortUrl, String originalUrl,
+		private MyUrlItemInfo(Long id, Long scrambledId, String shortUrl, String originalUrl,
 							  String description, LocalDateTime createdAt, Long clickCount) {
 			this.id = id;
+			this.scrambledId = scrambledId;
 			this.shortUrl = shortUrl;
 			this.originalUrl = originalUrl;
 			this.description = description;
@@ -84,6 +150,7 @@ public class MyUrlsListInfo {
 		public static MyUrlItemInfo from(UrlMapping entity) {
 			return new MyUrlItemInfo(
 				entity.getId(),
+				entity.getScrambledId(),
 				entity.getShortUrl(),
 				entity.getOriginalUrl(),
 				entity.getDescription(),
@@ -92,10 +159,22 @@ public class MyUrlsListInfo {
 			);
 		}
 
+		private MyUrlItemInfo plusClickCount(long pending) {
+			if (pending == 0L) {
+				return this;
+			}
+			return new MyUrlItemInfo(id, scrambledId, shortUrl, originalUrl, description, createdAt,
+				(clickCount != null ? clickCount : 0L) + pending);
+		}
+
 		public Long getId() {
 			return id;
 		}
 
+		public Long getScrambledId() {
+			return scrambledId;
+		}
+
 		public String getShortUrl() {
 			return shortUrl;
 		}
@@ -0,0 +1,35 @@
+package luti.server.domain.service.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그 인덱스 구성용 태그 할당 한 건 (태그 id, URL id, URL 생성 시각)
+ */
+public class TagUrlEntry {
+
+	private final Long tagId;
+	private final Long urlId;
+	private final LocalDateTime createdAt;
+
+	private TagUrlEntry(Long tagId, Long urlId, LocalDateTime createdAt) {
+		this.tagId = tagId;
+		this.urlId = urlId;
+		this.createdAt = createdAt;
+	}
+
+	public static TagUrlEntry of(Long tagId, Long urlId, LocalDateTime createdAt) {
+		return new TagUrlEntry(tagId, urlId, createdAt);
+	}
+
+	public Long getTagId() {
+		return tagId;
+	}
+
+	public Long getUrlId() {
+		return urlId;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+}
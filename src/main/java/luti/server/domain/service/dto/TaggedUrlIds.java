@@ -0,0 +1,29 @@
+package luti.server.domain.service.dto;
+
+import java.util.List;
+
+/**
+ * 태그 인덱스로 구한 한 페이지 분량의 URL id ((created_at, id) 역순) 와 필터에 맞는 전체 개수
+ */
+public class TaggedUrlIds {
+
+	private final List<Long> ids;
+	private final long total;
+
+	private TaggedUrlIds(List<Long> ids, long total) {
+		this.ids = ids;
+		this.total = total;
+	}
+
+	public static TaggedUrlIds of(List<Long> ids, long total) {
+		return new TaggedUrlIds(ids, total);
+	}
+
+	public List<Long> getIds() {
+		return ids;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+}
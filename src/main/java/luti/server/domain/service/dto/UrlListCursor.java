@@ -0,0 +1,70 @@
+package luti.server.domain.service.dto;
+
+import static luti.server.exception.ErrorCode.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import luti.server.exception.BusinessException;
+
+/**
+ * 목록 keyset 페이지네이션 커서 (마지막으로 내려준 URL의 createdAt, id)
+ * 클라이언트에는 "{createdAt}|{id}" 를 base64url 로 감싼 불투명 문자열로 전달
+ */
+public class UrlListCursor {
+
+	// 첫 페이지: 모든 URL 보다 뒤에 있는 가상의 위치
+	private static final UrlListCursor FIRST = new UrlListCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+	private final LocalDateTime createdAt;
+	private final Long id;
+
+	private UrlListCursor(LocalDateTime createdAt, Long id) {
+		this.createdAt = createdAt;
+		this.id = id;
+	}
+
+	public static UrlListCursor of(LocalDateTime createdAt, Long id) {
+		return new UrlListCursor(createdAt, id);
+	}
+
+	public static UrlListCursor first() {
+		return FIRST;
+	}
+
+	/**
+	 * @param encoded 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+	 */
+	public static UrlListCursor decode(String encoded) {
+		if (encoded == null || encoded.isBlank()) {
+			return FIRST;
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+			int separator = decoded.lastIndexOf('|');
+			if (separator < 0) {
+				throw new BusinessException(INVALID_CURSOR);
+			}
+			return new UrlListCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+				Long.valueOf(decoded.substring(separator + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new BusinessException(INVALID_CURSOR);
+		}
+	}
+
+	public String encode() {
+		String raw = createdAt + "|" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public Long getId() {
+		return id;
+	}
+}
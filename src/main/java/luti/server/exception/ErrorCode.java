@@ -50,6 +50,8 @@ public enum ErrorCode {
 	SHORT_URL_NOT_FOUND("6002", HttpStatus.NOT_FOUND, "단축 URL을 찾을 수 없습니다"),
 	ALREADY_OWNED_URL("6003", HttpStatus.CONFLICT, "이미 소유된 단축 URL 입니다"),
 	NOT_URL_OWNER("6004", HttpStatus.FORBIDDEN, "단축 URL의 소유자가 아닙니다"),
+	TOO_MANY_URL_IDS("6005", HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 URL 개수를 초과했습니다 (최대 100개)"),
+	INVALID_CURSOR("6006", HttpStatus.BAD_REQUEST, "유효하지 않은 목록 커서입니다"),
 
 	UNAUTHORIZED("7001", HttpStatus.UNAUTHORIZED, "인증이 필요합니다"),
 
@@ -0,0 +1,64 @@
+package luti.server.infrastructure.batch;
+
+/**
+ * 백로그 크기와 가장 오래된 대기 시간으로 클릭 동기화 주기를 결정
+ *
+ * - 백로그 없음: 주기를 2배로 늘림 (최대 maxDelay)
+ * - 백로그 또는 대기 시간이 임계치 이상: 즉시 최소 주기(minDelay)로
+ * - 임계치 미만 백로그: 2배로 늘린 주기 뒤에도 대기 시간이 임계치 미만이면 늘림 (최대 maxDelay), 아니면 현재 주기 유지
+ *   (트래픽이 계속 들어와 백로그가 0이 되지 않아도, 매 실행이 다 비우고 있으면 주기가 다시 늘어남)
+ */
+public class AdaptiveSyncInterval {
+
+	public enum Decision {
+		BACKOFF, ACCELERATE, RELAX, STEADY
+	}
+
+	private final long minDelayMillis;
+	private final long maxDelayMillis;
+	private final long backlogThreshold;
+	private final long ageThresholdMillis;
+
+	private long currentMillis;
+	private Decision lastDecision = Decision.STEADY;
+
+	public AdaptiveSyncInterval(long minDelayMillis, long maxDelayMillis, long backlogThreshold, long ageThresholdMillis) {
+		if (minDelayMillis <= 0 || maxDelayMillis < minDelayMillis) {
+			throw new IllegalArgumentException("min-delay 는 0보다 크고 max-delay 이하여야 함");
+		}
+		this.minDelayMillis = minDelayMillis;
+		this.maxDelayMillis = maxDelayMillis;
+		this.backlogThreshold = backlogThreshold;
+		this.ageThresholdMillis = ageThresholdMillis;
+		this.currentMillis = maxDelayMillis;
+	}
+
+	/**
+	 * 표본을 반영해 다음 주기 계산
+	 * @param backlog 동기화 대기 중인 dirty 멤버 수
+	 * @param oldestAgeMillis 가장 오래된 대기 항목의 경과 시간 (상한 추정치)
+	 */
+	public synchronized long update(long backlog, long oldestAgeMillis) {
+		if (backlog <= 0) {
+			lastDecision = Decision.BACKOFF;
+			currentMillis = Math.min(maxDelayMillis, currentMillis * 2);
+		} else if (backlog >= backlogThreshold || oldestAgeMillis >= ageThresholdMillis) {
+			lastDecision = Decision.ACCELERATE;
+			currentMillis = minDelayMillis;
+		} else if (oldestAgeMillis + currentMillis * 2 < ageThresholdMillis && currentMillis < maxDelayMillis) {
+			lastDecision = Decision.RELAX;
+			currentMillis = Math.min(maxDelayMillis, currentMillis * 2);
+		} else {
+			lastDecision = Decision.STEADY;
+		}
+		return currentMillis;
+	}
+
+	public synchronized long currentMillis() {
+		return currentMillis;
+	}
+
+	public synchronized Decision lastDecision() {
+		return lastDecision;
+	}
+}
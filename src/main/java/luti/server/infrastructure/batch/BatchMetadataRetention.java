@@ -0,0 +1,113 @@
+package luti.server.infrastructure.batch;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Batch 메타데이터(BATCH_*) 보관 기간 정리
+ *
+ * - 보관 기간이 지난 종료된 job execution 을 delete-batch-size 개씩 골라 FK 순서대로 삭제
+ *   (step context -> step execution -> job context -> job params -> job execution -> 실행이 남지 않은 job instance)
+ * - 각 삭제는 멱등이라 중간에 실패해도 다음 실행에서 이어서 정리됨
+ * - 실행 중(STARTING/STARTED/STOPPING)인 execution 은 건드리지 않음
+ */
+@Component
+public class BatchMetadataRetention {
+
+	private static final Logger log = LoggerFactory.getLogger(BatchMetadataRetention.class);
+
+	private static final String SELECT_EXPIRED_SQL =
+		"SELECT JOB_EXECUTION_ID, JOB_INSTANCE_ID FROM BATCH_JOB_EXECUTION " +
+		"WHERE CREATE_TIME < ? AND STATUS NOT IN ('STARTING', 'STARTED', 'STOPPING') " +
+		"ORDER BY JOB_EXECUTION_ID LIMIT ?";
+
+	private static final String DELETE_STEP_CONTEXT_SQL =
+		"DELETE FROM BATCH_STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN " +
+		"(SELECT STEP_EXECUTION_ID FROM BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (%s))";
+	private static final String DELETE_STEP_EXECUTION_SQL =
+		"DELETE FROM BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (%s)";
+	private static final String DELETE_JOB_CONTEXT_SQL =
+		"DELETE FROM BATCH_JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN (%s)";
+	private static final String DELETE_JOB_PARAMS_SQL =
+		"DELETE FROM BATCH_JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (%s)";
+	private static final String DELETE_JOB_EXECUTION_SQL =
+		"DELETE FROM BATCH_JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (%s)";
+	private static final String DELETE_JOB_INSTANCE_SQL =
+		"DELETE FROM BATCH_JOB_INSTANCE WHERE JOB_INSTANCE_ID IN (%s) " +
+		"AND NOT EXISTS (SELECT 1 FROM BATCH_JOB_EXECUTION e WHERE e.JOB_INSTANCE_ID = BATCH_JOB_INSTANCE.JOB_INSTANCE_ID)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int retentionDays;
+	private final int deleteBatchSize;
+
+	public BatchMetadataRetention(JdbcTemplate jdbcTemplate,
+								  @Value("${batch.metadata-retention.retention-days:14}") int retentionDays,
+								  @Value("${batch.metadata-retention.delete-batch-size:500}") int deleteBatchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.retentionDays = retentionDays;
+		this.deleteBatchSize = Math.max(1, deleteBatchSize);
+	}
+
+	@Scheduled(cron = "${batch.metadata-retention.cron:0 30 4 * * *}")
+	public void purge() {
+		try {
+			long deleted = purgeBefore(LocalDateTime.now().minusDays(retentionDays));
+			log.info("배치 메타데이터 정리 완료: deletedJobExecutions={}", deleted);
+		} catch (Exception e) {
+			log.error("배치 메타데이터 정리 실패 (다음 주기에 이어서 정리)", e);
+		}
+	}
+
+	/**
+	 * threshold 이전에 생성된 종료된 job execution 과 관련 메타데이터 삭제
+	 * @return 삭제한 job execution 수
+	 */
+	public long purgeBefore(LocalDateTime threshold) {
+		Timestamp createdBefore = Timestamp.valueOf(threshold);
+		long deleted = 0;
+
+		while (true) {
+			List<Long> executionIds = new ArrayList<>();
+			Set<Long> instanceIds = new LinkedHashSet<>();
+			jdbcTemplate.query(SELECT_EXPIRED_SQL, rs -> {
+				executionIds.add(rs.getLong(1));
+				instanceIds.add(rs.getLong(2));
+			}, createdBefore, deleteBatchSize);
+
+			if (executionIds.isEmpty()) {
+				return deleted;
+			}
+
+			Object[] executionParams = executionIds.toArray();
+			String executionPlaceholders = placeholders(executionIds.size());
+			jdbcTemplate.update(String.format(DELETE_STEP_CONTEXT_SQL, executionPlaceholders), executionParams);
+			jdbcTemplate.update(String.format(DELETE_STEP_EXECUTION_SQL, executionPlaceholders), executionParams);
+			jdbcTemplate.update(String.format(DELETE_JOB_CONTEXT_SQL, executionPlaceholders), executionParams);
+			jdbcTemplate.update(String.format(DELETE_JOB_PARAMS_SQL, executionPlaceholders), executionParams);
+			jdbcTemplate.update(String.format(DELETE_JOB_EXECUTION_SQL, executionPlaceholders), executionParams);
+			jdbcTemplate.update(String.format(DELETE_JOB_INSTANCE_SQL, placeholders(instanceIds.size())),
+				instanceIds.toArray());
+
+			deleted += executionIds.size();
+			if (executionIds.size() < deleteBatchSize) {
+				return deleted;
+			}
+		}
+	}
+
+	private static String placeholders(int count) {
+		return String.join(", ", Collections.nCopies(count, "?"));
+	}
+}
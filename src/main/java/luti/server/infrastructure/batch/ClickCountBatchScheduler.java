@@ -1,40 +1,219 @@
 package luti.server.infrastructure.batch;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.configuration.JobRegistry;
-import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import luti.server.infrastructure.click.ClickDirtyShards;
+import luti.server.infrastructure.config.AsyncConfig;
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
 @Configuration
 public class ClickCountBatchScheduler {
 
 	private static final Logger log = LoggerFactory.getLogger(ClickCountBatchScheduler.class);
 
-	private final JobLauncher jobLauncher;
-	private final JobRegistry jobRegistry;
+	static final String LOCK_NAME = "click-count-sync";
+
+	private final ClickSyncJobRunner jobRunner;
+	private final Executor syncExecutor;
+	private final AtomicBoolean running = new AtomicBoolean(false);
+	private final RedisLeaseLock leaseLock;
+	private final boolean lockEnabled;
+	private final Duration leaseTtl;
+	private final RedisTemplate<String, Long> redisTemplate;
+
+	private final boolean adaptiveEnabled;
+	private final long fixedDelayMillis;
+	private final AdaptiveSyncInterval adaptiveInterval;
+	private final Map<AdaptiveSyncInterval.Decision, Counter> decisionCounters = new EnumMap<>(AdaptiveSyncInterval.Decision.class);
+
+	// 이 시각 이전에 dirty 가 된 항목은 모두 동기화됨 (백로그가 비어 있던 시점 또는 예산 안에 다 비운 실행의 시작 시각)
+	private volatile long drainedUpTo = System.currentTimeMillis();
+	private volatile long lastRunAt = System.currentTimeMillis();
+	private volatile long oldestAgeMillis = 0L;
+
+	public ClickCountBatchScheduler(ClickSyncJobRunner jobRunner,
+									@Qualifier(AsyncConfig.CLICK_SYNC_EXECUTOR) Executor syncExecutor,
+									@Qualifier("cacheRedisTemplate") RedisTemplate<String, Long> redisTemplate,
+									MeterRegistry meterRegistry, RedisLeaseLock leaseLock,
+									@Value("${batch.click-count-sync.lock.enabled:true}") boolean lockEnabled,
+									@Value("${batch.click-count-sync.lock.lease-ttl:30000}") long leaseTtlMillis,
+									@Value("${batch.schedule.click-count-sync.fixed-delay:300000}") long fixedDelayMillis,
+									@Value("${batch.schedule.click-count-sync.adaptive.enabled:true}") boolean adaptiveEnabled,
+									@Value("${batch.schedule.click-count-sync.adaptive.min-delay:5000}") long minDelayMillis,
+									@Value("${batch.schedule.click-count-sync.adaptive.max-delay:300000}") long maxDelayMillis,
+									@Value("${batch.schedule.click-count-sync.adaptive.backlog-threshold:10000}") long backlogThreshold,
+									@Value("${batch.schedule.click-count-sync.adaptive.age-threshold:120000}") long ageThresholdMillis) {
+		this.jobRunner = jobRunner;
+		this.syncExecutor = syncExecutor;
+		this.leaseLock = leaseLock;
+		this.lockEnabled = lockEnabled;
+		this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+		this.redisTemplate = redisTemplate;
+		this.fixedDelayMillis = fixedDelayMillis;
+		this.adaptiveEnabled = adaptiveEnabled;
+		this.adaptiveInterval = new AdaptiveSyncInterval(minDelayMillis, maxDelayMillis, backlogThreshold, ageThresholdMillis);
 
-	public ClickCountBatchScheduler(JobLauncher jobLauncher, JobRegistry jobRegistry) {
-		this.jobLauncher = jobLauncher;
-		this.jobRegistry = jobRegistry;
+		// 동기화 대기 중인 dirty URL 수 (계속 증가하면 동기화가 밀리고 있다는 신호)
+		Gauge.builder("click.sync.backlog", redisTemplate, ClickCountBatchScheduler::backlogSize)
+			 .register(meterRegistry);
+
+		Gauge.builder("click.sync.interval", this, s -> s.currentIntervalMillis())
+			 .baseUnit("milliseconds")
+			 .register(meterRegistry);
+		Gauge.builder("click.sync.oldest.age", this, s -> s.oldestAgeMillis)
+			 .baseUnit("milliseconds")
+			 .register(meterRegistry);
+		for (AdaptiveSyncInterval.Decision decision : AdaptiveSyncInterval.Decision.values()) {
+			decisionCounters.put(decision, Counter.builder("click.sync.schedule.decisions")
+												  .tag("decision", decision.name().toLowerCase())
+												  .register(meterRegistry));
+		}
 	}
 
-	@Scheduled(fixedDelayString = "${batch.schedule.click-count-sync.fixed-delay}", initialDelayString = "${batch.schedule.click-count-sync.initial-delay}")
+	private static double backlogSize(RedisTemplate<String, Long> redisTemplate) {
+		try {
+			long total = 0L;
+			for (String dirtyKey : ClickDirtyShards.allKeys()) {
+				Long size = redisTemplate.opsForSet().size(dirtyKey);
+				total += size != null ? size : 0L;
+			}
+			return total;
+		} catch (Exception e) {
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * tick 마다 백로그를 표본 조사해 주기를 조정하고, 주기가 지났으면 동기화 실행
+	 * adaptive.enabled=false 면 fixed-delay 주기로만 실행
+	 *
+	 * 가장 오래된 대기 시간은 drainedUpTo 부터의 경과 시간 (상한 추정치)
+	 * 트래픽이 계속 들어와 백로그가 0이 되지 않아도, 실행이 예산 안에 dirty set 을 다 비우면 그 실행 시작 시각으로 갱신
+	 *
+	 * 동기화는 전용 executor 로 넘기고 바로 반환 (공용 @Scheduled 스레드를 max-duration 동안 점유하지 않음)
+	 * 이전 실행이 끝나지 않았으면 새로 실행하지 않음
+	 */
+	@Scheduled(fixedDelayString = "${batch.schedule.click-count-sync.adaptive.tick:5000}",
+			   initialDelayString = "${batch.schedule.click-count-sync.initial-delay}")
+	public void tick() {
+		long now = System.currentTimeMillis();
+		long interval = fixedDelayMillis;
+
+		if (adaptiveEnabled) {
+			double backlog = backlogSize(redisTemplate);
+			if (Double.isNaN(backlog)) {
+				return;
+			}
+			if (backlog == 0) {
+				drainedUpTo = now;
+			}
+			oldestAgeMillis = backlog == 0 ? 0L : now - drainedUpTo;
+
+			interval = adaptiveInterval.update((long) backlog, oldestAgeMillis);
+			decisionCounters.get(adaptiveInterval.lastDecision()).increment();
+		}
+
+		if (now - lastRunAt < interval || !running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			syncExecutor.execute(() -> {
+				try {
+					runBatchJob();
+				} finally {
+					lastRunAt = System.currentTimeMillis();
+					running.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			running.set(false);
+			log.warn("배치 작업 실행 요청 거절, 다음 tick 에 재시도: error={}", e.getMessage());
+		}
+	}
+
+	private long currentIntervalMillis() {
+		return adaptiveEnabled ? adaptiveInterval.currentMillis() : fixedDelayMillis;
+	}
+
+	/**
+	 * 여러 인스턴스 중 lease 를 획득한 한 노드만 동기화 실행 (lock.enabled=false 면 모든 노드가 실행)
+	 */
 	public void runBatchJob() {
+		if (!lockEnabled) {
+			launch();
+			return;
+		}
+
+		Optional<RedisLeaseLock.Lease> acquired;
 		try {
-			log.info("배치 작업 실행 시작");
-			JobParameters params = new JobParametersBuilder()
-				.addLong("timestamp", System.currentTimeMillis())
-				.toJobParameters();
+			acquired = leaseLock.tryAcquire(LOCK_NAME, leaseTtl);
+		} catch (Exception e) {
+			log.error("배치 lease 획득 실패", e);
+			return;
+		}
+
+		if (acquired.isEmpty()) {
+			log.debug("다른 인스턴스가 배치 실행 중, 이번 주기 건너뜀");
+			return;
+		}
 
-			jobLauncher.run(jobRegistry.getJob("clickCountSyncJob"), params);
+		try (RedisLeaseLock.Lease lease = acquired.get()) {
+			launch();
+			if (!lease.isHeld()) {
+				log.warn("배치 실행 중 lease 를 잃음 (다른 인스턴스와 일부 구간 동시 실행)");
+			}
+		}
+	}
+
+	private void launch() {
+		try {
+			log.info("배치 작업 실행 시작");
+			long startedAt = System.currentTimeMillis();
+			JobExecution execution = jobRunner.run();
+			if (drainedWithinBudget(execution)) {
+				drainedUpTo = startedAt;
+			}
 			log.info("배치 작업 실행 완료");
 
 		} catch (Exception e) {
 			log.error("배치 작업 실행 실패", e);
 		}
 	}
+
+	/**
+	 * 실행이 성공했고 어떤 step(파티션)도 max-items / max-duration 예산을 소진하지 않았으면
+	 * 실행 시작 전에 dirty 였던 항목은 모두 동기화된 것
+	 */
+	static boolean drainedWithinBudget(JobExecution execution) {
+		if (execution == null || execution.getStatus() != BatchStatus.COMPLETED) {
+			return false;
+		}
+		for (StepExecution stepExecution : execution.getStepExecutions()) {
+			if (stepExecution.getExecutionContext().containsKey(ClickCountRedisReader.BUDGET_EXHAUSTED_KEY)) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
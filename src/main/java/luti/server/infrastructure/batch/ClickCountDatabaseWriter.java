@@ -1,17 +1,37 @@
 package luti.server.infrastructure.batch;
 
+import java.sql.Date;
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import luti.server.infrastructure.batch.dto.ClickCountData;
+import luti.server.infrastructure.cache.ClickDataVersions;
+import luti.server.infrastructure.click.ClickHour;
 
 @Component
 public class ClickCountDatabaseWriter implements ItemWriter<ClickCountData> {
@@ -19,61 +39,321 @@ public class ClickCountDatabaseWriter implements ItemWriter<ClickCountData> {
 	private static final Logger log = LoggerFactory.getLogger(ClickCountDatabaseWriter.class);
 
 	private final JdbcTemplate jdbcTemplate;
+	private final RedisTemplate<String, Long> redisTemplate;
+	private final ClickDataVersions clickDataVersions;
+	private final int ledgerRetentionDays;
 
-	// UPSERT: 같은 (url_mapping_id, hour) 조합이 있으면 click_count 증가, 없으면 INSERT
+	// scrambled_id -> url_mapping.id 를 chunk 당 한 번에 조회 (soft delete 된 URL 은 제외하여 클릭을 반영하지 않음)
+	private static final String SELECT_IDS_SQL =
+		"SELECT scrambled_id, id FROM url_mapping WHERE scrambled_id IN (%s) AND deleted_at IS NULL";
+
+	// 다중 행 UPSERT: 같은 (url_mapping_id, hour) 조합이 있으면 click_count 증가, 없으면 INSERT
 	private static final String UPSERT_HISTORY_SQL =
 		"INSERT INTO click_count_history (url_mapping_id, click_count, hour, created_at, updated_at) " +
-		"VALUES ((SELECT id FROM url_mapping WHERE scrambled_id = ?), ?, ?, NOW(), NOW()) " +
+		"VALUES %s " +
+		"ON DUPLICATE KEY UPDATE " +
+		"click_count = click_count + VALUES(click_count), " +
+		"updated_at = NOW()";
+	private static final String UPSERT_HISTORY_ROW = "(?, ?, ?, NOW(), NOW())";
+
+	// 일별/월별 롤업도 같은 트랜잭션에서 다중 행 UPSERT (통계 조회가 시간 단위 행을 훑지 않도록)
+	private static final String UPSERT_DAILY_SQL =
+		"INSERT INTO click_count_daily (url_mapping_id, click_count, click_date, created_at, updated_at) " +
+		"VALUES %s " +
+		"ON DUPLICATE KEY UPDATE " +
+		"click_count = click_count + VALUES(click_count), " +
+		"updated_at = NOW()";
+	private static final String UPSERT_MONTHLY_SQL =
+		"INSERT INTO click_count_monthly (url_mapping_id, click_count, click_month, created_at, updated_at) " +
+		"VALUES %s " +
 		"ON DUPLICATE KEY UPDATE " +
 		"click_count = click_count + VALUES(click_count), " +
 		"updated_at = NOW()";
 
+	// url_mapping 총 클릭 수를 한 번의 UPDATE 로 반영
 	private static final String UPDATE_TOTAL_SQL =
-		"UPDATE url_mapping SET click_count = click_count + ? WHERE scrambled_id = ?";
+		"UPDATE url_mapping SET click_count = click_count + CASE id %s END WHERE id IN (%s)";
+
+	// 같은 claim 항목이 두 번 반영되면 unique 제약 위반으로 chunk 전체가 롤백됨
+	private static final String INSERT_LEDGER_SQL =
+		"INSERT INTO click_sync_ledger (claim_id, scrambled_id, hour_bucket, created_at) VALUES %s";
+	private static final String INSERT_LEDGER_ROW = "(?, ?, ?, NOW())";
+
+	private static final String PURGE_LEDGER_SQL =
+		"DELETE FROM click_sync_ledger WHERE created_at < ? LIMIT 10000";
 
-	public ClickCountDatabaseWriter(JdbcTemplate jdbcTemplate) {
+	public ClickCountDatabaseWriter(JdbcTemplate jdbcTemplate,
+									@Qualifier("cacheRedisTemplate") RedisTemplate<String, Long> redisTemplate,
+									ClickDataVersions clickDataVersions,
+									@Value("${batch.click-count-sync.ledger-retention-days:7}") int ledgerRetentionDays) {
 		this.jdbcTemplate = jdbcTemplate;
+		this.redisTemplate = redisTemplate;
+		this.clickDataVersions = clickDataVersions;
+		this.ledgerRetentionDays = ledgerRetentionDays;
 	}
 
 	@Override
 	public void write(Chunk<? extends ClickCountData> chunk) {
-		List<? extends ClickCountData> items = chunk.getItems();
+		List<? extends ClickCountData> claimed = chunk.getItems();
 
+		if (claimed.isEmpty()) {
+			return;
+		}
+
+		// 커밋 이후에만 Redis claim 을 ack (롤백되면 claim 이 남아 다음 실행에서 복구)
+		afterCommit(() -> ack(claimed));
+
+		// 이전 실행에서 이미 반영된 항목은 제외 (DB 커밋 후 ack 전에 중단된 경우)
+		List<ClickCountData> items = excludeAlreadyApplied(claimed);
 		if (items.isEmpty()) {
+			log.info("이미 반영된 claim 항목만 존재하여 건너뜀: records={}", claimed.size());
 			return;
 		}
 
-		// 현재 시간을 시간 단위로 절삭 (분, 초, 나노초 제거)
+		// 반영 기록 (history/total 과 같은 트랜잭션)
+		insertLedger(items);
+
+		// scrambled_id -> url_mapping.id (soft delete 된 URL 과 행이 없는 URL 은 조회되지 않으므로 건너뜀)
+		Map<Long, Long> urlMappingIds = resolveUrlMappingIds(items);
+
+		// 클릭 시간이 없는 이전 형식 데이터는 현재 시간을 시간 단위로 절삭하여 사용 (분, 초, 나노초 제거)
 		LocalDateTime hourTruncated = LocalDateTime.now()
 			.withMinute(0)
 			.withSecond(0)
 			.withNano(0);
 
-		// 히스토리 테이블에 시계열 데이터 UPSERT
-		jdbcTemplate.batchUpdate(
-			UPSERT_HISTORY_SQL,
-			items,
-			items.size(),
-			(ps, item) -> {
-				ps.setLong(1, item.getScrambledId());         // scrambled_id로 url_mapping.id 조회
-				ps.setLong(2, item.getCount());               // click_count
-				ps.setTimestamp(3, Timestamp.valueOf(hourTruncated)); // hour (절삭된 시간)
+		// (url_mapping_id, hour) 별 증가분, url_mapping_id 별 총 증가분 (id 순 정렬로 인스턴스 간 락 순서 고정)
+		Map<Long, Map<LocalDateTime, Long>> historyDeltas = new TreeMap<>();
+		Map<Long, Long> totalDeltas = new TreeMap<>();
+		for (ClickCountData item : items) {
+			Long urlMappingId = urlMappingIds.get(item.getScrambledId());
+			if (urlMappingId == null) {
+				log.warn("soft delete 되었거나 존재하지 않는 URL 의 클릭 건너뜀: scrambledId={}, count={}",
+						 item.getScrambledId(), item.getCount());
+				continue;
 			}
-		);
+
+			LocalDateTime hour = item.getHour() != null ? item.getHour() : hourTruncated;
+			historyDeltas.computeIfAbsent(urlMappingId, id -> new TreeMap<>())
+						 .merge(hour, item.getCount(), Long::sum);
+			totalDeltas.merge(urlMappingId, item.getCount(), Long::sum);
+		}
+
+		if (totalDeltas.isEmpty()) {
+			return;
+		}
+
+		// 히스토리 테이블에 시계열 데이터 다중 행 UPSERT
+		upsertHistory(historyDeltas);
+
+		// 일별/월별 롤업 다중 행 UPSERT
+		upsertRollup(UPSERT_DAILY_SQL, rollUp(historyDeltas, LocalDateTime::toLocalDate));
+		upsertRollup(UPSERT_MONTHLY_SQL, rollUp(historyDeltas, hour -> hour.toLocalDate().withDayOfMonth(1)));
 
 		// url_mapping 총 클릭 수 업데이트
-		jdbcTemplate.batchUpdate(
-			UPDATE_TOTAL_SQL,
-			items,
-			items.size(),
-			(ps, data) -> {
-				ps.setLong(1, data.getCount());
-				ps.setLong(2, data.getScrambledId());
-			}
-		);
+		updateTotals(totalDeltas);
+
+		// 커밋 이후 반영된 URL의 데이터 버전 증가 (커밋 전에 올리면 이전 데이터가 새 버전으로 캐시될 수 있음)
+		Set<Long> changedUrlMappingIds = totalDeltas.keySet();
+		afterCommit(() -> bumpVersions(changedUrlMappingIds));
 
 		log.info("DB에 클릭 수 반영 완료: records={}", items.size());
 	}
 
+	/**
+	 * 보관 기간이 지난 반영 기록 삭제 (한 번에 10000건씩)
+	 */
+	@Scheduled(cron = "${batch.click-count-sync.ledger-purge-cron:0 30 4 * * *}")
+	public void purgeLedger() {
+		Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusDays(ledgerRetentionDays));
+
+		long deleted = 0;
+		int affected;
+		do {
+			affected = jdbcTemplate.update(PURGE_LEDGER_SQL, threshold);
+			deleted += affected;
+		} while (affected > 0);
+
+		log.info("클릭 동기화 반영 기록 정리 완료: deleted={}", deleted);
+	}
+
+	private void insertLedger(List<ClickCountData> items) {
+		List<ClickCountData> ledgerItems = items.stream()
+			.filter(item -> item.getClaimId() != null)
+			.toList();
+		if (ledgerItems.isEmpty()) {
+			return;
+		}
+
+		List<Object> params = new ArrayList<>(ledgerItems.size() * 3);
+		for (ClickCountData item : ledgerItems) {
+			params.add(item.getClaimId());
+			params.add(item.getScrambledId());
+			params.add(hourBucket(item));
+		}
+		jdbcTemplate.update(String.format(INSERT_LEDGER_SQL, rows(INSERT_LEDGER_ROW, ledgerItems.size())),
+			params.toArray());
+	}
+
+	private Map<Long, Long> resolveUrlMappingIds(List<ClickCountData> items) {
+		List<Long> scrambledIds = items.stream()
+			.map(ClickCountData::getScrambledId)
+			.distinct()
+			.toList();
+
+		Map<Long, Long> urlMappingIds = new HashMap<>();
+		jdbcTemplate.query(
+			String.format(SELECT_IDS_SQL, rows("?", scrambledIds.size())),
+			rs -> {
+				urlMappingIds.put(rs.getLong(1), rs.getLong(2));
+			},
+			scrambledIds.toArray()
+		);
+		return urlMappingIds;
+	}
+
+	private void upsertHistory(Map<Long, Map<LocalDateTime, Long>> historyDeltas) {
+		List<Object> params = new ArrayList<>();
+		historyDeltas.forEach((urlMappingId, byHour) -> byHour.forEach((hour, count) -> {
+			params.add(urlMappingId);
+			params.add(count);
+			params.add(Timestamp.valueOf(hour));
+		}));
+
+		jdbcTemplate.update(String.format(UPSERT_HISTORY_SQL, rows(UPSERT_HISTORY_ROW, params.size() / 3)),
+			params.toArray());
+	}
+
+	private static Map<Long, Map<LocalDate, Long>> rollUp(Map<Long, Map<LocalDateTime, Long>> historyDeltas,
+														  Function<LocalDateTime, LocalDate> period) {
+		Map<Long, Map<LocalDate, Long>> rolled = new TreeMap<>();
+		historyDeltas.forEach((urlMappingId, byHour) -> byHour.forEach((hour, count) ->
+			rolled.computeIfAbsent(urlMappingId, id -> new TreeMap<>())
+				  .merge(period.apply(hour), count, Long::sum)));
+		return rolled;
+	}
+
+	private void upsertRollup(String sql, Map<Long, Map<LocalDate, Long>> deltas) {
+		List<Object> params = new ArrayList<>();
+		deltas.forEach((urlMappingId, byPeriod) -> byPeriod.forEach((period, count) -> {
+			params.add(urlMappingId);
+			params.add(count);
+			params.add(Date.valueOf(period));
+		}));
+
+		jdbcTemplate.update(String.format(sql, rows(UPSERT_HISTORY_ROW, params.size() / 3)), params.toArray());
+	}
+
+	private void updateTotals(Map<Long, Long> totalDeltas) {
+		List<Object> params = new ArrayList<>(totalDeltas.size() * 3);
+		totalDeltas.forEach((urlMappingId, count) -> {
+			params.add(urlMappingId);
+			params.add(count);
+		});
+		params.addAll(totalDeltas.keySet());
+
+		jdbcTemplate.update(
+			String.format(UPDATE_TOTAL_SQL,
+				String.join(" ", Collections.nCopies(totalDeltas.size(), "WHEN ? THEN ?")),
+				rows("?", totalDeltas.size())),
+			params.toArray());
+	}
+
+	private static String rows(String row, int count) {
+		return String.join(",", Collections.nCopies(count, row));
+	}
+
+	private List<ClickCountData> excludeAlreadyApplied(List<? extends ClickCountData> items) {
+		Map<Long, List<ClickCountData>> byClaim = items.stream()
+			.filter(item -> item.getClaimId() != null)
+			.collect(Collectors.groupingBy(ClickCountData::getClaimId, LinkedHashMap::new, Collectors.toList()));
+
+		if (byClaim.isEmpty()) {
+			return new ArrayList<>(items);
+		}
+
+		Set<String> applied = new HashSet<>();
+		byClaim.forEach((claimId, claimItems) -> {
+			String placeholders = String.join(",", Collections.nCopies(claimItems.size(), "?"));
+			List<Object> params = new ArrayList<>();
+			params.add(claimId);
+			claimItems.forEach(item -> params.add(item.getScrambledId()));
+
+			jdbcTemplate.query(
+				"SELECT scrambled_id, hour_bucket FROM click_sync_ledger WHERE claim_id = ? AND scrambled_id IN (" + placeholders + ")",
+				rs -> {
+					applied.add(ledgerKey(claimId, rs.getLong(2), rs.getLong(1)));
+				},
+				params.toArray()
+			);
+		});
+
+		return items.stream()
+			.filter(item -> item.getClaimId() == null
+				|| !applied.contains(ledgerKey(item.getClaimId(), hourBucket(item), item.getScrambledId())))
+			.collect(Collectors.toList());
+	}
+
+	private static String ledgerKey(long claimId, long hourBucket, long scrambledId) {
+		return claimId + ":" + hourBucket + ":" + scrambledId;
+	}
+
+	private static long hourBucket(ClickCountData item) {
+		return item.getHour() != null ? ClickHour.bucketOf(item.getHour()) : ClickHour.LEGACY_BUCKET;
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	/**
+	 * 실패하면 해당 URL은 현재 시간대가 끝날 때까지 이전 분석 결과가 캐시에서 조회될 수 있음
+	 */
+	private void bumpVersions(Set<Long> urlMappingIds) {
+		try {
+			clickDataVersions.bump(urlMappingIds);
+		} catch (Exception e) {
+			log.warn("클릭 데이터 버전 증가 실패: urls={}, error={}", urlMappingIds.size(), e.getMessage());
+		}
+	}
+
+	/**
+	 * claim 해시에서 반영 완료된 항목 제거
+	 * 실패해도 claim 은 timeout 후 다시 읽히고 ledger 로 걸러지므로 중복 집계되지 않음
+	 */
+	private void ack(List<? extends ClickCountData> items) {
+		Map<Long, List<ClickCountData>> byClaim = items.stream()
+			.filter(item -> item.getClaimId() != null)
+			.collect(Collectors.groupingBy(ClickCountData::getClaimId, Collectors.toList()));
+
+		byClaim.forEach((claimId, claimItems) -> {
+			// claimId, (시간 버킷, scrambledId) 쌍
+			Object[] args = new Object[claimItems.size() * 2 + 1];
+			args[0] = claimId;
+			for (int i = 0; i < claimItems.size(); i++) {
+				args[i * 2 + 1] = hourBucket(claimItems.get(i));
+				args[i * 2 + 2] = claimItems.get(i).getScrambledId();
+			}
+
+			try {
+				redisTemplate.execute(ClickSyncScripts.ACK,
+					List.of(ClickSyncScripts.claimKey(claimId), ClickSyncScripts.CLAIMS_KEY), args);
+			} catch (Exception e) {
+				log.warn("클릭 동기화 claim ack 실패 (timeout 후 재처리 시 ledger 로 중복 제외): claimId={}, error={}",
+						 claimId, e.getMessage());
+			}
+		});
+	}
+
 
 }
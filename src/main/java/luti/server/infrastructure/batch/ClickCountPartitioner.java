@@ -0,0 +1,29 @@
+package luti.server.infrastructure.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import luti.server.infrastructure.click.ClickDirtyShards;
+
+/**
+ * dirty set 샤드를 파티션별로 나눔 (shard % gridSize == partition)
+ * 각 파티션은 자신의 dirtyKeys 만 소비하므로 파티션 간에 같은 URL 을 갱신하지 않음
+ */
+public class ClickCountPartitioner implements Partitioner {
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		int partitions = Math.max(1, Math.min(gridSize, ClickDirtyShards.SHARD_COUNT));
+
+		Map<String, ExecutionContext> result = new HashMap<>();
+		for (int partition = 0; partition < partitions; partition++) {
+			ExecutionContext context = new ExecutionContext();
+			context.putString("dirtyKeys", String.join(",", ClickDirtyShards.keysForPartition(partition, partitions)));
+			result.put("partition" + partition, context);
+		}
+		return result;
+	}
+}
@@ -2,74 +2,206 @@ package luti.server.infrastructure.batch;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import luti.server.infrastructure.batch.dto.ClickCountData;
-
+import luti.server.infrastructure.click.ClickDirtyShards;
+import luti.server.infrastructure.click.ClickHour;
+
+/**
+ * 배정된 dirty set 들(click:dirty:{shard})에서 BATCH_SIZE 단위로 페이지를 claim 하여 읽기
+ * 파티션 모드에서는 stepExecutionContext 의 dirtyKeys, 단일 step 에서는 전체 샤드를 담당
+ *
+ * 한 페이지를 다 읽으면 다음 페이지를 가져오며, 아래 중 하나가 되면 종료
+ * - 담당 dirty set 이 모두 비어 있음
+ * - 이번 실행에서 읽은 URL 수가 max-items 도달 (0 이하면 제한 없음)
+ * - 실행 시간이 max-duration 초과 (0 이하면 제한 없음)
+ * 예산 소진으로 끝난 경우 남은 dirty URL은 다음 실행에서 처리 (step ExecutionContext 에 BUDGET_EXHAUSTED_KEY 기록)
+ *
+ * 카운트는 삭제되지 않고 claim 해시로 옮겨지며, writer 가 DB 커밋 후 ack 함
+ * 실행 시작 시 claim-timeout 이 지나도록 ack 되지 않은 claim(이전 실행의 크래시/DB 오류)을 먼저 다시 읽음
+ */
 @Component
 @StepScope
 public class ClickCountRedisReader implements ItemReader<ClickCountData> {
 
 	private static final Logger log = LoggerFactory.getLogger(ClickCountRedisReader.class);
 
+	static final String BUDGET_EXHAUSTED_KEY = "budgetExhausted";
+
 	private final RedisTemplate<String, Long> redisTemplate;
+	private final long maxItems;
+	private final long maxDurationMillis;
+	private final long claimTimeoutMillis;
+	private final List<String> dirtyKeys;
+	private final StepExecution stepExecution;
+	private final Counter readCounter;
+	private final Counter recoveredCounter;
+	private final Counter budgetExhaustedCounter;
+	private final Timer pageFetchTimer;
+
 	private Integer currentIndex = 0;
 	private List<ClickCountData> data;
+	private long startedAt;
+	private long popped = 0L;
+	private int dirtyKeyIndex = 0;
+	private boolean recovering = true;
+	private boolean exhausted = false;
 
-	public static final String DIRTY_SET_KEY = "click:dirty";
-	private static final String CLICK_COUNT_KEY_PREFIX = "click:count:";
 	private static final Integer BATCH_SIZE = 1000;
 
-	public ClickCountRedisReader(@Qualifier("cacheRedisTemplate") RedisTemplate<String, Long> redisTemplate) {
+	public ClickCountRedisReader(
+		@Qualifier("cacheRedisTemplate") RedisTemplate<String, Long> redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${batch.click-count-sync.max-items:0}") long maxItems,
+		@Value("${batch.click-count-sync.max-duration:240000}") long maxDurationMillis,
+		@Value("${batch.click-count-sync.claim-timeout:600000}") long claimTimeoutMillis,
+		@Value("#{stepExecutionContext['dirtyKeys']}") String dirtyKeys,
+		@Value("#{stepExecution}") StepExecution stepExecution
+	) {
 		this.redisTemplate = redisTemplate;
+		this.dirtyKeys = (dirtyKeys == null || dirtyKeys.isBlank())
+			? ClickDirtyShards.allKeys()
+			: List.of(dirtyKeys.split(","));
+		this.stepExecution = stepExecution;
+		this.maxItems = maxItems;
+		this.maxDurationMillis = maxDurationMillis;
+		this.claimTimeoutMillis = claimTimeoutMillis;
+		this.readCounter = Counter.builder("click.sync.read.urls").register(meterRegistry);
+		this.recoveredCounter = Counter.builder("click.sync.recovered.urls").register(meterRegistry);
+		this.budgetExhaustedCounter = Counter.builder("click.sync.budget.exhausted").register(meterRegistry);
+		this.pageFetchTimer = Timer.builder("click.sync.fetch.page").register(meterRegistry);
 	}
 
 	@Override
 	public ClickCountData read() {
 		if (data == null) {
-			data = fetchBatchFromRedis();
+			startedAt = System.currentTimeMillis();
+			data = List.of();
+		}
+
+		// 현재 페이지를 다 읽었으면 다음 페이지 조회 (미완료 claim 복구 -> dirty set 순, 비거나 예산 소진 시 종료)
+		while (currentIndex >= data.size()) {
+			if (!recovering && (exhausted || !hasBudget())) {
+				return null;
+			}
+			data = recovering ? recoverStaleClaim() : fetchBatchFromRedis();
 			currentIndex = 0;
 		}
 
-		if (currentIndex < data.size()) {
-			return data.get(currentIndex++);
+		return data.get(currentIndex++);
+	}
+
+	private boolean hasBudget() {
+		boolean itemsLeft = maxItems <= 0 || popped < maxItems;
+		boolean timeLeft = maxDurationMillis <= 0 || System.currentTimeMillis() - startedAt < maxDurationMillis;
+
+		if (itemsLeft && timeLeft) {
+			return true;
 		}
 
-		return null;
+		exhausted = true;
+		stepExecution.getExecutionContext().put(BUDGET_EXHAUSTED_KEY, true);
+		budgetExhaustedCounter.increment();
+		log.warn("클릭 동기화 예산 소진으로 조기 종료: popped={}, elapsedMs={}, remaining={}",
+				 popped, System.currentTimeMillis() - startedAt, remaining());
+		return false;
 	}
 
-	private List<ClickCountData> fetchBatchFromRedis() {
-		List<ClickCountData> result = new ArrayList<>();
+	private long remaining() {
+		long remaining = 0L;
+		for (String dirtyKey : dirtyKeys) {
+			Long size = redisTemplate.opsForSet().size(dirtyKey);
+			remaining += size != null ? size : 0L;
+		}
+		return remaining;
+	}
 
-		// dirt set에서 batch size 만큼 pop
-		for (int i = 0; i < BATCH_SIZE; i++) {
-			Long scrambledId = redisTemplate.opsForSet().pop(DIRTY_SET_KEY);
-			if (scrambledId == null) {
-				break;
-			}
+	/**
+	 * ack 되지 않고 claim-timeout 이 지난 claim 하나를 가져옴 (없으면 복구 단계 종료)
+	 * 스크립트가 소유권(score)을 원자적으로 갱신하므로 여러 인스턴스가 같은 claim 을 동시에 복구하지 않음
+	 */
+	private List<ClickCountData> recoverStaleClaim() {
+		long now = System.currentTimeMillis();
+		List<Object> reply = redisTemplate.execute(ClickSyncScripts.RECOVER,
+			List.of(ClickSyncScripts.CLAIMS_KEY), now - claimTimeoutMillis, now);
+
+		if (reply == null || reply.isEmpty()) {
+			recovering = false;
+			return List.of();
+		}
 
-			// 카운트 읽고 키 삭제
-			String countKey = CLICK_COUNT_KEY_PREFIX + scrambledId;
-			Long count = redisTemplate.opsForValue().getAndDelete(countKey);
+		Long claimId = ClickSyncScripts.toLong(reply.get(0));
+		List<ClickCountData> result = toClickCountData(claimId, reply, 1);
 
-			// null이거나 0이면 skip (키 만료 또는 비정상 데이터)
-			if (count == null || count == 0L) {
-				continue;
-			}
+		recoveredCounter.increment(result.size());
+		log.warn("미완료 claim 복구: claimId={}, urls={}", claimId, result.size());
+		return result;
+	}
+
+	/**
+	 * 한 페이지 claim: SPOP count + GETDEL + claim 해시 기록을 스크립트 1회(왕복 1회)로 수행
+	 * 현재 dirty set 이 비면 다음 담당 dirty set 으로 넘어감
+	 */
+	private List<ClickCountData> fetchBatchFromRedis() {
+		// 남은 item 예산을 넘지 않도록 이번 페이지 크기 결정
+		long pageSize = maxItems > 0 ? Math.min(BATCH_SIZE, maxItems - popped) : BATCH_SIZE;
 
-			result.add(ClickCountData.of(scrambledId, count));
+		long fetchStartedAt = System.nanoTime();
+
+		List<Object> reply = redisTemplate.execute(ClickSyncScripts.CLAIM,
+			List.of(dirtyKeys.get(dirtyKeyIndex), ClickSyncScripts.CLAIMS_KEY, ClickSyncScripts.CLAIM_SEQUENCE_KEY),
+			pageSize, System.currentTimeMillis());
+
+		long fetched = (reply == null || reply.isEmpty()) ? 0L : ClickSyncScripts.toLong(reply.get(1));
+		if (fetched < pageSize && ++dirtyKeyIndex >= dirtyKeys.size()) {
+			exhausted = true;
+		}
+		if (fetched == 0L) {
+			return List.of();
 		}
 
-		log.info("Redis에서 {} 개의 dirty URL 조회 완료", result.size());
+		Long claimId = ClickSyncScripts.toLong(reply.get(0));
+
+		// 카운트가 없던 id(키 만료 등)는 스크립트에서 이미 제외됨
+		List<ClickCountData> result = toClickCountData(claimId, reply, 2);
+
+		popped += fetched;
+		readCounter.increment(result.size());
+		pageFetchTimer.record(System.nanoTime() - fetchStartedAt, TimeUnit.NANOSECONDS);
+
+		log.info("Redis에서 {} 개의 dirty URL 조회 완료 (claimId={}, 누적 pop={})", result.size(), claimId, popped);
 		return result;
 
 	}
 
+	/**
+	 * 스크립트 응답의 (시간 버킷, scrambledId, count) 묶음을 변환
+	 */
+	private static List<ClickCountData> toClickCountData(Long claimId, List<Object> reply, int offset) {
+		List<ClickCountData> result = new ArrayList<>((reply.size() - offset) / 3);
+		for (int i = offset; i + 2 < reply.size(); i += 3) {
+			result.add(ClickCountData.of(
+				ClickSyncScripts.toLong(reply.get(i + 1)),
+				ClickSyncScripts.toLong(reply.get(i + 2)),
+				ClickHour.toHour(ClickSyncScripts.toLong(reply.get(i))),
+				claimId
+			));
+		}
+		return result;
+	}
+
 }
@@ -0,0 +1,160 @@
+package luti.server.infrastructure.batch;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
+/**
+ * 일별/월별 롤업 재계산 (롤업 도입 이전 히스토리 반영용)
+ *
+ * - click_count_history 를 월 단위 구간으로 나눠 일별 합계를 구하고, 월별 롤업은 일별 롤업 합계로 덮어씀 (여러 번 실행해도 결과 동일)
+ * - 압축(ClickHistoryCompactor)으로 시간 단위 행이 지워진 날짜는 일별 롤업을 다시 계산하지 않음
+ * - 동기화 writer 와 같은 행을 동시에 갱신하지 않도록 클릭 동기화 lease 를 잡은 상태에서만 실행
+ * - 일별 롤업의 가장 이른 날짜보다 오래된 히스토리가 있으면 (롤업 도입 직후) 기동 시 자동으로 재계산
+ *   lease 를 얻지 못하면 retry-interval 마다 다시 시도, backfill-on-startup=true 면 검사 없이 기동마다 재계산
+ */
+@Component
+public class ClickCountRollupBackfill {
+
+	private static final Logger log = LoggerFactory.getLogger(ClickCountRollupBackfill.class);
+
+	private static final String SELECT_OLDEST_HOUR_SQL = "SELECT MIN(hour) FROM click_count_history";
+	private static final String SELECT_OLDEST_DAILY_SQL = "SELECT MIN(click_date) FROM click_count_daily";
+
+	private static final String BACKFILL_DAILY_SQL =
+		"INSERT INTO click_count_daily (url_mapping_id, click_count, click_date, created_at, updated_at) " +
+		"SELECT url_mapping_id, SUM(click_count), DATE(hour), NOW(), NOW() FROM click_count_history " +
+		"WHERE hour >= ? AND hour < ? GROUP BY url_mapping_id, DATE(hour) " +
+		"ON DUPLICATE KEY UPDATE click_count = VALUES(click_count), updated_at = NOW()";
+
+	private static final String BACKFILL_MONTHLY_SQL =
+		"INSERT INTO click_count_monthly (url_mapping_id, click_count, click_month, created_at, updated_at) " +
+		"SELECT url_mapping_id, SUM(click_count), ?, NOW(), NOW() FROM click_count_daily " +
+		"WHERE click_date >= ? AND click_date < ? GROUP BY url_mapping_id " +
+		"ON DUPLICATE KEY UPDATE click_count = VALUES(click_count), updated_at = NOW()";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final RedisLeaseLock leaseLock;
+	private final boolean backfillOnStartup;
+	private final Duration leaseTtl;
+
+	// 재계산이 끝났거나 필요 없다고 확인될 때까지 true
+	private volatile boolean pending = true;
+
+	public ClickCountRollupBackfill(JdbcTemplate jdbcTemplate, RedisLeaseLock leaseLock,
+									@Value("${batch.click-count-rollup.backfill-on-startup:false}") boolean backfillOnStartup,
+									@Value("${batch.click-count-sync.lock.lease-ttl:30000}") long leaseTtlMillis) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.leaseLock = leaseLock;
+		this.backfillOnStartup = backfillOnStartup;
+		this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillOnStartup() {
+		backfillIfPending();
+	}
+
+	@Scheduled(fixedDelayString = "${batch.click-count-rollup.retry-interval:60000}",
+			   initialDelayString = "${batch.click-count-rollup.retry-interval:60000}")
+	public void backfillIfPending() {
+		if (!pending) {
+			return;
+		}
+
+		try {
+			if (!backfillOnStartup && !hasUnrolledHistory()) {
+				pending = false;
+				return;
+			}
+		} catch (Exception e) {
+			log.warn("롤업 재계산 필요 여부 확인 실패 (다음 주기에 재시도): error={}", e.getMessage());
+			return;
+		}
+
+		Optional<RedisLeaseLock.Lease> acquired;
+		try {
+			acquired = leaseLock.tryAcquire(ClickCountBatchScheduler.LOCK_NAME, leaseTtl);
+		} catch (Exception e) {
+			log.error("롤업 재계산 lease 획득 실패", e);
+			return;
+		}
+
+		if (acquired.isEmpty()) {
+			log.info("클릭 동기화가 실행 중이라 롤업 재계산을 미룸 (다음 주기에 재시도)");
+			return;
+		}
+
+		try (RedisLeaseLock.Lease lease = acquired.get()) {
+			int months = backfill();
+			pending = false;
+			log.info("클릭 롤업 재계산 완료: months={}", months);
+		} catch (Exception e) {
+			log.error("클릭 롤업 재계산 실패 (다음 주기에 재시도)", e);
+		}
+	}
+
+	/**
+	 * 일별 롤업의 가장 이른 날짜보다 오래된 히스토리가 있으면 아직 롤업에 반영되지 않은 것
+	 * (동기화 writer 는 도입 이후의 클릭만 롤업에 쌓고, 압축은 일별 롤업이 있는 날짜의 시간 단위 행만 지움)
+	 */
+	boolean hasUnrolledHistory() {
+		Timestamp oldestHour = jdbcTemplate.queryForObject(SELECT_OLDEST_HOUR_SQL, Timestamp.class);
+		if (oldestHour == null) {
+			return false;
+		}
+		Date oldestDaily = jdbcTemplate.queryForObject(SELECT_OLDEST_DAILY_SQL, Date.class);
+		return oldestDaily == null || oldestHour.toLocalDateTime().toLocalDate().isBefore(oldestDaily.toLocalDate());
+	}
+
+	/**
+	 * 가장 오래된 히스토리가 속한 달부터 이번 달까지 월 단위로 롤업 재계산
+	 * @return 재계산한 월 수
+	 */
+	public int backfill() {
+		Timestamp oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_HOUR_SQL, Timestamp.class);
+		if (oldest == null) {
+			return 0;
+		}
+
+		// 압축으로 확정된 날짜 이후만 시간 단위 행으로 일별 롤업 재계산
+		LocalDate checkpoint = ClickHistoryCompactor.readCheckpoint(jdbcTemplate);
+		LocalDateTime recomputeFrom = checkpoint != null ? checkpoint.plusDays(1).atStartOfDay() : null;
+
+		YearMonth current = YearMonth.from(oldest.toLocalDateTime());
+		YearMonth last = YearMonth.now();
+		int months = 0;
+
+		while (!current.isAfter(last)) {
+			LocalDateTime from = current.atDay(1).atStartOfDay();
+			LocalDateTime to = from.plusMonths(1);
+			LocalDateTime dailyFrom = recomputeFrom != null && recomputeFrom.isAfter(from) ? recomputeFrom : from;
+
+			if (dailyFrom.isBefore(to)) {
+				jdbcTemplate.update(BACKFILL_DAILY_SQL, Timestamp.valueOf(dailyFrom), Timestamp.valueOf(to));
+			}
+			jdbcTemplate.update(BACKFILL_MONTHLY_SQL, Date.valueOf(current.atDay(1)),
+				Date.valueOf(from.toLocalDate()), Date.valueOf(to.toLocalDate()));
+
+			log.debug("클릭 롤업 재계산: month={}", current);
+			current = current.plusMonths(1);
+			months++;
+		}
+		return months;
+	}
+}
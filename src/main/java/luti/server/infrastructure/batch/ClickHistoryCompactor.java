@@ -0,0 +1,179 @@
+package luti.server.infrastructure.batch;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
+/**
+ * click_count_history 보관 기간 압축
+ *
+ * horizon-days 보다 오래된 시간 단위 행을 하루씩 처리
+ * 1. 그 날의 시간 단위 합계로 click_count_daily 를 확정하고 진행 위치(click_history_compaction)를 같은 트랜잭션에서 기록
+ * 2. 그 날까지의 시간 단위 행을 delete-batch-size 씩 나눠 삭제 (긴 락 방지)
+ *
+ * - 삭제 도중 중단되면 다음 실행에서 진행 위치까지 남은 행부터 마저 삭제 (이미 확정된 롤업은 다시 계산하지 않음)
+ * - 월 단위 파티션 사용 시(click-history-partition.enabled) 2 를 건너뛰고, 월 전체가 확정되면
+ *   ClickHistoryPartitionManager 가 파티션을 통째로 제거
+ * - 통계 조회는 최근 24시간만 시간 단위 행을, 나머지는 일별/월별 롤업을 읽으므로 압축 후에도 결과가 같음
+ *   (미니 차트의 최근 7일 조회를 위해 horizon 은 최소 MIN_HORIZON_DAYS 일)
+ */
+@Component
+public class ClickHistoryCompactor {
+
+	private static final Logger log = LoggerFactory.getLogger(ClickHistoryCompactor.class);
+
+	static final int MIN_HORIZON_DAYS = 8;
+	private static final String LOCK_NAME = "click-history-compaction";
+
+	static final String SELECT_CHECKPOINT_SQL =
+		"SELECT compacted_through FROM click_history_compaction WHERE id = 1";
+
+	private static final String UPSERT_CHECKPOINT_SQL =
+		"INSERT INTO click_history_compaction (id, compacted_through, updated_at) VALUES (1, ?, NOW()) " +
+		"ON DUPLICATE KEY UPDATE compacted_through = VALUES(compacted_through), updated_at = NOW()";
+
+	private static final String SELECT_OLDEST_HOUR_SQL = "SELECT MIN(hour) FROM click_count_history";
+
+	// 그 날의 일별 롤업을 시간 단위 합계로 덮어씀 (여러 번 실행해도 결과 동일)
+	private static final String ROLLUP_DAY_SQL =
+		"INSERT INTO click_count_daily (url_mapping_id, click_count, click_date, created_at, updated_at) " +
+		"SELECT url_mapping_id, SUM(click_count), ?, NOW(), NOW() FROM click_count_history " +
+		"WHERE hour >= ? AND hour < ? GROUP BY url_mapping_id " +
+		"ON DUPLICATE KEY UPDATE click_count = VALUES(click_count), updated_at = NOW()";
+
+	private static final String DELETE_HISTORY_SQL =
+		"DELETE FROM click_count_history WHERE hour < ? LIMIT ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final RedisLeaseLock leaseLock;
+	private final int horizonDays;
+	private final int deleteBatchSize;
+	private final int maxDaysPerRun;
+	private final boolean partitioned;
+	private final Duration leaseTtl;
+
+	public ClickHistoryCompactor(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+								 RedisLeaseLock leaseLock,
+								 @Value("${batch.click-history-compaction.horizon-days:90}") int horizonDays,
+								 @Value("${batch.click-history-compaction.delete-batch-size:5000}") int deleteBatchSize,
+								 @Value("${batch.click-history-compaction.max-days-per-run:31}") int maxDaysPerRun,
+								 @Value("${batch.click-history-partition.enabled:false}") boolean partitioned,
+								 @Value("${batch.click-history-compaction.lease-ttl:30000}") long leaseTtlMillis) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.leaseLock = leaseLock;
+		this.horizonDays = Math.max(MIN_HORIZON_DAYS, horizonDays);
+		this.deleteBatchSize = Math.max(1, deleteBatchSize);
+		this.maxDaysPerRun = Math.max(1, maxDaysPerRun);
+		this.partitioned = partitioned;
+		this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+	}
+
+	@Scheduled(cron = "${batch.click-history-compaction.cron:0 0 5 * * *}")
+	public void compact() {
+		Optional<RedisLeaseLock.Lease> acquired;
+		try {
+			acquired = leaseLock.tryAcquire(LOCK_NAME, leaseTtl);
+		} catch (Exception e) {
+			log.error("히스토리 압축 lease 획득 실패", e);
+			return;
+		}
+
+		if (acquired.isEmpty()) {
+			log.debug("다른 인스턴스가 히스토리 압축 중, 이번 주기 건너뜀");
+			return;
+		}
+
+		try (RedisLeaseLock.Lease lease = acquired.get()) {
+			int days = compactBefore(LocalDate.now().minusDays(horizonDays));
+			log.info("클릭 히스토리 압축 완료: days={}", days);
+		} catch (Exception e) {
+			log.error("클릭 히스토리 압축 실패 (다음 주기에 이어서 진행)", e);
+		}
+	}
+
+	/**
+	 * horizon 이전 날짜의 시간 단위 행을 일별 롤업으로 확정하고 삭제 (한 번에 최대 max-days-per-run 일)
+	 * @return 이번에 확정한 날짜 수
+	 */
+	public int compactBefore(LocalDate horizon) {
+		// 이전 실행에서 확정했지만 삭제를 끝내지 못한 행 정리
+		LocalDate checkpoint = readCheckpoint(jdbcTemplate);
+		if (checkpoint != null) {
+			deleteThrough(checkpoint);
+		}
+
+		int days = 0;
+		while (days < maxDaysPerRun) {
+			Timestamp oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_HOUR_SQL, Timestamp.class);
+			if (oldest == null) {
+				break;
+			}
+
+			// 파티션 모드에서는 확정된 날짜의 행이 파티션 제거 전까지 남아 있으므로 진행 위치 다음 날부터
+			LocalDate day = oldest.toLocalDateTime().toLocalDate();
+			if (checkpoint != null && !day.isAfter(checkpoint)) {
+				day = checkpoint.plusDays(1);
+			}
+			if (!day.isBefore(horizon)) {
+				break;
+			}
+
+			Date date = Date.valueOf(day);
+			Timestamp start = Timestamp.valueOf(day.atStartOfDay());
+			Timestamp end = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.update(ROLLUP_DAY_SQL, date, start, end);
+				jdbcTemplate.update(UPSERT_CHECKPOINT_SQL, date);
+			});
+
+			long deleted = deleteThrough(day);
+			log.debug("클릭 히스토리 압축: day={}, deleted={}", day, deleted);
+			checkpoint = day;
+			days++;
+		}
+		return days;
+	}
+
+	/**
+	 * day 까지의 시간 단위 행을 delete-batch-size 씩 삭제 (배치마다 자동 커밋)
+	 */
+	private long deleteThrough(LocalDate day) {
+		if (partitioned) {
+			return 0;
+		}
+
+		Timestamp end = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+
+		long deleted = 0;
+		int affected;
+		do {
+			affected = jdbcTemplate.update(DELETE_HISTORY_SQL, end, deleteBatchSize);
+			deleted += affected;
+		} while (affected >= deleteBatchSize);
+		return deleted;
+	}
+
+	/**
+	 * 일별 롤업으로 확정된 마지막 날짜 (압축 이력이 없으면 null)
+	 */
+	static LocalDate readCheckpoint(JdbcTemplate jdbcTemplate) {
+		List<Date> rows = jdbcTemplate.queryForList(SELECT_CHECKPOINT_SQL, Date.class);
+		return rows.isEmpty() || rows.get(0) == null ? null : rows.get(0).toLocalDate();
+	}
+}
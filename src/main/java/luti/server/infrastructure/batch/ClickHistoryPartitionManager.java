@@ -0,0 +1,198 @@
+package luti.server.infrastructure.batch;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
+/**
+ * click_count_history 월 단위 RANGE 파티션 관리 (MySQL)
+ *
+ * - 파티션 이름은 p{yyyyMM} (해당 월의 행), 마지막은 p_max (MAXVALUE)
+ * - 파티션이 아니면 최초 1회 변환: FK 제거, PK 를 (id, hour) 로 변경 후 PARTITION BY RANGE COLUMNS(hour)
+ *   (테이블 복사가 일어나므로 트래픽이 적은 시간에 enabled 를 켤 것)
+ * - 매 실행마다 이번 달부터 months-ahead 개월 뒤까지 파티션을 p_max 에서 분리해 미리 생성
+ * - 압축(ClickHistoryCompactor)으로 월 전체가 일별 롤업에 확정된 파티션은 DELETE 대신 DROP PARTITION 으로 즉시 제거
+ */
+@Component
+public class ClickHistoryPartitionManager {
+
+	private static final Logger log = LoggerFactory.getLogger(ClickHistoryPartitionManager.class);
+
+	private static final String LOCK_NAME = "click-history-partition";
+	static final String MAX_PARTITION = "p_max";
+	private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+	private static final String SELECT_PARTITIONS_SQL =
+		"SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+		"WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'click_count_history' AND PARTITION_NAME IS NOT NULL " +
+		"ORDER BY PARTITION_ORDINAL_POSITION";
+
+	private static final String SELECT_FOREIGN_KEYS_SQL =
+		"SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+		"WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'click_count_history' AND CONSTRAINT_TYPE = 'FOREIGN KEY'";
+
+	private static final String SELECT_OLDEST_HOUR_SQL = "SELECT MIN(hour) FROM click_count_history";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final RedisLeaseLock leaseLock;
+	private final boolean enabled;
+	private final int monthsAhead;
+	private final Duration leaseTtl;
+
+	public ClickHistoryPartitionManager(JdbcTemplate jdbcTemplate, RedisLeaseLock leaseLock,
+										@Value("${batch.click-history-partition.enabled:false}") boolean enabled,
+										@Value("${batch.click-history-partition.months-ahead:3}") int monthsAhead,
+										@Value("${batch.click-history-partition.lease-ttl:30000}") long leaseTtlMillis) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.leaseLock = leaseLock;
+		this.enabled = enabled;
+		this.monthsAhead = Math.max(1, monthsAhead);
+		this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+	}
+
+	@Scheduled(cron = "${batch.click-history-partition.cron:0 10 5 * * *}")
+	public void scheduledMaintain() {
+		if (!enabled) {
+			return;
+		}
+
+		Optional<RedisLeaseLock.Lease> acquired;
+		try {
+			acquired = leaseLock.tryAcquire(LOCK_NAME, leaseTtl);
+		} catch (Exception e) {
+			log.error("파티션 관리 lease 획득 실패", e);
+			return;
+		}
+
+		if (acquired.isEmpty()) {
+			log.debug("다른 인스턴스가 파티션 관리 중, 이번 주기 건너뜀");
+			return;
+		}
+
+		try (RedisLeaseLock.Lease lease = acquired.get()) {
+			maintain(YearMonth.now());
+		} catch (Exception e) {
+			log.error("클릭 히스토리 파티션 관리 실패", e);
+		}
+	}
+
+	/**
+	 * 파티션 변환(최초 1회) -> 미래 파티션 생성 -> 압축이 끝난 파티션 제거
+	 */
+	public void maintain(YearMonth currentMonth) {
+		List<String> partitions = partitionNames();
+		if (partitions.isEmpty()) {
+			convert(currentMonth);
+			partitions = partitionNames();
+		}
+
+		createFuturePartitions(partitions, currentMonth);
+		dropCompactedPartitions(partitions, currentMonth);
+	}
+
+	private List<String> partitionNames() {
+		return jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class);
+	}
+
+	/**
+	 * 기존 데이터의 가장 오래된 월부터 months-ahead 까지 파티션을 만들어 테이블을 파티션 테이블로 변환
+	 */
+	private void convert(YearMonth currentMonth) {
+		for (String foreignKey : jdbcTemplate.queryForList(SELECT_FOREIGN_KEYS_SQL, String.class)) {
+			jdbcTemplate.execute("ALTER TABLE click_count_history DROP FOREIGN KEY `" + foreignKey + "`");
+		}
+		// 파티션 키(hour)가 모든 unique 키에 포함되어야 함 (uk_url_mapping_hour 는 이미 포함)
+		jdbcTemplate.execute("ALTER TABLE click_count_history DROP PRIMARY KEY, ADD PRIMARY KEY (id, hour)");
+
+		Timestamp oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_HOUR_SQL, Timestamp.class);
+		YearMonth from = oldest != null && YearMonth.from(oldest.toLocalDateTime()).isBefore(currentMonth)
+			? YearMonth.from(oldest.toLocalDateTime())
+			: currentMonth;
+
+		List<String> definitions = new ArrayList<>();
+		for (YearMonth month = from; !month.isAfter(currentMonth.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+			definitions.add(definition(month));
+		}
+		definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+		jdbcTemplate.execute("ALTER TABLE click_count_history PARTITION BY RANGE COLUMNS(hour) ("
+			+ String.join(", ", definitions) + ")");
+		log.info("click_count_history 파티션 변환 완료: from={}, partitions={}", from, definitions.size());
+	}
+
+	/**
+	 * 마지막 월 파티션 다음 달부터 months-ahead 까지 p_max 를 나눠 생성
+	 */
+	private void createFuturePartitions(List<String> partitions, YearMonth currentMonth) {
+		YearMonth last = partitions.stream()
+			.map(ClickHistoryPartitionManager::monthOf)
+			.filter(month -> month != null)
+			.max(YearMonth::compareTo)
+			.orElse(currentMonth.minusMonths(1));
+
+		List<String> definitions = new ArrayList<>();
+		for (YearMonth month = last.plusMonths(1); !month.isAfter(currentMonth.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+			definitions.add(definition(month));
+		}
+		if (definitions.isEmpty()) {
+			return;
+		}
+		definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+		jdbcTemplate.execute("ALTER TABLE click_count_history REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+			+ String.join(", ", definitions) + ")");
+		log.info("click_count_history 파티션 생성: count={}", definitions.size() - 1);
+	}
+
+	/**
+	 * 월 전체가 압축 진행 위치 이하인 (일별 롤업으로 확정된) 파티션 제거
+	 * 이번 달 파티션은 제거하지 않음
+	 */
+	private void dropCompactedPartitions(List<String> partitions, YearMonth currentMonth) {
+		LocalDate checkpoint = ClickHistoryCompactor.readCheckpoint(jdbcTemplate);
+		if (checkpoint == null) {
+			return;
+		}
+
+		for (String partition : partitions) {
+			YearMonth month = monthOf(partition);
+			if (month == null || !month.isBefore(currentMonth) || month.atEndOfMonth().isAfter(checkpoint)) {
+				continue;
+			}
+			jdbcTemplate.execute("ALTER TABLE click_count_history DROP PARTITION " + partition);
+			log.info("click_count_history 파티션 제거: partition={}", partition);
+		}
+	}
+
+	public static String partitionName(YearMonth month) {
+		return "p" + month.format(NAME_FORMAT);
+	}
+
+	/**
+	 * p{yyyyMM} 이름의 월 (p_max 등 그 외 이름은 null)
+	 */
+	static YearMonth monthOf(String partitionName) {
+		if (partitionName == null || !partitionName.matches("p\\d{6}")) {
+			return null;
+		}
+		return YearMonth.parse(partitionName.substring(1), NAME_FORMAT);
+	}
+
+	private static String definition(YearMonth month) {
+		return "PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+	}
+}
@@ -0,0 +1,72 @@
+package luti.server.infrastructure.batch;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * clickCountSyncJob 실행기
+ *
+ * job-repository 설정(jdbc / in-memory)에 맞는 JobLauncher 로 실행하고,
+ * 실행 1회당 메타데이터 처리 비용(전체 실행 시간 - step 실행 시간)을 click.sync.job.overhead 로 기록
+ */
+public class ClickSyncJobRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(ClickSyncJobRunner.class);
+
+	private final JobLauncher jobLauncher;
+	private final Job job;
+	private final Timer overheadTimer;
+	private final Timer runTimer;
+
+	public ClickSyncJobRunner(JobLauncher jobLauncher, Job job, MeterRegistry meterRegistry, String repositoryMode) {
+		this.jobLauncher = jobLauncher;
+		this.job = job;
+		this.overheadTimer = Timer.builder("click.sync.job.overhead")
+								  .tag("repository", repositoryMode)
+								  .register(meterRegistry);
+		this.runTimer = Timer.builder("click.sync.job.run")
+							 .tag("repository", repositoryMode)
+							 .register(meterRegistry);
+	}
+
+	public JobExecution run() throws Exception {
+		JobParameters params = new JobParametersBuilder()
+			.addLong("timestamp", System.currentTimeMillis())
+			.toJobParameters();
+
+		long startedAt = System.nanoTime();
+		JobExecution execution = jobLauncher.run(job, params);
+		Duration total = Duration.ofNanos(System.nanoTime() - startedAt);
+
+		Duration steps = Duration.ZERO;
+		for (StepExecution stepExecution : execution.getStepExecutions()) {
+			steps = steps.plus(elapsed(stepExecution.getStartTime(), stepExecution.getEndTime()));
+		}
+		Duration overhead = total.minus(steps).isNegative() ? Duration.ZERO : total.minus(steps);
+
+		runTimer.record(total);
+		overheadTimer.record(overhead);
+		log.debug("클릭 동기화 job 실행: status={}, totalMs={}, overheadMs={}",
+				  execution.getStatus(), total.toMillis(), overhead.toMillis());
+		return execution;
+	}
+
+	private static Duration elapsed(LocalDateTime start, LocalDateTime end) {
+		if (start == null || end == null) {
+			return Duration.ZERO;
+		}
+		return Duration.between(start, end);
+	}
+}
@@ -0,0 +1,130 @@
+package luti.server.infrastructure.batch;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 클릭 동기화 claim / ack / 복구 Lua 스크립트
+ *
+ * dirty 카운트를 지우는 대신 claim 해시(click:processing:{claimId})로 옮겨두고,
+ * DB 커밋 이후에만 ack(HDEL) 하여 중간에 실패해도 클릭이 유실되지 않도록 함
+ * - click:processing:claims (ZSET): member = claimId, score = claim 시각(ms)
+ * - 모든 스크립트는 SPOP/GETDEL/HSET 을 서버에서 원자적으로 수행하므로 여러 인스턴스가 동시에 소비해도 중복 claim 없음
+ *
+ * 단일 노드(또는 primary/replica) Redis 전제
+ * - CLAIM / RECOVER 는 SPOP 결과로 정해지는 키(click:count:*, click:processing:*)를 KEYS 로 선언하지 않고 스크립트 안에서 만듦
+ * - Redis Cluster 에서는 슬롯 검증에 걸리므로 사용 불가 (키를 미리 알 수 없어 KEYS 로 넘길 수 없음)
+ *
+ * claimId 는 click:processing:seq 의 INCR 값이며, 시퀀스 키가 없으면 (최초 기동, Redis 데이터 유실)
+ * 현재 시각(ms) * 1000 에서 다시 시작 → 유실 전에 발급된 claimId 와 겹치지 않아 click_sync_ledger 와 충돌하지 않음
+ * (이전 시퀀스 구간에서 평균 1ms 당 1000 개 넘게 claim 하지 않는 한)
+ */
+final class ClickSyncScripts {
+
+	static final String CLAIMS_KEY = "click:processing:claims";
+	static final String CLAIM_SEQUENCE_KEY = "click:processing:seq";
+	static final String CLAIM_KEY_PREFIX = "click:processing:";
+
+	/**
+	 * dirty 멤버("{yyyyMMddHH}:{scrambledId}", 이전 형식은 "{scrambledId}")를 시간 버킷과 id 로 분리
+	 */
+	private static final String PARSE_MEMBER_LUA =
+		"local function parse(member) " +
+		"  local hour, id = string.match(member, '^(%d+):(%d+)$') " +
+		"  if hour then return hour, id end " +
+		"  return '0', member " +
+		"end ";
+
+	/**
+	 * KEYS[1] = click:dirty, KEYS[2] = claims, KEYS[3] = seq
+	 * ARGV[1] = 페이지 크기, ARGV[2] = 현재 시각(ms, 시퀀스가 없을 때 시작값 = ARGV[2] .. '000')
+	 * claim 해시의 field 는 dirty 멤버 그대로 사용
+	 * return {claimId(카운트가 없으면 0), pop 개수, hour1, id1, count1, hour2, id2, count2, ...} / dirty 가 비어 있으면 {}
+	 */
+	private static final String CLAIM_LUA =
+		PARSE_MEMBER_LUA +
+		"local members = redis.call('SPOP', KEYS[1], ARGV[1]) " +
+		"if #members == 0 then return {} end " +
+		"local result = {0, #members} " +
+		"local claimKey = nil " +
+		"for _, member in ipairs(members) do " +
+		"  local count = redis.call('GETDEL', 'click:count:' .. member) " +
+		"  if count and tonumber(count) ~= 0 then " +
+		"    if not claimKey then " +
+		"      if redis.call('EXISTS', KEYS[3]) == 0 then redis.call('SET', KEYS[3], ARGV[2] .. '000') end " +
+		"      result[1] = redis.call('INCR', KEYS[3]) " +
+		"      claimKey = 'click:processing:' .. result[1] " +
+		"    end " +
+		"    redis.call('HSET', claimKey, member, count) " +
+		"    local hour, id = parse(member) " +
+		"    table.insert(result, hour) " +
+		"    table.insert(result, id) " +
+		"    table.insert(result, count) " +
+		"  end " +
+		"end " +
+		"if claimKey then redis.call('ZADD', KEYS[2], ARGV[2], result[1]) end " +
+		"return result";
+
+	/**
+	 * KEYS[1] = claims
+	 * ARGV[1] = stale 기준 시각(ms), ARGV[2] = 현재 시각(ms)
+	 * 가장 오래된 stale claim 하나의 소유권을 가져옴 (score 갱신)
+	 * return {claimId, hour1, id1, count1, ...} / 없으면 {}
+	 */
+	private static final String RECOVER_LUA =
+		PARSE_MEMBER_LUA +
+		"local stale = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, 1) " +
+		"if #stale == 0 then return {} end " +
+		"local claimId = stale[1] " +
+		"local entries = redis.call('HGETALL', 'click:processing:' .. claimId) " +
+		"if #entries == 0 then redis.call('ZREM', KEYS[1], claimId) return {claimId} end " +
+		"redis.call('ZADD', KEYS[1], ARGV[2], claimId) " +
+		"local result = {claimId} " +
+		"for i = 1, #entries, 2 do " +
+		"  local hour, id = parse(entries[i]) " +
+		"  table.insert(result, hour) " +
+		"  table.insert(result, id) " +
+		"  table.insert(result, entries[i + 1]) " +
+		"end " +
+		"return result";
+
+	/**
+	 * KEYS[1] = click:processing:{claimId}, KEYS[2] = claims
+	 * ARGV[1] = claimId, ARGV[2..] = ack 할 (시간 버킷, scrambledId) 쌍
+	 * claim 의 모든 항목이 ack 되면 claims 에서도 제거
+	 */
+	private static final String ACK_LUA =
+		"for i = 2, #ARGV, 2 do " +
+		"  local member = ARGV[i + 1] " +
+		"  if ARGV[i] ~= '0' then member = ARGV[i] .. ':' .. ARGV[i + 1] end " +
+		"  redis.call('HDEL', KEYS[1], member) " +
+		"end " +
+		"if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('ZREM', KEYS[2], ARGV[1]) end " +
+		"return 1";
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	static final RedisScript<List<Object>> CLAIM = (RedisScript) RedisScript.of(CLAIM_LUA, List.class);
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	static final RedisScript<List<Object>> RECOVER = (RedisScript) RedisScript.of(RECOVER_LUA, List.class);
+
+	static final RedisScript<Long> ACK = RedisScript.of(ACK_LUA, Long.class);
+
+	private ClickSyncScripts() {
+	}
+
+	static String claimKey(long claimId) {
+		return CLAIM_KEY_PREFIX + claimId;
+	}
+
+	static Long toLong(Object value) {
+		if (value instanceof Number number) {
+			return number.longValue();
+		}
+		if (value instanceof String text) {
+			return Long.valueOf(text);
+		}
+		return null;
+	}
+}
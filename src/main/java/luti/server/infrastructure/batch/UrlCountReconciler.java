@@ -0,0 +1,147 @@
+package luti.server.infrastructure.batch;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
+/**
+ * 회원/태그 URL 카운터 보정
+ *
+ * - 카운터는 생성/claim/삭제/태그 할당·해제 트랜잭션에서 증감하지만, 동시 요청이나 수동 데이터 수정으로 어긋날 수 있음
+ * - id 구간 단위로 실제 개수(삭제되지 않은 URL)를 집계해 값이 다른 행만 덮어씀 (여러 번 실행해도 결과 동일)
+ * - 기동 시 URL 이 있는데 카운터가 0 인 회원이 있으면 (카운터 컬럼 도입 직후) 자동으로 한 번 보정
+ *   batch.url-count-reconcile.reconcile-on-startup=true 면 검사 없이 항상 보정
+ */
+@Component
+public class UrlCountReconciler {
+
+	private static final Logger log = LoggerFactory.getLogger(UrlCountReconciler.class);
+
+	private static final String LOCK_NAME = "url-count-reconcile";
+
+	private static final String SELECT_MAX_MEMBER_ID_SQL = "SELECT MAX(id) FROM member";
+	private static final String SELECT_MAX_TAG_ID_SQL = "SELECT MAX(id) FROM tag";
+
+	// 살아 있는 URL 이 있는데 카운터가 0 인 회원이 하나라도 있는지 (카운터가 아직 채워지지 않은 상태)
+	private static final String SELECT_UNINITIALIZED_SQL =
+		"SELECT COUNT(*) FROM (SELECT 1 FROM member m WHERE m.url_count = 0 AND EXISTS (" +
+		"SELECT 1 FROM url_mapping u WHERE u.member_id = m.id AND u.deleted_at IS NULL) LIMIT 1) x";
+
+	private static final String RECONCILE_MEMBER_SQL =
+		"UPDATE member m LEFT JOIN (" +
+		"SELECT member_id, COUNT(*) AS cnt FROM url_mapping " +
+		"WHERE member_id BETWEEN ? AND ? AND deleted_at IS NULL GROUP BY member_id" +
+		") c ON c.member_id = m.id " +
+		"SET m.url_count = COALESCE(c.cnt, 0) " +
+		"WHERE m.id BETWEEN ? AND ? AND m.url_count <> COALESCE(c.cnt, 0)";
+
+	private static final String RECONCILE_TAG_SQL =
+		"UPDATE tag t LEFT JOIN (" +
+		"SELECT ut.tag_id, COUNT(*) AS cnt FROM url_tag ut " +
+		"INNER JOIN url_mapping u ON u.id = ut.url_mapping_id " +
+		"WHERE ut.tag_id BETWEEN ? AND ? AND u.deleted_at IS NULL GROUP BY ut.tag_id" +
+		") c ON c.tag_id = t.id " +
+		"SET t.url_count = COALESCE(c.cnt, 0) " +
+		"WHERE t.id BETWEEN ? AND ? AND t.url_count <> COALESCE(c.cnt, 0)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final RedisLeaseLock leaseLock;
+	private final int batchSize;
+	private final boolean reconcileOnStartup;
+	private final Duration leaseTtl;
+
+	public UrlCountReconciler(JdbcTemplate jdbcTemplate, RedisLeaseLock leaseLock,
+							  @Value("${batch.url-count-reconcile.batch-size:1000}") int batchSize,
+							  @Value("${batch.url-count-reconcile.reconcile-on-startup:false}") boolean reconcileOnStartup,
+							  @Value("${batch.url-count-reconcile.lease-ttl:30000}") long leaseTtlMillis) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.leaseLock = leaseLock;
+		this.batchSize = Math.max(1, batchSize);
+		this.reconcileOnStartup = reconcileOnStartup;
+		this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void reconcileOnStartup() {
+		if (reconcileOnStartup) {
+			run();
+			return;
+		}
+
+		try {
+			Long uninitialized = jdbcTemplate.queryForObject(SELECT_UNINITIALIZED_SQL, Long.class);
+			if (uninitialized == null || uninitialized == 0) {
+				return;
+			}
+		} catch (Exception e) {
+			log.warn("URL 카운터 초기화 여부 확인 실패 (정기 보정에서 처리): error={}", e.getMessage());
+			return;
+		}
+
+		log.info("채워지지 않은 URL 카운터 감지, 기동 시 보정 실행");
+		run();
+	}
+
+	@Scheduled(cron = "${batch.url-count-reconcile.cron:0 40 4 * * *}")
+	public void run() {
+		Optional<RedisLeaseLock.Lease> acquired;
+		try {
+			acquired = leaseLock.tryAcquire(LOCK_NAME, leaseTtl);
+		} catch (Exception e) {
+			log.error("URL 카운터 보정 lease 획득 실패", e);
+			return;
+		}
+
+		if (acquired.isEmpty()) {
+			log.debug("다른 인스턴스가 URL 카운터 보정 중, 이번 주기 건너뜀");
+			return;
+		}
+
+		try (RedisLeaseLock.Lease lease = acquired.get()) {
+			int members = reconcileMembers();
+			int tags = reconcileTags();
+			log.info("URL 카운터 보정 완료: repairedMembers={}, repairedTags={}", members, tags);
+		} catch (Exception e) {
+			log.error("URL 카운터 보정 실패 (다음 주기에 재시도)", e);
+		}
+	}
+
+	/**
+	 * @return 값이 달라 보정한 회원 수
+	 */
+	public int reconcileMembers() {
+		return reconcileInRanges(SELECT_MAX_MEMBER_ID_SQL, RECONCILE_MEMBER_SQL);
+	}
+
+	/**
+	 * @return 값이 달라 보정한 태그 수
+	 */
+	public int reconcileTags() {
+		return reconcileInRanges(SELECT_MAX_TAG_ID_SQL, RECONCILE_TAG_SQL);
+	}
+
+	// id 구간별로 나눠 UPDATE 한 번이 잡는 락 범위를 제한
+	private int reconcileInRanges(String maxIdSql, String reconcileSql) {
+		Long maxId = jdbcTemplate.queryForObject(maxIdSql, Long.class);
+		if (maxId == null) {
+			return 0;
+		}
+
+		int repaired = 0;
+		for (long from = 1; from <= maxId; from += batchSize) {
+			long to = from + batchSize - 1;
+			repaired += jdbcTemplate.update(reconcileSql, from, to, from, to);
+		}
+		return repaired;
+	}
+}
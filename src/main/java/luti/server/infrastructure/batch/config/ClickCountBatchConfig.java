@@ -1,28 +1,105 @@
 package luti.server.infrastructure.batch.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import luti.server.infrastructure.batch.ClickCountDatabaseWriter;
+import luti.server.infrastructure.batch.ClickCountPartitioner;
 import luti.server.infrastructure.batch.ClickCountRedisReader;
+import luti.server.infrastructure.batch.ClickSyncJobRunner;
 import luti.server.infrastructure.batch.dto.ClickCountData;
 
 @Configuration
 public class ClickCountBatchConfig {
 
+	public static final String CLICK_SYNC_PARTITION_EXECUTOR = "clickSyncPartitionExecutor";
+	public static final String IN_MEMORY_REPOSITORY = "in-memory";
+
+	private static final Logger log = LoggerFactory.getLogger(ClickCountBatchConfig.class);
+
+	private final boolean inMemoryRepository;
+	private final ResourcelessJobRepository inMemoryJobRepository = new ResourcelessJobRepository();
+
+	/**
+	 * job-repository=in-memory 면 클릭 동기화 job/step 은 메타데이터를 DB에 남기지 않는 ResourcelessJobRepository 사용
+	 * (실행마다 BATCH_* 테이블 INSERT/UPDATE 가 사라지는 대신 재시작 정보가 없음,
+	 *  재처리는 Redis claim 복구 + ledger 로 보장되므로 재시작 정보가 필요 없음)
+	 * ResourcelessJobRepository 는 파티션 step 실행 이력을 구분하지 못하므로 partitions 가 2 이상이면 jdbc 로 실행
+	 * 다른 job 이 쓰는 기본 JobRepository/JobLauncher 빈은 그대로 둠
+	 */
+	public ClickCountBatchConfig(
+		@Value("${batch.click-count-sync.job-repository:in-memory}") String jobRepositoryMode,
+		@Value("${batch.click-count-sync.partitions:1}") int partitions
+	) {
+		boolean inMemoryRequested = IN_MEMORY_REPOSITORY.equalsIgnoreCase(jobRepositoryMode);
+		if (inMemoryRequested && partitions > 1) {
+			log.warn("파티션 모드는 in-memory job repository 를 지원하지 않아 jdbc 로 실행: partitions={}", partitions);
+		}
+		this.inMemoryRepository = inMemoryRequested && partitions <= 1;
+	}
+
+	private JobRepository clickSyncJobRepository(JobRepository jdbcJobRepository) {
+		return inMemoryRepository ? inMemoryJobRepository : jdbcJobRepository;
+	}
+
+	@Bean
+	public ClickSyncJobRunner clickSyncJobRunner(
+		JobLauncher jobLauncher,
+		Job clickCountSyncJob,
+		MeterRegistry meterRegistry
+	) throws Exception {
+		JobLauncher launcher = jobLauncher;
+		if (inMemoryRepository) {
+			TaskExecutorJobLauncher inMemoryLauncher = new TaskExecutorJobLauncher();
+			inMemoryLauncher.setJobRepository(inMemoryJobRepository);
+			inMemoryLauncher.afterPropertiesSet();
+			launcher = inMemoryLauncher;
+		}
+		return new ClickSyncJobRunner(launcher, clickCountSyncJob, meterRegistry, inMemoryRepository ? IN_MEMORY_REPOSITORY : "jdbc");
+	}
+
+	/**
+	 * partitions 가 1 이면 단일 step, 2 이상이면 dirty set 샤드를 나눠 파티션별 worker 스레드에서 병렬 실행
+	 * (각 worker 는 자신의 reader/writer 와 chunk 트랜잭션을 가짐, DB 커넥션 풀 크기 이하로 설정)
+	 */
 	@Bean
 	public Job clickCountSyncJob(
 		JobRepository jobRepository,
-		Step clickCountSyncStep
+		Step clickCountSyncStep,
+		@Value("${batch.click-count-sync.partitions:1}") int partitions,
+		@Qualifier(CLICK_SYNC_PARTITION_EXECUTOR) ThreadPoolTaskExecutor partitionExecutor
 	) {
-		return new JobBuilder("clickCountSyncJob", jobRepository)
-			.start(clickCountSyncStep)
+		JobRepository repository = clickSyncJobRepository(jobRepository);
+		if (partitions <= 1) {
+			return new JobBuilder("clickCountSyncJob", repository)
+				.start(clickCountSyncStep)
+				.build();
+		}
+
+		Step managerStep = new StepBuilder("clickCountSyncStep.manager", repository)
+			.partitioner("clickCountSyncStep", new ClickCountPartitioner())
+			.step(clickCountSyncStep)
+			.gridSize(partitions)
+			.taskExecutor(partitionExecutor)
+			.build();
+
+		return new JobBuilder("clickCountSyncJob", repository)
+			.start(managerStep)
 			.build();
 	}
 
@@ -33,10 +110,24 @@ public class ClickCountBatchConfig {
 		ClickCountRedisReader reader,
 		ClickCountDatabaseWriter writer
 	) {
-		return new StepBuilder("clickCountSyncStep", jobRepository)
+		return new StepBuilder("clickCountSyncStep", clickSyncJobRepository(jobRepository))
 			.<ClickCountData, ClickCountData>chunk(100, transactionManager)
 			.reader(reader)
 			.writer(writer)
 			.build();
 	}
+
+	@Bean(CLICK_SYNC_PARTITION_EXECUTOR)
+	public ThreadPoolTaskExecutor clickSyncPartitionExecutor(
+		@Value("${batch.click-count-sync.partitions:1}") int partitions
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(Math.max(1, partitions));
+		executor.setMaxPoolSize(Math.max(1, partitions));
+		executor.setQueueCapacity(0);
+		executor.setThreadNamePrefix("click-sync-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
 }
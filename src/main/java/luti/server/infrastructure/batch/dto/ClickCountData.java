@@ -1,12 +1,18 @@
 package luti.server.infrastructure.batch.dto;
 
+import java.time.LocalDateTime;
+
 public class ClickCountData {
 	private final Long scrambledId;
 	private final Long count;
+	private final LocalDateTime hour;  // 클릭이 발생한 시간 (분, 초 절삭), 이전 형식 키면 null
+	private final Long claimId;  // Redis claim(click:processing:{claimId}) 식별자, DB 반영 후 ack 용도
 
-	private ClickCountData(Long scrambledId, Long count) {
+	private ClickCountData(Long scrambledId, Long count, LocalDateTime hour, Long claimId) {
 		this.scrambledId = scrambledId;
 		this.count = count;
+		this.hour = hour;
+		this.claimId = claimId;
 	}
 
 	public Long getScrambledId() {
@@ -17,8 +23,20 @@ public class ClickCountData {
 		return count;
 	}
 
+	public LocalDateTime getHour() {
+		return hour;
+	}
+
+	public Long getClaimId() {
+		return claimId;
+	}
+
 	public static ClickCountData of(Long scrambledId, Long count) {
-		return new ClickCountData(scrambledId, count);
+		return new ClickCountData(scrambledId, count, null, null);
+	}
+
+	public static ClickCountData of(Long scrambledId, Long count, LocalDateTime hour, Long claimId) {
+		return new ClickCountData(scrambledId, count, hour, claimId);
 	}
 
 }
@@ -0,0 +1,59 @@
+package luti.server.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * URL별 클릭 데이터 버전 (Redis, analytics:version:{urlMappingId})
+ *
+ * 클릭 동기화 writer 가 커밋 후 반영한 URL의 버전을 올리고, 분석 결과 캐시는 버전을 키에 포함해
+ * 데이터가 바뀐 URL만 다시 계산함
+ * 캐시 키에 시간대도 들어가므로 버전은 한 시간 안에서만 구분되면 됨 (만료 후 0부터 다시 시작해도 안전)
+ */
+@Component
+public class ClickDataVersions {
+
+	static final String VERSION_KEY_PREFIX = "analytics:version:";
+	static final long VERSION_KEY_TTL_SECONDS = 2 * 24 * 60 * 60;
+
+	private final RedisTemplate<String, Long> redisTemplate;
+
+	public ClickDataVersions(@Qualifier("cacheRedisTemplate") RedisTemplate<String, Long> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 현재 버전 (한 번도 바뀌지 않았거나 만료되었으면 0)
+	 */
+	public long current(Long urlMappingId) {
+		Long version = redisTemplate.opsForValue().get(versionKey(urlMappingId));
+		return version != null ? version : 0L;
+	}
+
+	/**
+	 * URL들의 버전을 파이프라인 한 번으로 증가 (INCR + EXPIRE)
+	 */
+	public void bump(Collection<Long> urlMappingIds) {
+		if (urlMappingIds.isEmpty()) {
+			return;
+		}
+
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (Long urlMappingId : urlMappingIds) {
+				byte[] key = versionKey(urlMappingId).getBytes(StandardCharsets.UTF_8);
+				connection.stringCommands().incr(key);
+				connection.keyCommands().expire(key, VERSION_KEY_TTL_SECONDS);
+			}
+			return null;
+		});
+	}
+
+	static String versionKey(Long urlMappingId) {
+		return VERSION_KEY_PREFIX + urlMappingId;
+	}
+}
@@ -0,0 +1,45 @@
+package luti.server.infrastructure.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 태그 할당 버전 (Redis, tag-index:version:{memberId})
+ *
+ * 태그 할당/해제, 태그 삭제, URL 삭제가 커밋되면 버전을 올리고, 각 인스턴스의 태그 인덱스는
+ * 버전이 다르면 다시 구성함
+ * 로컬 인덱스는 만료 시간이 이 키의 TTL 보다 훨씬 짧으므로, 키가 만료되어 0부터 다시 시작해도 안전
+ */
+@Component
+public class TagIndexVersions {
+
+	static final String VERSION_KEY_PREFIX = "tag-index:version:";
+	static final long VERSION_KEY_TTL_SECONDS = 24 * 60 * 60;
+
+	private final RedisTemplate<String, Long> redisTemplate;
+
+	public TagIndexVersions(@Qualifier("cacheRedisTemplate") RedisTemplate<String, Long> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 현재 버전 (한 번도 바뀌지 않았거나 만료되었으면 0)
+	 */
+	public long current(Long memberId) {
+		Long version = redisTemplate.opsForValue().get(versionKey(memberId));
+		return version != null ? version : 0L;
+	}
+
+	public void bump(Long memberId) {
+		String key = versionKey(memberId);
+		redisTemplate.opsForValue().increment(key);
+		redisTemplate.expire(key, Duration.ofSeconds(VERSION_KEY_TTL_SECONDS));
+	}
+
+	static String versionKey(Long memberId) {
+		return VERSION_KEY_PREFIX + memberId;
+	}
+}
@@ -0,0 +1,217 @@
+package luti.server.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import luti.server.domain.port.TagUrlIndex;
+import luti.server.domain.port.UrlTagReader;
+import luti.server.domain.service.dto.TagUrlEntry;
+import luti.server.domain.service.dto.TaggedUrlIds;
+import luti.server.domain.service.dto.UrlListCursor;
+
+/**
+ * 회원별 태그 → URL 압축 비트맵(Roaring) 역인덱스 (프로세스 내 Caffeine)
+ *
+ * - 회원 단위로 태그 할당을 URL (created_at, id) 오름차순으로 한 번에 읽어 URL 마다 순번을 매기고,
+ *   태그별 비트맵에는 URL id 대신 순번을 담음 (id 는 인스턴스별로 블록 단위 발급되어 생성 순서와 다를 수 있음)
+ * - 필터는 비트맵 교집합(AND)/합집합(OR) 으로 계산
+ * - 페이지는 결과 비트맵의 rank/select 로 순번 역순 limit 개만 꺼내 id 로 바꿈
+ *   (DB 목록 쿼리와 같은 (created_at, id) 역순, DB 는 그 id 들만 조회)
+ * - 인덱스에는 회원이 소유한 삭제되지 않은 URL 만 담기므로 결과 비트맵 크기가 곧 전체 개수
+ * - 태그 할당이 바뀌면 Redis 의 회원별 버전(TagIndexVersions)을 올리고, 버전이 다른 인덱스는 다시 구성
+ * - 버전 조회(Redis)에 실패하면 인덱스를 쓰지 않음 (호출 측이 DB 쿼리로 조회)
+ */
+@Component
+public class TagUrlBitmapIndex implements TagUrlIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(TagUrlBitmapIndex.class);
+
+	static final String METRIC_NAME = "tag.index.gets";
+
+	private final UrlTagReader urlTagReader;
+	private final TagIndexVersions versions;
+	private final boolean enabled;
+	private final Cache<Long, MemberTagIndex> cache;
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter bypasses;
+	private final Timer buildTimer;
+
+	public TagUrlBitmapIndex(
+		UrlTagReader urlTagReader,
+		TagIndexVersions versions,
+		MeterRegistry meterRegistry,
+		@Value("${tag-index.enabled:true}") boolean enabled,
+		@Value("${tag-index.maximum-size:1000}") long maximumSize,
+		@Value("${tag-index.expire-after-write:10m}") Duration expireAfterWrite
+	) {
+		this.urlTagReader = urlTagReader;
+		this.versions = versions;
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expireAfterWrite)
+			.build();
+
+		this.hits = resultCounter(meterRegistry, "hit");
+		this.misses = resultCounter(meterRegistry, "miss");
+		this.bypasses = resultCounter(meterRegistry, "bypass");
+		this.buildTimer = Timer.builder("tag.index.build").register(meterRegistry);
+		Gauge.builder("tag.index.size", cache, Cache::estimatedSize)
+			 .register(meterRegistry);
+	}
+
+	private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder(METRIC_NAME)
+					  .tag("result", result)
+					  .register(meterRegistry);
+	}
+
+	@Override
+	public Optional<TaggedUrlIds> find(Long memberId, List<Long> tagIds, boolean andMode,
+									   UrlListCursor before, long offset, int limit) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+
+		long version;
+		try {
+			version = versions.current(memberId);
+		} catch (RuntimeException e) {
+			bypasses.increment();
+			log.warn("태그 인덱스 버전 조회 실패 (DB 쿼리로 조회): memberId={}, error={}", memberId, e.getMessage());
+			return Optional.empty();
+		}
+
+		MemberTagIndex index = cache.getIfPresent(memberId);
+		if (index != null && index.version() == version) {
+			hits.increment();
+		} else {
+			misses.increment();
+			index = buildTimer.record(() -> build(memberId, version));
+			cache.put(memberId, index);
+		}
+
+		RoaringBitmap matched = index.match(tagIds, andMode);
+		return Optional.of(page(index, matched, before, offset, limit));
+	}
+
+	@Override
+	public void invalidate(Long memberId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			applyInvalidation(memberId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				applyInvalidation(memberId);
+			}
+		});
+	}
+
+	private void applyInvalidation(Long memberId) {
+		cache.invalidate(memberId);
+		try {
+			versions.bump(memberId);
+		} catch (RuntimeException e) {
+			// 다른 인스턴스의 인덱스는 expire-after-write 이후 다시 구성됨
+			log.warn("태그 인덱스 버전 갱신 실패: memberId={}, error={}", memberId, e.getMessage());
+		}
+	}
+
+	private MemberTagIndex build(Long memberId, long version) {
+		List<Long> urlIds = new ArrayList<>();
+		List<LocalDateTime> createdAts = new ArrayList<>();
+		Map<Long, RoaringBitmap> bitmaps = new HashMap<>();
+
+		// (created_at, id) 오름차순이라 같은 URL 의 할당은 연속해서 나옴
+		for (TagUrlEntry entry : urlTagReader.findActiveTagUrlEntries(memberId)) {
+			if (urlIds.isEmpty() || !urlIds.get(urlIds.size() - 1).equals(entry.getUrlId())) {
+				urlIds.add(entry.getUrlId());
+				createdAts.add(entry.getCreatedAt());
+			}
+			bitmaps.computeIfAbsent(entry.getTagId(), tagId -> new RoaringBitmap()).add(urlIds.size() - 1);
+		}
+		bitmaps.values().forEach(RoaringBitmap::runOptimize);
+
+		return new MemberTagIndex(version, bitmaps,
+			urlIds.stream().mapToLong(Long::longValue).toArray(), createdAts.toArray(LocalDateTime[]::new));
+	}
+
+	// before 보다 앞선 순번 중 큰 것부터 offset 개를 건너뛰고 limit 개 (rank/select 라 건너뛴 순번을 순회하지 않음)
+	static TaggedUrlIds page(MemberTagIndex index, RoaringBitmap matched, UrlListCursor before, long offset, int limit) {
+		long total = matched.getLongCardinality();
+		int bound = index.lowerBound(before);
+		long below = bound == 0 ? 0 : matched.rankLong(bound - 1);
+
+		List<Long> ids = new ArrayList<>(limit);
+		for (long rank = below - 1 - offset; rank >= 0 && ids.size() < limit; rank--) {
+			ids.add(index.urlIds()[matched.select((int) rank)]);
+		}
+		return TaggedUrlIds.of(ids, total);
+	}
+
+	/**
+	 * @param bitmaps 태그 id → URL 순번 비트맵
+	 * @param urlIds 순번 → URL id ((created_at, id) 오름차순)
+	 * @param createdAts 순번 → URL 생성 시각
+	 */
+	record MemberTagIndex(long version, Map<Long, RoaringBitmap> bitmaps, long[] urlIds, LocalDateTime[] createdAts) {
+
+		RoaringBitmap match(List<Long> tagIds, boolean andMode) {
+			RoaringBitmap result = null;
+			for (Long tagId : tagIds) {
+				RoaringBitmap bitmap = bitmaps.getOrDefault(tagId, new RoaringBitmap());
+				if (result == null) {
+					result = bitmap.clone();
+				} else if (andMode) {
+					result.and(bitmap);
+				} else {
+					result.or(bitmap);
+				}
+			}
+			return result != null ? result : new RoaringBitmap();
+		}
+
+		// (created_at, id) 가 before 이상인 첫 순번 (= before 보다 앞선 URL 수)
+		int lowerBound(UrlListCursor before) {
+			int low = 0;
+			int high = urlIds.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				int compared = createdAts[mid].compareTo(before.getCreatedAt());
+				if (compared == 0) {
+					compared = Long.compare(urlIds[mid], before.getId());
+				}
+				if (compared < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
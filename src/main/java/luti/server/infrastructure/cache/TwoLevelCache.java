@@ -0,0 +1,151 @@
+package luti.server.infrastructure.cache;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 2단계 캐시 (L1: 프로세스 내 Caffeine, L2: Redis)
+ * 조회 시 L1 -> L2 순으로 확인하고, L2 히트 시 L1에 적재
+ * L2 장애로 예외가 발생하면 그대로 전파하여 CacheErrorHandler의 DB fallback 흐름을 유지
+ */
+public class TwoLevelCache implements Cache {
+
+	static final String METRIC_NAME = "cache.tier.gets";
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+	private final Cache remoteCache;
+
+	private final Counter localHit;
+	private final Counter localMiss;
+	private final Counter remoteHit;
+	private final Counter remoteMiss;
+
+	public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+						 Cache remoteCache, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.localCache = localCache;
+		this.remoteCache = remoteCache;
+
+		this.localHit = tierCounter(meterRegistry, "l1", "hit");
+		this.localMiss = tierCounter(meterRegistry, "l1", "miss");
+		this.remoteHit = tierCounter(meterRegistry, "l2", "hit");
+		this.remoteMiss = tierCounter(meterRegistry, "l2", "miss");
+
+		Gauge.builder("cache.tier.size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+			 .tag("cache", name)
+			 .tag("tier", "l1")
+			 .register(meterRegistry);
+	}
+
+	private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+		return Counter.builder(METRIC_NAME)
+					  .tag("cache", name)
+					  .tag("tier", tier)
+					  .tag("result", result)
+					  .register(meterRegistry);
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return localCache;
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		// L1 조회
+		Object localValue = localCache.getIfPresent(key);
+		if (localValue != null) {
+			localHit.increment();
+			return new SimpleValueWrapper(localValue);
+		}
+		localMiss.increment();
+
+		// L2 조회 (Redis)
+		ValueWrapper remoteValue = remoteCache.get(key);
+		if (remoteValue == null) {
+			remoteMiss.increment();
+			return null;
+		}
+		remoteHit.increment();
+
+		// L2 히트 -> L1 적재
+		if (remoteValue.get() != null) {
+			localCache.put(key, remoteValue.get());
+		}
+		return remoteValue;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = (wrapper != null) ? wrapper.get() : null;
+
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+				"캐시 값 타입 불일치: cache=" + name + ", key=" + key + ", required=" + type.getName());
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper wrapper = get(key);
+		if (wrapper != null) {
+			return (T) wrapper.get();
+		}
+
+		T value;
+		try {
+			value = valueLoader.call();
+		} catch (Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+		put(key, value);
+		return value;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		// L1을 먼저 채워서 L2 저장 실패 시에도 로컬에서는 서빙 가능하도록 함
+		if (value != null) {
+			localCache.put(key, value);
+		}
+		remoteCache.put(key, value);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+		Object effective = (existing != null) ? existing.get() : value;
+		if (effective != null) {
+			localCache.put(key, effective);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		localCache.invalidate(key);
+		remoteCache.evict(key);
+	}
+
+	@Override
+	public void clear() {
+		localCache.invalidateAll();
+		remoteCache.clear();
+	}
+}
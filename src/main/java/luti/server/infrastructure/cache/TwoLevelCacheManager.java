@@ -0,0 +1,66 @@
+package luti.server.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * L1(Caffeine)을 앞단에 두는 CacheManager
+ * localCacheNames에 등록된 캐시만 2단계로 감싸고, 나머지는 원격 CacheManager(Redis)를 그대로 사용
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+	private final CacheManager remoteCacheManager;
+	private final Set<String> localCacheNames;
+	private final long localMaximumSize;
+	private final Duration localExpireAfterWrite;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, Cache> cacheMap = new ConcurrentHashMap<>();
+
+	public TwoLevelCacheManager(CacheManager remoteCacheManager, Collection<String> localCacheNames,
+								long localMaximumSize, Duration localExpireAfterWrite, MeterRegistry meterRegistry) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.localCacheNames = Set.copyOf(localCacheNames);
+		this.localMaximumSize = localMaximumSize;
+		this.localExpireAfterWrite = localExpireAfterWrite;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		if (!localCacheNames.contains(name)) {
+			return remoteCacheManager.getCache(name);
+		}
+
+		return cacheMap.computeIfAbsent(name, this::createTwoLevelCache);
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+		names.addAll(localCacheNames);
+		return names;
+	}
+
+	private Cache createTwoLevelCache(String name) {
+		Cache remoteCache = remoteCacheManager.getCache(name);
+
+		com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache = Caffeine.newBuilder()
+			.maximumSize(localMaximumSize)
+			.expireAfterWrite(localExpireAfterWrite)
+			.build();
+
+		return new TwoLevelCache(name, localCache, remoteCache, meterRegistry);
+	}
+}
@@ -0,0 +1,107 @@
+package luti.server.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import luti.server.domain.port.UrlAnalyticsCache;
+import luti.server.domain.service.dto.UrlAnalyticsInfo;
+
+/**
+ * 클릭 데이터 버전 기반 분석 결과 캐시 (프로세스 내 Caffeine)
+ *
+ * 키 = (urlMappingId, 클릭 데이터 버전, 집계 시간대)
+ * - 동기화로 클릭이 반영된 URL은 버전이 바뀌어 다음 조회에서 한 번만 다시 계산
+ * - 집계 구간이 시간 단위로 움직이므로 시간대가 바뀌면 새 키로 계산 (지난 시간대 엔트리는 만료로 정리)
+ * - 버전 조회(Redis)에 실패하면 캐시를 건너뛰고 매번 계산
+ */
+@Component
+public class VersionedUrlAnalyticsCache implements UrlAnalyticsCache {
+
+	private static final Logger log = LoggerFactory.getLogger(VersionedUrlAnalyticsCache.class);
+
+	static final String METRIC_NAME = "analytics.cache.gets";
+
+	private final ClickDataVersions versions;
+	private final boolean enabled;
+	private final Cache<CacheKey, UrlAnalyticsInfo> cache;
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter bypasses;
+	private final Timer recomputeTimer;
+
+	public VersionedUrlAnalyticsCache(
+		ClickDataVersions versions,
+		MeterRegistry meterRegistry,
+		@Value("${analytics.cache.enabled:true}") boolean enabled,
+		@Value("${analytics.cache.maximum-size:10000}") long maximumSize
+	) {
+		this.versions = versions;
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofHours(1))
+			.build();
+
+		this.hits = resultCounter(meterRegistry, "hit");
+		this.misses = resultCounter(meterRegistry, "miss");
+		this.bypasses = resultCounter(meterRegistry, "bypass");
+		this.recomputeTimer = Timer.builder("analytics.cache.recompute").register(meterRegistry);
+		Gauge.builder("analytics.cache.size", cache, Cache::estimatedSize)
+			 .register(meterRegistry);
+	}
+
+	private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder(METRIC_NAME)
+					  .tag("result", result)
+					  .register(meterRegistry);
+	}
+
+	@Override
+	public UrlAnalyticsInfo get(Long urlMappingId, LocalDateTime window, Supplier<UrlAnalyticsInfo> loader) {
+		if (!enabled) {
+			return recompute(loader);
+		}
+
+		long version;
+		try {
+			version = versions.current(urlMappingId);
+		} catch (RuntimeException e) {
+			bypasses.increment();
+			log.warn("클릭 데이터 버전 조회 실패 (캐시 없이 계산): urlMappingId={}, error={}", urlMappingId, e.getMessage());
+			return recompute(loader);
+		}
+
+		CacheKey key = new CacheKey(urlMappingId, version, window);
+		UrlAnalyticsInfo cached = cache.getIfPresent(key);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+		misses.increment();
+
+		UrlAnalyticsInfo computed = recompute(loader);
+		cache.put(key, computed);
+		return computed;
+	}
+
+	private UrlAnalyticsInfo recompute(Supplier<UrlAnalyticsInfo> loader) {
+		return recomputeTimer.record(loader);
+	}
+
+	private record CacheKey(Long urlMappingId, long version, LocalDateTime window) {
+	}
+}
@@ -0,0 +1,291 @@
+package luti.server.infrastructure.click;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import luti.server.domain.port.ClickCountRecorder;
+import luti.server.infrastructure.config.AsyncConfig;
+
+/**
+ * 클릭 수를 메모리 버퍼에 병합한 뒤 주기적으로 Redis에 일괄 반영하는 recorder
+ *
+ * - 리다이렉트 스레드는 메모리 버퍼에만 누적 (Redis 왕복 없음)
+ * - flush-interval 마다, 또는 버퍼 엔트리가 max-entries 를 넘으면 flush
+ * - 주기 flush 는 전용 스레드에서 실행 (공용 @Scheduled 스레드의 배치 작업이 길어져도 밀리지 않음)
+ * - flush 는 엔트리별 EVALSHA(ClickCountScript) 를 파이프라인 한 번으로 전송
+ * - flush 실패 시 파이프라인 결과가 오류인 (반영되지 않은) 엔트리만 버퍼에 되돌려 다음 주기에 재시도
+ *   (이미 반영된 엔트리를 되돌리면 중복 집계), 종료 시 남은 증가분 flush
+ * - click.buffer.enabled=false 면 버퍼 없이 클릭마다 스크립트 1회 호출 (click executor 에서 실행)
+ */
+@Component
+public class BufferedClickCountRecorder implements ClickCountRecorder {
+
+	private static final Logger log = LoggerFactory.getLogger(BufferedClickCountRecorder.class);
+
+	private final RedisTemplate<String, Long> redisTemplate;
+	private final ThreadPoolTaskExecutor clickRecordExecutor;
+	private final ClickCountBuffer<ClickKey> buffer;
+	private final boolean bufferEnabled;
+	private final int maxEntriesPerStripe;
+	private final long flushIntervalMillis;
+	private final ScheduledExecutorService flushScheduler;
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+	private final Counter flushedClicks;
+	private final Counter flushFailures;
+	private final Timer flushTimer;
+
+	public BufferedClickCountRecorder(
+		@Qualifier("cacheRedisTemplate") RedisTemplate<String, Long> redisTemplate,
+		@Qualifier(AsyncConfig.CLICK_RECORD_EXECUTOR) ThreadPoolTaskExecutor clickRecordExecutor,
+		MeterRegistry meterRegistry,
+		@Value("${click.buffer.enabled:true}") boolean bufferEnabled,
+		@Value("${click.buffer.max-entries:10000}") int maxEntries,
+		@Value("${click.buffer.flush-interval:500}") long flushIntervalMillis
+	) {
+		this.redisTemplate = redisTemplate;
+		this.clickRecordExecutor = clickRecordExecutor;
+		this.bufferEnabled = bufferEnabled;
+		this.buffer = new ClickCountBuffer<>(Runtime.getRuntime().availableProcessors());
+		this.maxEntriesPerStripe = Math.max(1, maxEntries / buffer.stripeCount());
+		this.flushIntervalMillis = Math.max(1L, flushIntervalMillis);
+		this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "click-flush");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.flushedClicks = Counter.builder("click.buffer.flushed.clicks").register(meterRegistry);
+		this.flushFailures = Counter.builder("click.buffer.flush.failures").register(meterRegistry);
+		this.flushTimer = Timer.builder("click.buffer.flush").register(meterRegistry);
+		Gauge.builder("click.buffer.pending.entries", buffer, ClickCountBuffer::pendingEntries)
+			 .register(meterRegistry);
+	}
+
+	/**
+	 * 클릭 1회 기록 (메모리 버퍼 누적만 수행, 클릭이 발생한 시간 버킷으로 구분)
+	 * @param scrambledId (shortCode를 base62 디코딩한 id값, 순차 id를 스크램블링한 값, pk 아님)
+	 */
+	@Override
+	public void record(Long scrambledId) {
+		long hourBucket = ClickHour.currentBucket();
+
+		if (!bufferEnabled) {
+			recordDirect(hourBucket, scrambledId);
+			return;
+		}
+
+		int stripeSize = buffer.add(new ClickKey(hourBucket, scrambledId));
+
+		// 임계치 초과 시 주기를 기다리지 않고 flush 요청 (중복 요청은 하나로 합침)
+		if (stripeSize >= maxEntriesPerStripe && flushRequested.compareAndSet(false, true)) {
+			try {
+				clickRecordExecutor.execute(() -> {
+					flushRequested.set(false);
+					flush();
+				});
+			} catch (RejectedExecutionException e) {
+				flushRequested.set(false);
+			}
+		}
+	}
+
+	/**
+	 * 버퍼 미사용 모드: 클릭마다 스크립트 1회 (EVALSHA, 스크립트 캐시 유실 시 EVAL 로 자동 fallback)
+	 * 큐 초과로 거절되면 클릭을 버림 (executor rejected 메트릭으로 집계)
+	 */
+	private void recordDirect(long hourBucket, Long scrambledId) {
+		clickRecordExecutor.execute(() -> {
+			try {
+				redisTemplate.execute(ClickCountScript.SCRIPT,
+					List.of(ClickCountScript.countKey(hourBucket, scrambledId), ClickDirtyShards.keyOf(scrambledId)),
+					1L, ClickCountScript.COUNT_KEY_TTL_SECONDS, hourBucket, scrambledId);
+			} catch (RuntimeException e) {
+				flushFailures.increment();
+				log.warn("클릭 수 Redis 기록 실패: scrambledId={}, error={}", scrambledId, e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * 기동 시 스크립트를 Redis 스크립트 캐시에 미리 적재
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void preloadScript() {
+		try {
+			loadScript();
+		} catch (RuntimeException e) {
+			log.warn("클릭 스크립트 사전 적재 실패 (첫 flush 시 재시도): error={}", e.getMessage());
+		}
+	}
+
+	@PostConstruct
+	public void startFlushSchedule() {
+		if (bufferEnabled) {
+			flushScheduler.scheduleWithFixedDelay(this::scheduledFlush, flushIntervalMillis, flushIntervalMillis,
+				TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void scheduledFlush() {
+		// 예외가 전파되면 이후 주기가 취소되므로 여기서 삼킴
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			log.warn("주기 flush 실패: error={}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 버퍼의 증가분을 Redis에 파이프라인으로 반영
+	 * 동시에 하나의 flush만 수행하며, 진행 중이면 건너뜀 (남은 증가분은 다음 flush에서 처리)
+	 */
+	public void flush() {
+		if (!flushLock.tryLock()) {
+			return;
+		}
+
+		try {
+			drainAndWrite();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 종료 시에는 진행 중인 flush를 기다린 뒤 남은 증가분까지 반영
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		flushScheduler.shutdown();
+		log.info("종료 전 클릭 버퍼 flush: pendingEntries={}", buffer.pendingEntries());
+
+		flushLock.lock();
+		try {
+			drainAndWrite();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void drainAndWrite() {
+		Map<ClickKey, Long> deltas = buffer.drain();
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		long startedAt = System.nanoTime();
+		Map<ClickKey, Long> unapplied = writeToRedis(deltas);
+		flushedClicks.increment(sum(deltas) - sum(unapplied));
+
+		if (!unapplied.isEmpty()) {
+			buffer.restore(unapplied);
+			flushFailures.increment();
+			return;
+		}
+
+		flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		log.debug("클릭 수 Redis flush 완료: entries={}", deltas.size());
+	}
+
+	/**
+	 * 엔트리별 EVALSHA 를 파이프라인으로 전송하고, 반영되지 않은 엔트리만 반환
+	 * 스크립트 캐시가 비워져 NOSCRIPT 가 나면 다시 적재 후 미반영 엔트리만 1회 재시도
+	 */
+	private Map<ClickKey, Long> writeToRedis(Map<ClickKey, Long> deltas) {
+		Map<ClickKey, Long> unapplied;
+		try {
+			executePipelinedScript(deltas);
+			return Map.of();
+		} catch (RuntimeException e) {
+			unapplied = unappliedEntries(deltas, e);
+			if (unapplied.isEmpty() || !ClickCountScript.isNoScriptError(e)) {
+				logRestore(deltas, unapplied, e);
+				return unapplied;
+			}
+		}
+
+		log.info("클릭 스크립트 캐시 유실 감지, 재적재 후 미반영 엔트리 재시도: entries={}", unapplied.size());
+		try {
+			loadScript();
+			executePipelinedScript(unapplied);
+			return Map.of();
+		} catch (RuntimeException e) {
+			Map<ClickKey, Long> stillUnapplied = unappliedEntries(unapplied, e);
+			logRestore(unapplied, stillUnapplied, e);
+			return stillUnapplied;
+		}
+	}
+
+	/**
+	 * 파이프라인 결과 중 오류인 엔트리만 미반영으로 판단 (결과 순서 = 전송 순서 = deltas 순회 순서)
+	 * 명령별 결과를 받지 못한 실패 (연결 실패, 응답 시간 초과) 는 반영 여부를 알 수 없어 전부 미반영으로 간주
+	 */
+	static Map<ClickKey, Long> unappliedEntries(Map<ClickKey, Long> sent, RuntimeException failure) {
+		if (!(failure instanceof RedisPipelineException pipelineException)
+			|| pipelineException.getPipelineResult().size() != sent.size()) {
+			return sent;
+		}
+
+		Map<ClickKey, Long> unapplied = new LinkedHashMap<>();
+		Iterator<Object> results = pipelineException.getPipelineResult().iterator();
+		sent.forEach((key, delta) -> {
+			if (results.next() instanceof Throwable) {
+				unapplied.put(key, delta);
+			}
+		});
+		return unapplied;
+	}
+
+	private void logRestore(Map<ClickKey, Long> sent, Map<ClickKey, Long> unapplied, RuntimeException e) {
+		log.warn("클릭 수 Redis flush 실패 (미반영 엔트리 버퍼 복원): entries={}, unapplied={}, error={}",
+				 sent.size(), unapplied.size(), e.getMessage());
+	}
+
+	private static long sum(Map<ClickKey, Long> deltas) {
+		return deltas.values().stream().mapToLong(Long::longValue).sum();
+	}
+
+	private void executePipelinedScript(Map<ClickKey, Long> deltas) {
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			deltas.forEach((key, delta) ->
+				ClickCountScript.evalSha(connection, key.hourBucket(), key.scrambledId(), delta));
+			return null;
+		});
+	}
+
+	private void loadScript() {
+		redisTemplate.execute((RedisCallback<Object>) connection -> {
+			ClickCountScript.load(connection);
+			return null;
+		});
+	}
+}
@@ -0,0 +1,84 @@
+package luti.server.infrastructure.click;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클릭 수 병합(coalescing) 버퍼
+ *
+ * 키(클릭 시간 + scrambledId)별 증가분을 메모리에 모아두었다가 flush 시 한 번에 꺼내감
+ * - 스레드별로 stripe를 나눠 같은 hot key에 대한 경합을 분산
+ * - 값은 불변 Long + ConcurrentHashMap.merge/remove 조합이라 drain 중 유입된 증가분도 유실되지 않음
+ *   (remove로 꺼낸 이후의 증가분은 새 엔트리로 쌓여 다음 flush에 반영)
+ */
+public class ClickCountBuffer<K> {
+
+	private final ConcurrentHashMap<K, Long>[] stripes;
+	private final int mask;
+
+	@SuppressWarnings("unchecked")
+	public ClickCountBuffer(int stripeCount) {
+		int size = (stripeCount <= 1) ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+		this.stripes = new ConcurrentHashMap[size];
+		this.mask = size - 1;
+
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ConcurrentHashMap<>();
+		}
+	}
+
+	/**
+	 * 클릭 1회 누적
+	 * @return 해당 stripe의 현재 엔트리 수 (flush 임계치 판단용)
+	 */
+	public int add(K key) {
+		ConcurrentHashMap<K, Long> stripe = stripes[stripeIndex()];
+		stripe.merge(key, 1L, Long::sum);
+		return stripe.size();
+	}
+
+	/**
+	 * 누적된 증가분을 모두 꺼내고 버퍼에서 제거
+	 */
+	public Map<K, Long> drain() {
+		Map<K, Long> drained = new HashMap<>();
+
+		for (ConcurrentHashMap<K, Long> stripe : stripes) {
+			for (K key : stripe.keySet()) {
+				Long delta = stripe.remove(key);
+				if (delta != null) {
+					drained.merge(key, delta, Long::sum);
+				}
+			}
+		}
+		return drained;
+	}
+
+	/**
+	 * flush 실패 시 꺼냈던 증가분을 다시 누적
+	 */
+	public void restore(Map<K, Long> deltas) {
+		ConcurrentHashMap<K, Long> stripe = stripes[stripeIndex()];
+		deltas.forEach((key, delta) -> stripe.merge(key, delta, Long::sum));
+	}
+
+	public long pendingEntries() {
+		long count = 0;
+		for (ConcurrentHashMap<K, Long> stripe : stripes) {
+			count += stripe.mappingCount();
+		}
+		return count;
+	}
+
+	public int stripeCount() {
+		return stripes.length;
+	}
+
+	private int stripeIndex() {
+		long id = Thread.currentThread().getId();
+		int hash = (int) (id ^ (id >>> 32));
+		hash ^= (hash >>> 16);
+		return ((hash * 0x9E3779B9) >>> 16) & mask;
+	}
+}
@@ -0,0 +1,92 @@
+package luti.server.infrastructure.click;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 클릭 기록 Lua 스크립트
+ * INCRBY + (최초 생성 시) EXPIRE + SADD(click:dirty:{shard}) 를 서버에서 원자적으로 한 번에 수행
+ *
+ * KEYS[1] = click:count:{yyyyMMddHH}:{scrambledId}, KEYS[2] = click:dirty:{shard} (ClickDirtyShards)
+ * ARGV[1] = 증가분, ARGV[2] = TTL(초), ARGV[3] = 클릭 시간 버킷(yyyyMMddHH), ARGV[4] = scrambledId
+ * dirty set 멤버는 "{yyyyMMddHH}:{scrambledId}" (카운트 키에서 접두사를 뺀 값)
+ */
+final class ClickCountScript {
+
+	static final String CLICK_COUNT_KEY_PREFIX = "click:count:";
+	// 시간 버킷별 키라 동기화가 밀려도 클릭 시간은 보존되므로, 만료는 동기화 지연보다 넉넉하게
+	static final long COUNT_KEY_TTL_SECONDS = 26 * 60 * 60;
+
+	private static final String LUA =
+		"local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+		"if count == tonumber(ARGV[1]) then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+		"redis.call('SADD', KEYS[2], ARGV[3] .. ':' .. ARGV[4]) " +
+		"return count";
+
+	static final RedisScript<Long> SCRIPT = RedisScript.of(LUA, Long.class);
+
+	private static final byte[] TTL_BYTES = bytes(String.valueOf(COUNT_KEY_TTL_SECONDS));
+
+	private ClickCountScript() {
+	}
+
+	static String sha() {
+		return SCRIPT.getSha1();
+	}
+
+	/**
+	 * 스크립트 캐시에 미리 적재 (SCRIPT LOAD)
+	 */
+	static void load(RedisConnection connection) {
+		connection.scriptingCommands().scriptLoad(bytes(LUA));
+	}
+
+	/**
+	 * 파이프라인 안에서 EVALSHA 호출 (결과는 파이프라인 종료 시 수집)
+	 */
+	static void evalSha(RedisConnection connection, long hourBucket, long scrambledId, long delta) {
+		connection.scriptingCommands().evalSha(
+			sha(), ReturnType.INTEGER, 2,
+			bytes(countKey(hourBucket, scrambledId)),
+			bytes(ClickDirtyShards.keyOf(scrambledId)),
+			bytes(String.valueOf(delta)),
+			TTL_BYTES,
+			bytes(String.valueOf(hourBucket)),
+			bytes(String.valueOf(scrambledId))
+		);
+	}
+
+	static String countKey(long hourBucket, long scrambledId) {
+		return CLICK_COUNT_KEY_PREFIX + hourBucket + ":" + scrambledId;
+	}
+
+	/**
+	 * 스크립트 캐시가 비워졌을 때 발생하는 오류인지 확인
+	 */
+	static boolean isNoScriptError(Throwable throwable) {
+		if (throwable instanceof RedisPipelineException pipelineException) {
+			for (Object result : pipelineException.getPipelineResult()) {
+				if (result instanceof Throwable failure && isNoScriptError(failure)) {
+					return true;
+				}
+			}
+		}
+
+		Throwable current = throwable;
+		while (current != null) {
+			if (current.getMessage() != null && current.getMessage().contains("NOSCRIPT")) {
+				return true;
+			}
+			current = current.getCause();
+		}
+		return false;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,51 @@
+package luti.server.infrastructure.click;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 동기화 대기 URL(dirty set)의 샤드 구성
+ *
+ * - dirty 멤버는 scrambledId 기준으로 click:dirty:{0..SHARD_COUNT-1} 에 나뉘어 기록
+ * - 샤드 수는 Redis 데이터 배치이므로 고정, 배치 파티션 수는 설정으로 바꿔도 샤드 -> 파티션 배정만 달라짐
+ * - 샤드 도입 이전 형식의 click:dirty 는 파티션 0 이 함께 소비
+ */
+public final class ClickDirtyShards {
+
+	public static final int SHARD_COUNT = 16;
+	public static final String LEGACY_KEY = "click:dirty";
+
+	private static final String KEY_PREFIX = "click:dirty:";
+
+	private ClickDirtyShards() {
+	}
+
+	public static int shardOf(long scrambledId) {
+		return (int) Math.floorMod(scrambledId, (long) SHARD_COUNT);
+	}
+
+	public static String keyOf(long scrambledId) {
+		return KEY_PREFIX + shardOf(scrambledId);
+	}
+
+	/**
+	 * 모든 dirty set 키 (샤드 + 이전 형식)
+	 */
+	public static List<String> allKeys() {
+		return keysForPartition(0, 1);
+	}
+
+	/**
+	 * 파티션에 배정된 dirty set 키 (shard % partitions == partition)
+	 */
+	public static List<String> keysForPartition(int partition, int partitions) {
+		List<String> keys = new ArrayList<>();
+		for (int shard = partition; shard < SHARD_COUNT; shard += partitions) {
+			keys.add(KEY_PREFIX + shard);
+		}
+		if (partition == 0) {
+			keys.add(LEGACY_KEY);
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,82 @@
+package luti.server.infrastructure.click;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 클릭 시간 버킷 (yyyyMMddHH 형태의 long, 예: 2026012103)
+ *
+ * Redis 클릭 키(click:count:{yyyyMMddHH}:{scrambledId})와 click_count_history.hour 사이의 변환 담당
+ * 리다이렉트 hot path 에서 매번 LocalDateTime 을 만들지 않도록 현재 시간 구간을 캐싱
+ */
+public final class ClickHour {
+
+	/** 시간 버킷이 없는 이전 형식(click:count:{scrambledId}) 데이터 */
+	public static final long LEGACY_BUCKET = 0L;
+
+	private static volatile Window window = Window.of(System.currentTimeMillis());
+
+	private ClickHour() {
+	}
+
+	public static long currentBucket() {
+		long now = System.currentTimeMillis();
+		Window current = window;
+		if (now < current.startMillis || now >= current.endMillis) {
+			current = Window.of(now);
+			window = current;
+		}
+		return current.bucket;
+	}
+
+	/**
+	 * 현재 시간 버킷부터 과거 hours 시간까지의 버킷 (최신순, hours + 1 개)
+	 */
+	public static long[] recentBuckets(int hours) {
+		LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+		long[] buckets = new long[hours + 1];
+		for (int i = 0; i <= hours; i++) {
+			buckets[i] = bucketOf(hour.minusHours(i));
+		}
+		return buckets;
+	}
+
+	public static long bucketOf(LocalDateTime time) {
+		return time.getYear() * 1_000_000L
+			+ time.getMonthValue() * 10_000L
+			+ time.getDayOfMonth() * 100L
+			+ time.getHour();
+	}
+
+	/**
+	 * @return 버킷에 해당하는 시각 (분, 초 절삭), 이전 형식이면 null
+	 */
+	public static LocalDateTime toHour(long bucket) {
+		if (bucket == LEGACY_BUCKET) {
+			return null;
+		}
+		return LocalDateTime.of(
+			(int) (bucket / 1_000_000L),
+			(int) (bucket / 10_000L % 100),
+			(int) (bucket / 100L % 100),
+			(int) (bucket % 100),
+			0
+		);
+	}
+
+	private record Window(long startMillis, long endMillis, long bucket) {
+
+		static Window of(long nowMillis) {
+			ZoneId zone = ZoneId.systemDefault();
+			LocalDateTime hour = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), zone)
+											  .truncatedTo(ChronoUnit.HOURS);
+			return new Window(
+				hour.atZone(zone).toInstant().toEpochMilli(),
+				hour.plusHours(1).atZone(zone).toInstant().toEpochMilli(),
+				bucketOf(hour)
+			);
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package luti.server.infrastructure.click;
+
+/**
+ * 클릭 버퍼 키 (클릭 시간 버킷 + scrambledId)
+ */
+record ClickKey(long hourBucket, long scrambledId) {
+}
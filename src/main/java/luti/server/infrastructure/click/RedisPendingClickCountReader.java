@@ -0,0 +1,80 @@
+package luti.server.infrastructure.click;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import luti.server.domain.port.PendingClickCountReader;
+
+/**
+ * 동기화 전 클릭 수를 Redis 카운트 키(click:count:{yyyyMMddHH}:{scrambledId})에서 조회
+ *
+ * - 요청한 모든 URL x 최근 lookback-hours 시간 버킷의 키를 MGET 한 번으로 조회 (URL 수와 관계없이 왕복 1회)
+ * - 카운트 키 TTL 이 26시간이라 기본 lookback 도 26시간 (그 이전 키는 이미 만료됨)
+ * - 동기화가 claim 해 DB 커밋을 기다리는 짧은 구간의 클릭은 포함되지 않음 (과소 집계만 가능, 중복 집계 없음)
+ * - Redis 조회 실패 시 빈 결과를 반환해 DB 값만 사용
+ */
+@Component
+public class RedisPendingClickCountReader implements PendingClickCountReader {
+
+	private static final Logger log = LoggerFactory.getLogger(RedisPendingClickCountReader.class);
+
+	private final RedisTemplate<String, Long> redisTemplate;
+	private final boolean enabled;
+	private final int lookbackHours;
+
+	public RedisPendingClickCountReader(
+		@Qualifier("cacheRedisTemplate") RedisTemplate<String, Long> redisTemplate,
+		@Value("${click.live-count.enabled:true}") boolean enabled,
+		@Value("${click.live-count.lookback-hours:26}") int lookbackHours
+	) {
+		this.redisTemplate = redisTemplate;
+		this.enabled = enabled;
+		this.lookbackHours = lookbackHours;
+	}
+
+	@Override
+	public Map<Long, Long> findPendingCounts(Collection<Long> scrambledIds) {
+		Map<Long, Long> pending = new HashMap<>();
+		if (!enabled || scrambledIds.isEmpty()) {
+			return pending;
+		}
+
+		long[] buckets = ClickHour.recentBuckets(lookbackHours);
+		List<Long> ids = List.copyOf(scrambledIds);
+		List<String> keys = new ArrayList<>(ids.size() * buckets.length);
+		for (Long scrambledId : ids) {
+			for (long bucket : buckets) {
+				keys.add(ClickCountScript.countKey(bucket, scrambledId));
+			}
+		}
+
+		List<Long> counts;
+		try {
+			counts = redisTemplate.opsForValue().multiGet(keys);
+		} catch (RuntimeException e) {
+			log.warn("동기화 전 클릭 수 조회 실패 (DB 값만 사용): urls={}, error={}", ids.size(), e.getMessage());
+			return pending;
+		}
+		if (counts == null) {
+			return pending;
+		}
+
+		for (int i = 0; i < counts.size(); i++) {
+			Long count = counts.get(i);
+			if (count != null && count != 0L) {
+				pending.merge(ids.get(i / buckets.length), count, Long::sum);
+			}
+		}
+		return pending;
+	}
+}
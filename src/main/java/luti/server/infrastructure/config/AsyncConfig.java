@@ -1,11 +1,20 @@
 package luti.server.infrastructure.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableAsync
@@ -13,6 +22,95 @@ public class AsyncConfig implements AsyncConfigurer {
 
 	private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
 
+	public static final String CLICK_RECORD_EXECUTOR = "clickRecordExecutor";
+	public static final String MY_URLS_FAN_OUT_EXECUTOR = "myUrlsFanOutExecutor";
+	public static final String CLICK_SYNC_EXECUTOR = "clickSyncExecutor";
+
+	/**
+	 * 클릭 기록 전용 executor
+	 * 큐가 가득 차면 작업을 버리고 카운트만 증가 (drop-and-count)
+	 * -> 리다이렉트 요청 스레드가 Redis 쓰기 지연에 묶이지 않도록 caller-runs는 사용하지 않음
+	 */
+	@Bean(CLICK_RECORD_EXECUTOR)
+	public ThreadPoolTaskExecutor clickRecordExecutor(
+		MeterRegistry meterRegistry,
+		@Value("${click.record.executor.core-pool-size:4}") int corePoolSize,
+		@Value("${click.record.executor.max-pool-size:8}") int maxPoolSize,
+		@Value("${click.record.executor.queue-capacity:10000}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("click-record-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+
+		Counter rejected = Counter.builder("click.record.executor.rejected")
+								  .description("큐 초과로 버려진 클릭 기록 작업 수")
+								  .register(meterRegistry);
+		executor.setRejectedExecutionHandler((task, pool) -> {
+			rejected.increment();
+			log.debug("클릭 기록 작업 거절 (큐 초과): queueSize={}", pool.getQueue().size());
+		});
+
+		Gauge.builder("click.record.executor.queue.size", executor,
+					  e -> e.getThreadPoolExecutor().getQueue().size())
+			 .register(meterRegistry);
+		Gauge.builder("click.record.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+			 .register(meterRegistry);
+
+		return executor;
+	}
+
+	/**
+	 * 목록 조회의 부가 데이터(태그, 미니 차트 통계) 병렬 조회 전용 executor
+	 * 작업마다 자체 읽기 전용 트랜잭션(DB 커넥션 1개)을 쓰므로 max-pool-size 는 커넥션 풀보다 작게
+	 * 큐가 가득 차면 바로 거절 (abort) -> 호출 측에서 태그는 요청 스레드에서 조회하고 통계는 생략
+	 * (caller-runs 면 통계 쿼리가 요청 스레드에서 돌아 stats-timeout 이 적용되지 않음)
+	 */
+	@Bean(MY_URLS_FAN_OUT_EXECUTOR)
+	public ThreadPoolTaskExecutor myUrlsFanOutExecutor(
+		MeterRegistry meterRegistry,
+		@Value("${my-urls.fan-out.executor.core-pool-size:4}") int corePoolSize,
+		@Value("${my-urls.fan-out.executor.max-pool-size:8}") int maxPoolSize,
+		@Value("${my-urls.fan-out.executor.queue-capacity:100}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("my-urls-fan-out-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+
+		Gauge.builder("my-urls.fan-out.executor.queue.size", executor,
+					  e -> e.getThreadPoolExecutor().getQueue().size())
+			 .register(meterRegistry);
+		Gauge.builder("my-urls.fan-out.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+			 .register(meterRegistry);
+
+		return executor;
+	}
+
+	/**
+	 * 클릭 수 동기화 배치 전용 executor (스레드 1개, 큐 없음)
+	 * 배치는 최대 max-duration 동안 실행되므로 공용 @Scheduled 스레드 대신 여기서 실행
+	 * 이미 실행 중이면 거절 (ClickCountBatchScheduler 가 다음 tick 에 다시 시도)
+	 */
+	@Bean(CLICK_SYNC_EXECUTOR)
+	public ThreadPoolTaskExecutor clickSyncExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(0);
+		executor.setThreadNamePrefix("click-sync-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
 	@Override
 	public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
 		return (throwable, method, params) -> {
@@ -1,9 +1,11 @@
 package luti.server.infrastructure.config;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
@@ -20,12 +22,24 @@ import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import luti.server.infrastructure.cache.TwoLevelCacheManager;
+
 @Configuration
 @EnableCaching
 public class RedisConfig implements CachingConfigurer {
 
 	private static final Logger log = LoggerFactory.getLogger(RedisConfig.class);
 
+	// 프로세스 내 L1 캐시를 앞단에 둘 캐시 목록 (리다이렉트 hot path)
+	private static final List<String> LOCAL_CACHE_NAMES = List.of("urlMapping");
+
+	@Value("${cache.local.maximum-size:10000}")
+	private long localCacheMaximumSize;
+
+	@Value("${cache.local.expire-after-write:10m}")
+	private Duration localCacheExpireAfterWrite;
+
 	@Bean("cacheRedisTemplate")
 	public RedisTemplate<String, Long> redisTemplate(RedisConnectionFactory connectionFactory) {
 		RedisTemplate<String, Long> template = new RedisTemplate<>();
@@ -42,7 +56,7 @@ public class RedisConfig implements CachingConfigurer {
 	}
 
 	@Bean
-	public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+	public CacheManager cacheManager(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
 		RedisCacheConfiguration config =
 			RedisCacheConfiguration.defaultCacheConfig()
 				.entryTtl(Duration.ofDays(7))  // 캐시의 기본 만료 시간 설정
@@ -59,10 +73,15 @@ public class RedisConfig implements CachingConfigurer {
 				)
 				.disableCachingNullValues();  //null 값은 캐시하지 않음
 
-		return
+		RedisCacheManager redisCacheManager =
 			RedisCacheManager.builder(connectionFactory)
 				.cacheDefaults(config)
 				.build();
+		redisCacheManager.afterPropertiesSet();
+
+		// L1(Caffeine) -> L2(Redis) -> DB 순으로 조회
+		return new TwoLevelCacheManager(redisCacheManager, LOCAL_CACHE_NAMES,
+			localCacheMaximumSize, localCacheExpireAfterWrite, meterRegistry);
 	}
 
 	@Override
@@ -94,13 +94,16 @@ public class SecurityConfig {
 				.jwt(Customizer.withDefaults())
 			);
 
-		// 인가 룰 - 기본은 모두 허용, My URLs 관련만 인증 필요
+		// 인가 룰 - 기본은 모두 허용, My URLs / 태그 / actuator(health 제외) 만 인증 필요
 		http
 			.authorizeHttpRequests(auth -> auth
 				// My URLs 관련 -> 인증 필요
 				.requestMatchers("/api/v1/my-urls/**").authenticated()
 				// 태그 관련 -> 인증 필요
 				.requestMatchers("/api/v1/tags/**").authenticated()
+				// actuator -> health 만 공개, metrics 등 나머지는 인증 필요
+				.requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+				.requestMatchers("/actuator/**").authenticated()
 
 				.anyRequest().permitAll()
 			);
@@ -0,0 +1,25 @@
+package luti.server.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import luti.server.infrastructure.filter.BloomUrlExistenceFilter;
+
+@Configuration
+public class UrlExistenceFilterConfig {
+
+	/**
+	 * 다른 인스턴스에서 생성된 URL을 로컬 Bloom filter에 반영하기 위한 구독
+	 */
+	@Bean
+	public RedisMessageListenerContainer urlCreatedListenerContainer(RedisConnectionFactory connectionFactory,
+																	 BloomUrlExistenceFilter urlExistenceFilter) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(urlExistenceFilter, new ChannelTopic(BloomUrlExistenceFilter.CREATED_CHANNEL));
+		return container;
+	}
+}
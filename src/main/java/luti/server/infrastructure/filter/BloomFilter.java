@@ -0,0 +1,134 @@
+package luti.server.infrastructure.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 키 전용 Bloom filter (thread-safe)
+ * 비트 배열은 AtomicLongArray로 관리하여 조회/추가를 락 없이 처리
+ * 해시는 64bit mix 함수 두 번으로 얻은 h1, h2를 조합하는 double hashing (Kirsch-Mitzenmacher)
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashFunctions;
+	private final long expectedInsertions;
+	private final AtomicLong insertions = new AtomicLong();
+
+	private BloomFilter(long bitSize, int hashFunctions, long expectedInsertions) {
+		int words = (int) Math.max(1, (bitSize + 63) / 64);
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long) words * 64;
+		this.hashFunctions = hashFunctions;
+		this.expectedInsertions = expectedInsertions;
+	}
+
+	/**
+	 * 예상 원소 수와 목표 오탐률로 최적 비트 수 / 해시 함수 개수 계산
+	 * m = -n * ln(p) / (ln2)^2, k = m / n * ln2
+	 */
+	public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions는 0보다 커야 합니다: " + expectedInsertions);
+		}
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("falsePositiveRate는 (0, 1) 범위여야 합니다: " + falsePositiveRate);
+		}
+
+		long bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+		return new BloomFilter(bitSize, hashFunctions, expectedInsertions);
+	}
+
+	public void put(long key) {
+		long h1 = mix(key);
+		long h2 = mix(h1);
+
+		boolean changed = false;
+		for (int i = 1; i <= hashFunctions; i++) {
+			changed |= setBit(index(h1 + i * h2));
+		}
+		if (changed) {
+			insertions.incrementAndGet();
+		}
+	}
+
+	public boolean mightContain(long key) {
+		long h1 = mix(key);
+		long h2 = mix(h1);
+
+		for (int i = 1; i <= hashFunctions; i++) {
+			if (!getBit(index(h1 + i * h2))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 비트 점유율 기준 예상 오탐률: (setBits / m) ^ k
+	 */
+	public double expectedFalsePositiveRate() {
+		return Math.pow((double) bitCount() / bitSize, hashFunctions);
+	}
+
+	public long bitCount() {
+		long count = 0;
+		for (int i = 0; i < bits.length(); i++) {
+			count += Long.bitCount(bits.get(i));
+		}
+		return count;
+	}
+
+	public long bitSize() {
+		return bitSize;
+	}
+
+	public int hashFunctions() {
+		return hashFunctions;
+	}
+
+	public long expectedInsertions() {
+		return expectedInsertions;
+	}
+
+	/**
+	 * 비트를 하나 이상 새로 세운 put 호출 수 (중복 키는 제외되는 근사치)
+	 */
+	public long approximateInsertions() {
+		return insertions.get();
+	}
+
+	private long index(long combinedHash) {
+		// 부호 비트 제거 후 비트 배열 범위로 축소
+		return (combinedHash & Long.MAX_VALUE) % bitSize;
+	}
+
+	private boolean setBit(long index) {
+		int word = (int) (index >>> 6);
+		long mask = 1L << index;
+
+		while (true) {
+			long current = bits.get(word);
+			if ((current & mask) != 0) {
+				return false;
+			}
+			if (bits.compareAndSet(word, current, current | mask)) {
+				return true;
+			}
+		}
+	}
+
+	private boolean getBit(long index) {
+		return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+	}
+
+	// SplitMix64 finalizer
+	private static long mix(long key) {
+		long z = key + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,337 @@
+package luti.server.infrastructure.filter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import luti.server.domain.port.UrlExistenceFilter;
+
+/**
+ * 존재하지 않는 shortCode를 Redis/DB 조회 전에 걸러내기 위한 Bloom filter
+ *
+ * - 기동 시 url_mapping의 scrambled_id 전체로 빌드
+ * - 단축 URL 저장 성공 시 로컬 필터에 추가 + Redis stream 에 기록 + pub/sub 으로 다른 인스턴스에 즉시 전파
+ * - pub/sub 은 최대 1회 전달이라 유실될 수 있으므로, 각 인스턴스가 catch-up-interval 마다 stream 을
+ *   마지막으로 읽은 위치부터 다시 읽어 누락분을 채움 (재빌드 시작 시점의 stream 위치부터 이어 읽음)
+ * - stream 을 읽지 못한 적이 있으면 (Redis 단절, 재연결) 다시 읽을 수 있게 된 시점에 전체 재빌드
+ * - 빌드 완료 전에는 모든 요청을 통과시킴 (오탐은 허용, 미탐은 허용하지 않음)
+ * - 주기적 / 수동 재빌드로 데이터 증가에 따른 오탐률 상승을 복구
+ */
+@Component
+public class BloomUrlExistenceFilter implements UrlExistenceFilter, MessageListener {
+
+	private static final Logger log = LoggerFactory.getLogger(BloomUrlExistenceFilter.class);
+
+	public static final String CREATED_CHANNEL = "url:created";
+	public static final String CREATED_STREAM = "url:created:stream";
+	static final String STREAM_FIELD = "id";
+	private static final int STREAM_READ_COUNT = 1_000;
+
+	private static final String SELECT_SCRAMBLED_IDS_SQL =
+		"SELECT id, scrambled_id FROM url_mapping WHERE id > ? AND scrambled_id IS NOT NULL ORDER BY id LIMIT ?";
+	private static final int SCAN_PAGE_SIZE = 10_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final boolean enabled;
+	private final long minExpectedInsertions;
+	private final double falsePositiveRate;
+	private final long streamMaxLength;
+
+	private volatile BloomFilter current;
+	private volatile BloomFilter building;
+	private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+	// 마지막으로 반영한 stream 엔트리 id (재빌드 전 null)
+	private volatile String lastStreamId;
+	private volatile boolean resyncRequired = false;
+
+	private final Counter rejectedCounter;
+	private final Counter passedCounter;
+	private final Counter falsePositiveCounter;
+
+	public BloomUrlExistenceFilter(JdbcTemplate jdbcTemplate, StringRedisTemplate stringRedisTemplate,
+								   MeterRegistry meterRegistry,
+								   @Value("${redirect.existence-filter.enabled:true}") boolean enabled,
+								   @Value("${redirect.existence-filter.min-expected-insertions:1000000}") long minExpectedInsertions,
+								   @Value("${redirect.existence-filter.false-positive-rate:0.01}") double falsePositiveRate,
+								   @Value("${redirect.existence-filter.stream-max-length:100000}") long streamMaxLength) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.enabled = enabled;
+		this.minExpectedInsertions = minExpectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.streamMaxLength = streamMaxLength;
+
+		this.rejectedCounter = Counter.builder("url.existence.filter.checks")
+									  .tag("result", "rejected")
+									  .register(meterRegistry);
+		this.passedCounter = Counter.builder("url.existence.filter.checks")
+									.tag("result", "passed")
+									.register(meterRegistry);
+		this.falsePositiveCounter = Counter.builder("url.existence.filter.false.positives")
+										   .register(meterRegistry);
+
+		Gauge.builder("url.existence.filter.expected.fpp", this, f -> f.expectedFalsePositiveRate())
+			 .register(meterRegistry);
+		Gauge.builder("url.existence.filter.observed.fpp", this, f -> f.observedFalsePositiveRate())
+			 .register(meterRegistry);
+		Gauge.builder("url.existence.filter.insertions", this, f -> f.approximateInsertions())
+			 .register(meterRegistry);
+	}
+
+	@Override
+	public boolean mightExist(Long scrambledId) {
+		BloomFilter filter = current;
+
+		// 비활성화 또는 빌드 전 -> 통과 (기존 흐름대로 Redis/DB 조회)
+		if (!enabled || filter == null || scrambledId == null) {
+			return true;
+		}
+
+		if (filter.mightContain(scrambledId)) {
+			passedCounter.increment();
+			return true;
+		}
+
+		rejectedCounter.increment();
+		return false;
+	}
+
+	@Override
+	public void register(Long scrambledId) {
+		if (scrambledId == null) {
+			return;
+		}
+
+		addLocal(scrambledId);
+
+		// 다른 인스턴스가 다시 읽을 수 있도록 stream 에 기록 (catch-up 으로 반영)
+		try {
+			stringRedisTemplate.opsForStream().add(CREATED_STREAM, Map.of(STREAM_FIELD, String.valueOf(scrambledId)),
+				RedisStreamCommands.XAddOptions.maxlen(streamMaxLength).approximateTrimming(true));
+		} catch (Exception e) {
+			log.error("URL 생성 stream 기록 실패 (다른 인스턴스는 다음 재빌드까지 미반영): scrambledId={}, error={}",
+					  scrambledId, e.getMessage());
+		}
+
+		// 다른 인스턴스 필터에 즉시 반영 (유실 시 catch-up 으로 보완)
+		try {
+			stringRedisTemplate.convertAndSend(CREATED_CHANNEL, String.valueOf(scrambledId));
+		} catch (Exception e) {
+			log.warn("URL 생성 이벤트 발행 실패: scrambledId={}, error={}", scrambledId, e.getMessage());
+		}
+	}
+
+	@Override
+	public void reportFalsePositive(Long scrambledId) {
+		if (enabled && current != null) {
+			falsePositiveCounter.increment();
+		}
+	}
+
+	/**
+	 * 다른 인스턴스에서 발행한 URL 생성 이벤트 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			addLocal(Long.parseLong(new String(message.getBody())));
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 URL 생성 이벤트 수신: body={}", new String(message.getBody()));
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		if (enabled) {
+			rebuild();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${redirect.existence-filter.rebuild-interval:21600000}",
+			   initialDelayString = "${redirect.existence-filter.rebuild-interval:21600000}")
+	public void scheduledRebuild() {
+		if (enabled) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * stream 에서 마지막으로 읽은 위치 이후의 URL 생성 기록을 반영 (pub/sub 유실 보완)
+	 * 읽기에 실패하면 그 사이 기록이 stream 에서 밀려났을 수 있으므로, 다시 연결되면 전체 재빌드
+	 */
+	@Scheduled(fixedDelayString = "${redirect.existence-filter.catch-up-interval:1000}")
+	public void catchUp() {
+		if (!enabled) {
+			return;
+		}
+
+		if (resyncRequired) {
+			if (rebuild()) {
+				resyncRequired = false;
+				log.info("URL 생성 stream 재연결 후 필터 재빌드 완료");
+			}
+			return;
+		}
+
+		if (current == null || lastStreamId == null) {
+			return;
+		}
+
+		try {
+			replayStream();
+		} catch (Exception e) {
+			resyncRequired = true;
+			log.warn("URL 생성 stream 읽기 실패 (재연결 시 재빌드): error={}", e.getMessage());
+		}
+	}
+
+	private void replayStream() {
+		while (true) {
+			List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+				StreamReadOptions.empty().count(STREAM_READ_COUNT),
+				StreamOffset.create(CREATED_STREAM, ReadOffset.from(lastStreamId)));
+			if (records == null || records.isEmpty()) {
+				return;
+			}
+
+			for (MapRecord<String, Object, Object> record : records) {
+				Object value = record.getValue().get(STREAM_FIELD);
+				if (value != null) {
+					addLocal(Long.parseLong(value.toString()));
+				}
+				lastStreamId = record.getId().getValue();
+			}
+
+			if (records.size() < STREAM_READ_COUNT) {
+				return;
+			}
+		}
+	}
+
+	// 아직 기록이 없으면 "0-0" (처음부터 읽기)
+	private String latestStreamId() {
+		List<MapRecord<String, Object, Object>> latest = stringRedisTemplate.opsForStream()
+			.reverseRange(CREATED_STREAM, Range.unbounded(), Limit.limit().count(1));
+		return latest == null || latest.isEmpty() ? "0-0" : latest.get(0).getId().getValue();
+	}
+
+	/**
+	 * DB의 scrambled_id 전체로 새 필터를 만들어 교체
+	 * 빌드 중 들어온 신규 등록은 building 필터에도 함께 기록하여 누락을 방지
+	 * 스캔 전에 stream 위치를 기록해 두고, 교체 후 그 위치부터 catch-up (스캔과 겹치는 기록은 중복 추가라 무해)
+	 *
+	 * @return 재빌드 수행 여부 (이미 진행 중이면 false)
+	 */
+	public boolean rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			log.info("URL 존재 필터 재빌드가 이미 진행 중");
+			return false;
+		}
+
+		try {
+			long startedAt = System.currentTimeMillis();
+			String streamPosition = latestStreamId();
+
+			Long rowCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM url_mapping", Long.class);
+			long expected = Math.max(minExpectedInsertions, (rowCount != null ? rowCount : 0L) * 2);
+
+			BloomFilter next = BloomFilter.create(expected, falsePositiveRate);
+			building = next;
+
+			long lastId = 0L;
+			long loaded = 0L;
+			while (true) {
+				List<long[]> page = jdbcTemplate.query(
+					SELECT_SCRAMBLED_IDS_SQL,
+					(rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)},
+					lastId, SCAN_PAGE_SIZE
+				);
+
+				for (long[] row : page) {
+					next.put(row[1]);
+				}
+				loaded += page.size();
+
+				if (page.size() < SCAN_PAGE_SIZE) {
+					break;
+				}
+				lastId = page.get(page.size() - 1)[0];
+			}
+
+			current = next;
+			lastStreamId = streamPosition;
+
+			log.info("URL 존재 필터 빌드 완료: loaded={}, expectedInsertions={}, bits={}, hashes={}, elapsedMs={}",
+					 loaded, expected, next.bitSize(), next.hashFunctions(), System.currentTimeMillis() - startedAt);
+			return true;
+
+		} catch (Exception e) {
+			log.error("URL 존재 필터 빌드 실패 (기존 필터 유지, catch-up 주기에 재시도)", e);
+			resyncRequired = true;
+			return false;
+
+		} finally {
+			building = null;
+			rebuilding.set(false);
+		}
+	}
+
+	public boolean isReady() {
+		return current != null;
+	}
+
+	public double expectedFalsePositiveRate() {
+		BloomFilter filter = current;
+		return filter != null ? filter.expectedFalsePositiveRate() : 0.0;
+	}
+
+	/**
+	 * 필터를 통과했지만 실제로는 존재하지 않았던 비율
+	 */
+	public double observedFalsePositiveRate() {
+		double passed = passedCounter.count();
+		return passed > 0 ? falsePositiveCounter.count() / passed : 0.0;
+	}
+
+	public long approximateInsertions() {
+		BloomFilter filter = current;
+		return filter != null ? filter.approximateInsertions() : 0L;
+	}
+
+	private void addLocal(long scrambledId) {
+		BloomFilter filter = current;
+		if (filter != null) {
+			filter.put(scrambledId);
+		}
+
+		BloomFilter next = building;
+		if (next != null) {
+			next.put(scrambledId);
+		}
+	}
+}
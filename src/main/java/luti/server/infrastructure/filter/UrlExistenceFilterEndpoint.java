@@ -0,0 +1,41 @@
+package luti.server.infrastructure.filter;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * URL 존재 필터 운영용 actuator 엔드포인트
+ * GET  /actuator/urlfilter : 필터 상태 조회
+ * POST /actuator/urlfilter : 필터 즉시 재빌드
+ * (management.endpoints.web.exposure.include 에 urlfilter 추가 시 노출)
+ */
+@Component
+@Endpoint(id = "urlfilter")
+public class UrlExistenceFilterEndpoint {
+
+	private final BloomUrlExistenceFilter filter;
+
+	public UrlExistenceFilterEndpoint(BloomUrlExistenceFilter filter) {
+		this.filter = filter;
+	}
+
+	@ReadOperation
+	public Map<String, Object> status() {
+		return Map.of(
+			"ready", filter.isReady(),
+			"approximateInsertions", filter.approximateInsertions(),
+			"expectedFalsePositiveRate", filter.expectedFalsePositiveRate(),
+			"observedFalsePositiveRate", filter.observedFalsePositiveRate()
+		);
+	}
+
+	@WriteOperation
+	public Map<String, Object> rebuild() {
+		boolean rebuilt = filter.rebuild();
+		return Map.of("rebuilt", rebuilt, "ready", filter.isReady());
+	}
+}
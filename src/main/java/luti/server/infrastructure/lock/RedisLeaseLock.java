@@ -0,0 +1,141 @@
+package luti.server.infrastructure.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Redis 기반 lease 락 (SET NX PX + 주기적 갱신)
+ *
+ * - 획득: SET key token NX PX ttl
+ * - 보유 중에는 ttl/3 마다 토큰이 일치할 때만 PEXPIRE 로 갱신
+ * - 보유 노드가 죽으면 갱신이 멈추고 ttl 후 만료되어 다른 노드가 획득 (failover)
+ * - 해제/갱신은 토큰을 비교하는 스크립트로 수행하여 남의 lease 를 건드리지 않음
+ */
+@Component
+public class RedisLeaseLock {
+
+	private static final Logger log = LoggerFactory.getLogger(RedisLeaseLock.class);
+
+	static final String KEY_PREFIX = "lock:";
+
+	static final RedisScript<Long> RENEW = RedisScript.of(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+		Long.class);
+
+	static final RedisScript<Long> RELEASE = RedisScript.of(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+		Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ScheduledExecutorService renewalExecutor;
+
+	public RedisLeaseLock(StringRedisTemplate stringRedisTemplate) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "lease-renewal");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * lease 획득 시도 (대기하지 않음)
+	 * @return 획득하면 갱신이 시작된 Lease, 다른 노드가 보유 중이면 empty
+	 */
+	public Optional<Lease> tryAcquire(String name, Duration ttl) {
+		String key = KEY_PREFIX + name;
+		String token = UUID.randomUUID().toString();
+
+		Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+		if (!Boolean.TRUE.equals(acquired)) {
+			return Optional.empty();
+		}
+
+		Lease lease = new Lease(key, token, ttl);
+		long period = Math.max(1L, ttl.toMillis() / 3);
+		lease.renewal = renewalExecutor.scheduleAtFixedRate(lease::renew, period, period, TimeUnit.MILLISECONDS);
+		return Optional.of(lease);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		renewalExecutor.shutdownNow();
+	}
+
+	public class Lease implements AutoCloseable {
+
+		private final String key;
+		private final String token;
+		private final Duration ttl;
+		private volatile boolean held = true;
+		private volatile ScheduledFuture<?> renewal;
+
+		private Lease(String key, String token, Duration ttl) {
+			this.key = key;
+			this.token = token;
+			this.ttl = ttl;
+		}
+
+		/**
+		 * 갱신 실패(만료 후 다른 노드가 획득) 시 false
+		 * 작업 도중 lease 를 잃으면 다른 노드와 잠시 동시에 실행될 수 있으므로, 보호 대상 작업은 중복 실행에 안전해야 함
+		 */
+		public boolean isHeld() {
+			return held;
+		}
+
+		void renew() {
+			if (!held) {
+				return;
+			}
+
+			try {
+				Long renewed = stringRedisTemplate.execute(RENEW, List.of(key), token, String.valueOf(ttl.toMillis()));
+				if (renewed == null || renewed == 0L) {
+					held = false;
+					cancelRenewal();
+					log.warn("lease 갱신 실패 (만료되어 다른 노드가 획득했을 수 있음): key={}", key);
+				}
+			} catch (Exception e) {
+				// 일시적 Redis 오류는 다음 주기에 재시도 (ttl 안에 복구되면 lease 유지)
+				log.warn("lease 갱신 중 오류: key={}, error={}", key, e.getMessage());
+			}
+		}
+
+		@Override
+		public void close() {
+			cancelRenewal();
+			if (!held) {
+				return;
+			}
+			held = false;
+
+			try {
+				stringRedisTemplate.execute(RELEASE, List.of(key), token);
+			} catch (Exception e) {
+				log.warn("lease 해제 실패 (ttl 후 만료됨): key={}, error={}", key, e.getMessage());
+			}
+		}
+
+		private void cancelRenewal() {
+			ScheduledFuture<?> future = renewal;
+			if (future != null) {
+				future.cancel(false);
+			}
+		}
+	}
+}
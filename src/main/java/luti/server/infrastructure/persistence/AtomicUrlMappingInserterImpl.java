@@ -4,18 +4,27 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import luti.server.domain.model.UrlMapping;
 import luti.server.domain.port.AtomicUrlMappingInserter;
+import luti.server.domain.port.MemberStore;
+import luti.server.domain.port.UrlExistenceFilter;
 import luti.server.domain.port.UrlMappingStore;
 
 @Component
 public class AtomicUrlMappingInserterImpl implements AtomicUrlMappingInserter {
 
 	private final UrlMappingStore urlMappingStore;
+	private final UrlExistenceFilter urlExistenceFilter;
+	private final MemberStore memberStore;
 
-	public AtomicUrlMappingInserterImpl(UrlMappingStore urlMappingStore) {
+	public AtomicUrlMappingInserterImpl(UrlMappingStore urlMappingStore, UrlExistenceFilter urlExistenceFilter,
+										MemberStore memberStore) {
 		this.urlMappingStore = urlMappingStore;
+		this.urlExistenceFilter = urlExistenceFilter;
+		this.memberStore = memberStore;
 	}
 
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -23,10 +32,25 @@ public class AtomicUrlMappingInserterImpl implements AtomicUrlMappingInserter {
 	public boolean tryInsert(UrlMapping urlMapping) {
 		try {
 			urlMappingStore.saveAndFlush(urlMapping);
+			// 회원 URL 이면 INSERT 와 같은 트랜잭션에서 소유 URL 카운터 증가
+			if (urlMapping.getMember() != null) {
+				memberStore.adjustUrlCount(urlMapping.getMember().getId(), 1);
+			}
+			registerAfterCommit(urlMapping.getScrambledId());
 			return true;
 		} catch (Exception e) {
 			TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
 			return false;
 		}
 	}
+
+	// 커밋 이후 존재 필터에 등록 (필터 재빌드 스캔과의 경합으로 인한 누락 방지)
+	private void registerAfterCommit(Long scrambledId) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				urlExistenceFilter.register(scrambledId);
+			}
+		});
+	}
 }
@@ -0,0 +1,19 @@
+package luti.server.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import luti.server.domain.model.ClickCountDaily;
+import luti.server.domain.model.UrlMapping;
+
+public interface ClickCountDailyRepository extends JpaRepository<ClickCountDaily, Long> {
+
+	/**
+	 * URL의 특정 날짜 이후 일별 클릭 수 조회 메서드 (일별/주별 통계용)
+	 */
+	List<ClickCountDaily> findByUrlMappingAndDateGreaterThanEqualOrderByDateAsc(
+		UrlMapping urlMapping,
+		LocalDate since);
+}
@@ -1,7 +1,10 @@
 package luti.server.infrastructure.persistence;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
@@ -22,4 +25,21 @@ public class ClickCountHistoryReaderImpl implements ClickCountHistoryReader {
 	public List<ClickCountHistory> findByUrlMappingAndHourGreaterThanEqual(UrlMapping urlMapping, LocalDateTime since) {
 		return repository.findByUrlMappingAndHourGreaterThanEqualOrderByHourAsc(urlMapping, since);
 	}
+
+	@Override
+	public Map<Long, Map<LocalDate, Long>> sumDailyClickCountsByUrlMappingIds(List<Long> urlMappingIds,
+																			 LocalDateTime since) {
+		Map<Long, Map<LocalDate, Long>> result = new HashMap<>();
+		if (urlMappingIds.isEmpty()) {
+			return result;
+		}
+
+		for (Object[] row : repository.sumDailyClickCountsByUrlMappingIds(urlMappingIds, since)) {
+			Long urlMappingId = ((Number) row[0]).longValue();
+			LocalDate date = (LocalDate) row[1];
+			long clickCount = ((Number) row[2]).longValue();
+			result.computeIfAbsent(urlMappingId, id -> new HashMap<>()).merge(date, clickCount, Long::sum);
+		}
+		return result;
+	}
 }
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import luti.server.domain.model.ClickCountHistory;
 import luti.server.domain.model.UrlMapping;
@@ -17,4 +19,16 @@ public interface ClickCountHistoryRepository extends JpaRepository<ClickCountHis
 	List<ClickCountHistory> findByUrlMappingAndHourGreaterThanEqualOrderByHourAsc(
 		UrlMapping urlMapping,
 		LocalDateTime since);
+
+	/**
+	 * 여러 URL의 특정 시간 이후 클릭 수를 (URL, 날짜) 별로 합산 (미니 차트 일괄 조회용)
+	 * 행: [urlMappingId(Long), 날짜(LocalDate), 클릭 수 합(Long)]
+	 */
+	@Query("SELECT h.urlMapping.id, cast(h.hour as LocalDate), SUM(h.clickCount) "
+		+ "FROM ClickCountHistory h "
+		+ "WHERE h.urlMapping.id IN :urlMappingIds "
+		+ "AND h.hour >= :since "
+		+ "GROUP BY h.urlMapping.id, cast(h.hour as LocalDate)")
+	List<Object[]> sumDailyClickCountsByUrlMappingIds(@Param("urlMappingIds") List<Long> urlMappingIds,
+													  @Param("since") LocalDateTime since);
 }
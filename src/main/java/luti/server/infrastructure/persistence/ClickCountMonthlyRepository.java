@@ -0,0 +1,19 @@
+package luti.server.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import luti.server.domain.model.ClickCountMonthly;
+import luti.server.domain.model.UrlMapping;
+
+public interface ClickCountMonthlyRepository extends JpaRepository<ClickCountMonthly, Long> {
+
+	/**
+	 * URL의 특정 월 이후 월별 클릭 수 조회 메서드 (월별 통계용)
+	 */
+	List<ClickCountMonthly> findByUrlMappingAndMonthGreaterThanEqualOrderByMonthAsc(
+		UrlMapping urlMapping,
+		LocalDate since);
+}
@@ -0,0 +1,34 @@
+package luti.server.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import luti.server.domain.model.ClickCountDaily;
+import luti.server.domain.model.ClickCountMonthly;
+import luti.server.domain.model.UrlMapping;
+import luti.server.domain.port.ClickCountRollupReader;
+
+@Component
+public class ClickCountRollupReaderImpl implements ClickCountRollupReader {
+
+	private final ClickCountDailyRepository dailyRepository;
+	private final ClickCountMonthlyRepository monthlyRepository;
+
+	public ClickCountRollupReaderImpl(ClickCountDailyRepository dailyRepository,
+									  ClickCountMonthlyRepository monthlyRepository) {
+		this.dailyRepository = dailyRepository;
+		this.monthlyRepository = monthlyRepository;
+	}
+
+	@Override
+	public List<ClickCountDaily> findDailyByUrlMappingAndDateGreaterThanEqual(UrlMapping urlMapping, LocalDate since) {
+		return dailyRepository.findByUrlMappingAndDateGreaterThanEqualOrderByDateAsc(urlMapping, since);
+	}
+
+	@Override
+	public List<ClickCountMonthly> findMonthlyByUrlMappingAndMonthGreaterThanEqual(UrlMapping urlMapping, LocalDate since) {
+		return monthlyRepository.findByUrlMappingAndMonthGreaterThanEqualOrderByMonthAsc(urlMapping, since);
+	}
+}
@@ -3,6 +3,9 @@ package luti.server.infrastructure.persistence;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import luti.server.domain.model.Member;
 import luti.server.domain.enums.Provider;
@@ -10,4 +13,8 @@ import luti.server.domain.enums.Provider;
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
 	Optional<Member> findByProviderAndProviderSubject(Provider provider, String providerSubject);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE Member m SET m.urlCount = m.urlCount + :delta WHERE m.id = :memberId")
+	void adjustUrlCount(@Param("memberId") Long memberId, @Param("delta") long delta);
 }
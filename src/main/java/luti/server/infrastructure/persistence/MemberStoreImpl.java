@@ -18,4 +18,9 @@ public class MemberStoreImpl implements MemberStore {
 	public Member save(Member member) {
 		return repository.save(member);
 	}
+
+	@Override
+	public void adjustUrlCount(Long memberId, long delta) {
+		repository.adjustUrlCount(memberId, delta);
+	}
 }
@@ -1,10 +1,13 @@
 package luti.server.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import luti.server.domain.model.Tag;
@@ -14,4 +17,8 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
 	List<Tag> findAllByMember_Id(Long memberId);
 	Optional<Tag> findByMember_IdAndName(Long memberId, String name);
 	long countByMember_Id(Long memberId);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE Tag t SET t.urlCount = t.urlCount + :delta WHERE t.id IN :tagIds")
+	void adjustUrlCounts(@Param("tagIds") Collection<Long> tagIds, @Param("delta") long delta);
 }
@@ -1,5 +1,7 @@
 package luti.server.infrastructure.persistence;
 
+import java.util.Collection;
+
 import org.springframework.stereotype.Component;
 
 import luti.server.domain.model.Tag;
@@ -23,4 +25,12 @@ public class TagStoreImpl implements TagStore {
 	public void deleteById(Long id) {
 		tagRepository.deleteById(id);
 	}
+
+	@Override
+	public void adjustUrlCounts(Collection<Long> tagIds, long delta) {
+		if (tagIds.isEmpty()) {
+			return;
+		}
+		tagRepository.adjustUrlCounts(tagIds, delta);
+	}
 }
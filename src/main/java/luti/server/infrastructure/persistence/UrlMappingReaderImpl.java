@@ -1,8 +1,10 @@
 package luti.server.infrastructure.persistence;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -43,4 +45,52 @@ public class UrlMappingReaderImpl implements UrlMappingReader {
 	public Page<UrlMapping> findByMemberIdAndAllTagIds(Long memberId, List<Long> tagIds, Pageable pageable) {
 		return repository.findByMemberIdAndAllTagIds(memberId, tagIds, (long) tagIds.size(), pageable);
 	}
+
+	@Override
+	public List<UrlMapping> findContentByMemberId(Long memberId, Pageable pageable) {
+		return repository.findAllByMember_IdAndDeletedAtIsNullOrderByCreatedAtDesc(memberId, pageable);
+	}
+
+	@Override
+	public List<UrlMapping> findContentByMemberIdAndTagId(Long memberId, Long tagId, Pageable pageable) {
+		return repository.findContentByMemberIdAndTagId(memberId, tagId, pageable);
+	}
+
+	@Override
+	public List<UrlMapping> findByIdsAndMemberId(List<Long> ids, Long memberId) {
+		return repository.findByIdInAndMember_IdAndDeletedAtIsNull(ids, memberId);
+	}
+
+	@Override
+	public List<UrlMapping> findByMemberIdBefore(Long memberId, LocalDateTime createdAt, Long id, int limit) {
+		return repository.findByMemberIdBefore(memberId, createdAt, id, Limit.of(limit));
+	}
+
+	@Override
+	public List<UrlMapping> findByMemberIdAndTagIdsBefore(Long memberId, List<Long> tagIds,
+														  LocalDateTime createdAt, Long id, int limit) {
+		return repository.findByMemberIdAndTagIdsBefore(memberId, tagIds, createdAt, id, Limit.of(limit));
+	}
+
+	@Override
+	public List<UrlMapping> findByMemberIdAndAllTagIdsBefore(Long memberId, List<Long> tagIds,
+															 LocalDateTime createdAt, Long id, int limit) {
+		return repository.findByMemberIdAndAllTagIdsBefore(memberId, tagIds, (long) tagIds.size(),
+			createdAt, id, Limit.of(limit));
+	}
+
+	@Override
+	public long countByMemberId(Long memberId) {
+		return repository.countByMember_IdAndDeletedAtIsNull(memberId);
+	}
+
+	@Override
+	public long countByMemberIdAndTagIds(Long memberId, List<Long> tagIds) {
+		return repository.countByMemberIdAndTagIds(memberId, tagIds);
+	}
+
+	@Override
+	public long countByMemberIdAndAllTagIds(Long memberId, List<Long> tagIds) {
+		return repository.countByMemberIdAndAllTagIds(memberId, tagIds, (long) tagIds.size());
+	}
 }
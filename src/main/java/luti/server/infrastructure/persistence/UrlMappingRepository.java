@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -29,18 +30,33 @@ public interface UrlMappingRepository extends JpaRepository<UrlMapping, Long> {
 
 
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
-	@Query("UPDATE UrlMapping u SET u.member.id = :memberId WHERE u.id = :urlMappingId")
-	void claimUrlMappingToMemberById(@Param("urlMappingId") Long urlMappingId, @Param("memberId") Long memberId);
+	@Query("UPDATE UrlMapping u SET u.member.id = :memberId WHERE u.id = :urlMappingId AND u.member IS NULL")
+	int claimUrlMappingToMemberById(@Param("urlMappingId") Long urlMappingId, @Param("memberId") Long memberId);
 
 	Page<UrlMapping> findByMember_IdAndDeletedAtIsNullOrderByCreatedAtDesc(Long memberId, Pageable pageable);
 
+	// 전체 개수는 회원/태그 카운터에서 읽으므로 COUNT 없이 페이지 내용만 조회
+
+	List<UrlMapping> findAllByMember_IdAndDeletedAtIsNullOrderByCreatedAtDesc(Long memberId, Pageable pageable);
+
+	@Query("SELECT u FROM UrlMapping u "
+		+ "WHERE u.member.id = :memberId "
+		+ "AND u.deletedAt IS NULL "
+		+ "AND EXISTS (SELECT 1 FROM UrlTag ut WHERE ut.urlMapping.id = u.id AND ut.tag.id = :tagId) "
+		+ "ORDER BY u.createdAt DESC")
+	List<UrlMapping> findContentByMemberIdAndTagId(@Param("memberId") Long memberId,
+												   @Param("tagId") Long tagId,
+												   Pageable pageable);
+
+	List<UrlMapping> findByIdInAndMember_IdAndDeletedAtIsNull(List<Long> ids, Long memberId);
+
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
 	@Query("UPDATE UrlMapping u SET u.description = :description WHERE u.id = :urlId")
 	void updateDescriptionById(@Param("urlId") Long urlId, @Param("description") String description);
 
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
-	@Query("UPDATE UrlMapping u SET u.deletedAt = :deletedAt, u.isDeleted = true WHERE u.id = :id")
-	void softDeleteById(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+	@Query("UPDATE UrlMapping u SET u.deletedAt = :deletedAt, u.isDeleted = true WHERE u.id = :id AND u.deletedAt IS NULL")
+	int softDeleteById(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
 
 	@Query(
 		value = "SELECT DISTINCT u FROM UrlMapping u "
@@ -82,4 +98,66 @@ public interface UrlMappingRepository extends JpaRepository<UrlMapping, Long> {
 												@Param("tagIds") List<Long> tagIds,
 												@Param("tagCount") Long tagCount,
 												Pageable pageable);
+
+	// keyset 페이지네이션: (createdAt, id) 가 커서보다 앞선 행만 역순으로 조회 (OFFSET, COUNT 없음)
+
+	@Query("SELECT u FROM UrlMapping u "
+		+ "WHERE u.member.id = :memberId "
+		+ "AND u.deletedAt IS NULL "
+		+ "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) "
+		+ "ORDER BY u.createdAt DESC, u.id DESC")
+	List<UrlMapping> findByMemberIdBefore(@Param("memberId") Long memberId,
+										  @Param("createdAt") LocalDateTime createdAt,
+										  @Param("id") Long id,
+										  Limit limit);
+
+	@Query("SELECT u FROM UrlMapping u "
+		+ "WHERE u.member.id = :memberId "
+		+ "AND u.deletedAt IS NULL "
+		+ "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) "
+		+ "AND EXISTS (SELECT 1 FROM UrlTag ut WHERE ut.urlMapping.id = u.id AND ut.tag.id IN :tagIds) "
+		+ "ORDER BY u.createdAt DESC, u.id DESC")
+	List<UrlMapping> findByMemberIdAndTagIdsBefore(@Param("memberId") Long memberId,
+												   @Param("tagIds") List<Long> tagIds,
+												   @Param("createdAt") LocalDateTime createdAt,
+												   @Param("id") Long id,
+												   Limit limit);
+
+	@Query("SELECT u FROM UrlMapping u "
+		+ "WHERE u.member.id = :memberId "
+		+ "AND u.deletedAt IS NULL "
+		+ "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) "
+		+ "AND :tagCount = ("
+		+     "SELECT COUNT(DISTINCT ut.tag.id) FROM UrlTag ut "
+		+     "WHERE ut.urlMapping.id = u.id "
+		+     "AND ut.tag.id IN :tagIds"
+		+ ") "
+		+ "ORDER BY u.createdAt DESC, u.id DESC")
+	List<UrlMapping> findByMemberIdAndAllTagIdsBefore(@Param("memberId") Long memberId,
+													  @Param("tagIds") List<Long> tagIds,
+													  @Param("tagCount") Long tagCount,
+													  @Param("createdAt") LocalDateTime createdAt,
+													  @Param("id") Long id,
+													  Limit limit);
+
+	long countByMember_IdAndDeletedAtIsNull(Long memberId);
+
+	@Query("SELECT COUNT(DISTINCT u) FROM UrlMapping u "
+		+ "INNER JOIN UrlTag ut ON u.id = ut.urlMapping.id "
+		+ "WHERE u.member.id = :memberId "
+		+ "AND u.deletedAt IS NULL "
+		+ "AND ut.tag.id IN :tagIds")
+	long countByMemberIdAndTagIds(@Param("memberId") Long memberId, @Param("tagIds") List<Long> tagIds);
+
+	@Query("SELECT COUNT(u) FROM UrlMapping u "
+		+ "WHERE u.member.id = :memberId "
+		+ "AND u.deletedAt IS NULL "
+		+ "AND :tagCount = ("
+		+     "SELECT COUNT(DISTINCT ut.tag.id) FROM UrlTag ut "
+		+     "WHERE ut.urlMapping.id = u.id "
+		+     "AND ut.tag.id IN :tagIds"
+		+ ")")
+	long countByMemberIdAndAllTagIds(@Param("memberId") Long memberId,
+									 @Param("tagIds") List<Long> tagIds,
+									 @Param("tagCount") Long tagCount);
 }
@@ -22,8 +22,8 @@ public class UrlMappingStoreImpl implements UrlMappingStore {
 	}
 
 	@Override
-	public void deleteById(Long id) {
-		repository.softDeleteById(id, LocalDateTime.now());
+	public boolean deleteById(Long id) {
+		return repository.softDeleteById(id, LocalDateTime.now()) > 0;
 	}
 
 	@Override
@@ -32,8 +32,8 @@ public class UrlMappingStoreImpl implements UrlMappingStore {
 	}
 
 	@Override
-	public void claimToMember(Long urlMappingId, Long memberId) {
-		repository.claimUrlMappingToMemberById(urlMappingId, memberId);
+	public boolean claimToMember(Long urlMappingId, Long memberId) {
+		return repository.claimUrlMappingToMemberById(urlMappingId, memberId) > 0;
 	}
 
 	@Override
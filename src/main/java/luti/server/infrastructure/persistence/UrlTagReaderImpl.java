@@ -1,11 +1,13 @@
 package luti.server.infrastructure.persistence;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.stereotype.Component;
 
 import luti.server.domain.model.UrlTag;
 import luti.server.domain.port.UrlTagReader;
+import luti.server.domain.service.dto.TagUrlEntry;
 
 @Component
 public class UrlTagReaderImpl implements UrlTagReader {
@@ -25,4 +27,11 @@ public class UrlTagReaderImpl implements UrlTagReader {
 	public List<UrlTag> findByUrlMappingIdIn(List<Long> urlMappingIds) {
 		return urlTagRepository.findByUrlMapping_IdIn(urlMappingIds);
 	}
+
+	@Override
+	public List<TagUrlEntry> findActiveTagUrlEntries(Long memberId) {
+		return urlTagRepository.findActiveTagUrlsByMemberId(memberId).stream()
+								.map(row -> TagUrlEntry.of((Long) row[0], (Long) row[1], (LocalDateTime) row[2]))
+								.toList();
+	}
 }
@@ -15,6 +15,13 @@ public interface UrlTagRepository extends JpaRepository<UrlTag, Long> {
 	List<UrlTag> findByUrlMapping_Id(Long urlMappingId);
 	List<UrlTag> findByUrlMapping_IdIn(List<Long> urlMappingIds);
 
+	// (tagId, urlMappingId, createdAt), URL 의 (createdAt, id) 오름차순
+	@Query("SELECT ut.tag.id, u.id, u.createdAt FROM UrlTag ut JOIN ut.urlMapping u "
+		+ "WHERE u.member.id = :memberId "
+		+ "AND u.deletedAt IS NULL "
+		+ "ORDER BY u.createdAt ASC, u.id ASC")
+	List<Object[]> findActiveTagUrlsByMemberId(@Param("memberId") Long memberId);
+
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
 	@Query("DELETE FROM UrlTag ut WHERE ut.urlMapping.id = :urlMappingId AND ut.tag.id IN :tagIds")
 	void deleteByUrlMappingIdAndTagIdIn(@Param("urlMappingId") Long urlMappingId, @Param("tagIds") List<Long> tagIds);
@@ -14,9 +14,11 @@ import luti.server.application.bus.QueryBus;
 import luti.server.application.command.ClaimUrlCommand;
 import luti.server.application.command.DeleteUrlCommand;
 import luti.server.application.command.DescriptionCommand;
+import luti.server.application.query.LiveClickCountsQuery;
 import luti.server.application.query.MyUrlsQuery;
 import luti.server.application.query.UrlAnalyticsQuery;
 import luti.server.application.query.VerifyUrlQuery;
+import luti.server.application.result.LiveClickCountsResult;
 import luti.server.application.result.MyUrlsListResult;
 import luti.server.application.result.UrlAnalyticsResult;
 import luti.server.application.result.UrlVerifyResult;
@@ -51,6 +53,11 @@ public class MyUrlsController {
 		return queryBus.execute(query);
 	}
 
+	@GetMapping("/click-counts")
+	public LiveClickCountsResult getLiveClickCounts(@ResolveQuery LiveClickCountsQuery query) {
+		return queryBus.execute(query);
+	}
+
 	@PatchMapping("/description")
 	@ResponseStatus(HttpStatus.NO_CONTENT)
 	public void updateDescription(@ResolveCommand DescriptionCommand command) {
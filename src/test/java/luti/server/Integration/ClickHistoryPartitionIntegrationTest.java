@@ -0,0 +1,179 @@
+package luti.server.Integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import luti.server.domain.enums.Provider;
+import luti.server.domain.model.Member;
+import luti.server.domain.model.UrlMapping;
+import luti.server.infrastructure.batch.ClickHistoryCompactor;
+import luti.server.infrastructure.batch.ClickHistoryPartitionManager;
+import luti.server.infrastructure.persistence.MemberRepository;
+import luti.server.infrastructure.persistence.UrlMappingRepository;
+
+@SpringBootTest
+@Testcontainers
+class ClickHistoryPartitionIntegrationTest {
+
+	@Container
+	static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("testdb")
+		.withUsername("test")
+		.withPassword("test");
+
+	@Container
+	static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+		.withExposedPorts(6379);
+
+	@DynamicPropertySource
+	static void configureProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysql::getJdbcUrl);
+		registry.add("spring.datasource.username", mysql::getUsername);
+		registry.add("spring.datasource.password", mysql::getPassword);
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+
+		registry.add("spring.data.redis.host", redis::getHost);
+		registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+
+		registry.add("JWT_SECRET_KEY", () -> "test-secret-key-for-jwt-signing-at-least-32-characters-long");
+		registry.add("JWT_ACCESS_TTL_SECONDS", () -> "3600");
+		registry.add("JWT_ISSUER", () -> "https://test.lill.ing");
+		registry.add("JWT_AUDIENCE", () -> "test.lill.ing");
+
+		registry.add("APP_ID", () -> "test-app");
+		registry.add("DOMAIN", () -> "lill.ing");
+		registry.add("SCRAMBLING_CONST_XOR1", () -> "13");
+		registry.add("SCRAMBLING_CONST_XOR2", () -> "7");
+		registry.add("SCRAMBLING_CONST_XOR3", () -> "17");
+
+		registry.add("batch.click-history-partition.enabled", () -> "true");
+		registry.add("batch.click-history-partition.months-ahead", () -> "2");
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ClickHistoryPartitionManager partitionManager;
+
+	@Autowired
+	private ClickHistoryCompactor compactor;
+
+	@Autowired
+	private UrlMappingRepository urlMappingRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	private final YearMonth currentMonth = YearMonth.now();
+	private final YearMonth oldMonth = YearMonth.now().minusMonths(2);
+	private Long urlMappingId;
+
+	@BeforeEach
+	void setUp() {
+		// 테스트마다 파티션 없는 빈 테이블에서 시작
+		if (!partitionNames().isEmpty()) {
+			jdbcTemplate.execute("ALTER TABLE click_count_history REMOVE PARTITIONING");
+		}
+		jdbcTemplate.update("DELETE FROM click_count_history");
+		jdbcTemplate.update("DELETE FROM click_count_daily");
+		jdbcTemplate.update("DELETE FROM click_history_compaction");
+		urlMappingRepository.deleteAll();
+		memberRepository.deleteAll();
+
+		Member member = memberRepository.save(new Member(Provider.GOOGLE, "google-partition", "partition@example.com"));
+		UrlMapping urlMapping = urlMappingRepository.save(UrlMapping.builder()
+			.kgsId(1000L)
+			.scrambledId(12345L)
+			.originalUrl("https://example.com")
+			.shortUrl("lill.ing/abc123")
+			.appId("test-app")
+			.member(member)
+			.clickCount(0L)
+			.build());
+		urlMappingId = urlMapping.getId();
+
+		insertHistory(oldMonth.atDay(3).atTime(10, 0), 5L);
+		insertHistory(oldMonth.atDay(3).atTime(11, 0), 7L);
+		insertHistory(currentMonth.atDay(1).atTime(9, 0), 3L);
+	}
+
+	private void insertHistory(LocalDateTime hour, long clickCount) {
+		jdbcTemplate.update(
+			"INSERT INTO click_count_history (url_mapping_id, click_count, hour, created_at, updated_at) VALUES (?, ?, ?, NOW(), NOW())",
+			urlMappingId, clickCount, hour);
+	}
+
+	private List<String> partitionNames() {
+		return jdbcTemplate.queryForList(
+			"SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+			"WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'click_count_history' AND PARTITION_NAME IS NOT NULL " +
+			"ORDER BY PARTITION_ORDINAL_POSITION", String.class);
+	}
+
+	@Test
+	@DisplayName("기존 테이블을 월 파티션으로 변환하고 미래 파티션을 미리 생성")
+	void 파티션변환_미래파티션() {
+		partitionManager.maintain(currentMonth);
+
+		List<String> partitions = partitionNames();
+		assertEquals(ClickHistoryPartitionManager.partitionName(oldMonth), partitions.get(0));
+		assertTrue(partitions.contains(ClickHistoryPartitionManager.partitionName(currentMonth.plusMonths(2))));
+		assertEquals("p_max", partitions.get(partitions.size() - 1));
+
+		// 변환 후에도 데이터 유지
+		assertEquals(15L, jdbcTemplate.queryForObject("SELECT SUM(click_count) FROM click_count_history", Long.class));
+
+		// 다음 달 기준으로 다시 실행하면 부족한 파티션만 추가
+		partitionManager.maintain(currentMonth.plusMonths(1));
+		assertTrue(partitionNames().contains(ClickHistoryPartitionManager.partitionName(currentMonth.plusMonths(3))));
+	}
+
+	@Test
+	@DisplayName("통계 조회 쿼리는 조회 구간의 파티션만 읽음 (EXPLAIN partition pruning)")
+	void 파티션프루닝() {
+		partitionManager.maintain(currentMonth);
+
+		LocalDateTime since = currentMonth.atDay(1).atStartOfDay();
+		List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+			"EXPLAIN SELECT * FROM click_count_history WHERE url_mapping_id = ? AND hour >= ? ORDER BY hour",
+			urlMappingId, since);
+
+		String partitions = String.valueOf(plan.get(0).get("partitions"));
+		assertTrue(partitions.contains(ClickHistoryPartitionManager.partitionName(currentMonth)), partitions);
+		assertFalse(partitions.contains(ClickHistoryPartitionManager.partitionName(oldMonth)), partitions);
+	}
+
+	@Test
+	@DisplayName("압축으로 확정된 월은 DELETE 없이 파티션째 제거되고 일별 롤업은 유지")
+	void 압축후_파티션제거() {
+		partitionManager.maintain(currentMonth);
+
+		compactor.compactBefore(oldMonth.plusMonths(1).atDay(1));
+		partitionManager.maintain(currentMonth);
+
+		assertFalse(partitionNames().contains(ClickHistoryPartitionManager.partitionName(oldMonth)));
+		assertEquals(3L, jdbcTemplate.queryForObject("SELECT SUM(click_count) FROM click_count_history", Long.class));
+		assertEquals(12L, jdbcTemplate.queryForObject(
+			"SELECT click_count FROM click_count_daily WHERE url_mapping_id = ? AND click_date = ?",
+			Long.class, urlMappingId, LocalDate.from(oldMonth.atDay(3))));
+	}
+}
@@ -92,12 +92,15 @@ class RedirectIntegrationTest {
 	}
 
 	/**
-	 * Redis에서 클릭 카운트 조회
+	 * Redis에서 클릭 카운트 조회 (시간 버킷별 키 click:count:{yyyyMMddHH}:{scrambledId} 합산)
 	 */
 	private Long getClickCountFromRedis(Long scrambledId) {
-		String countKey = "click:count:" + scrambledId;
-		Long count = redisTemplate.opsForValue().get(countKey);
-		return count != null ? count : 0L;
+		long total = 0L;
+		for (String countKey : redisTemplate.keys("click:count:*:" + scrambledId)) {
+			Long count = redisTemplate.opsForValue().get(countKey);
+			total += count != null ? count : 0L;
+		}
+		return total;
 	}
 
 	@Test
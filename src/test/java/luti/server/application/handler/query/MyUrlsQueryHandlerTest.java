@@ -0,0 +1,213 @@
+package luti.server.application.handler.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import luti.server.application.query.MyUrlsQuery;
+import luti.server.application.result.MyUrlsListResult;
+import luti.server.domain.model.Member;
+import luti.server.domain.model.Tag;
+import luti.server.domain.model.UrlMapping;
+import luti.server.domain.service.ClickStatisticsService;
+import luti.server.domain.service.LiveClickCountService;
+import luti.server.domain.service.MyUrlService;
+import luti.server.domain.service.TagService;
+import luti.server.domain.service.dto.MyUrlsListInfo;
+import luti.server.domain.service.dto.RecentDailyStatisticsInfo;
+import luti.server.domain.service.dto.TagInfo;
+import luti.server.exception.BusinessException;
+import luti.server.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MyUrlsQueryHandler - 태그/통계 병렬 조회 단위 테스트")
+class MyUrlsQueryHandlerTest {
+
+	private static final MyUrlsQuery QUERY = new MyUrlsQuery(0, 10, 1L, null, null);
+
+	@Mock
+	private MyUrlService myUrlService;
+
+	@Mock
+	private ClickStatisticsService clickStatisticsService;
+
+	@Mock
+	private TagService tagService;
+
+	@Mock
+	private LiveClickCountService liveClickCountService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private ExecutorService executor;
+	private SimpleMeterRegistry meterRegistry;
+	private MyUrlsQueryHandler handler;
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(2);
+		meterRegistry = new SimpleMeterRegistry();
+		handler = new MyUrlsQueryHandler(myUrlService, clickStatisticsService, tagService, liveClickCountService,
+			executor, meterRegistry, transactionManager, true, 200);
+
+		MyUrlsListInfo listInfo = MyUrlsListInfo.ofCursor(List.of(urlMapping(1L)), 10, null);
+		when(myUrlService.getMyUrls(1L, 0, 10, null, false)).thenReturn(listInfo);
+		when(liveClickCountService.applyPendingClicks(listInfo)).thenReturn(listInfo);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("태그와 미니 차트 통계를 executor 에서 조회해 함께 반환")
+	void 병렬조회_정상() {
+		// Given
+		when(tagService.getTagsForUrls(List.of(1L))).thenReturn(Map.of(1L, List.of(tagInfo())));
+		when(clickStatisticsService.getRecentDailyStatistics(List.of(1L))).thenReturn(stats());
+
+		// When
+		MyUrlsListResult result = handler.execute(QUERY);
+
+		// Then
+		MyUrlsListResult.MyUrlItemResult item = result.getUrls().get(0);
+		assertEquals(1, item.getTags().size());
+		assertEquals(1, item.getRecentDailyStats().size());
+		assertEquals(0.0, degraded("timeout"));
+	}
+
+	@Test
+	@DisplayName("통계 조회는 stats-timeout(초 단위 올림) 을 timeout 으로 둔 읽기 전용 트랜잭션에서 실행")
+	void 통계_트랜잭션timeout() {
+		// Given
+		when(tagService.getTagsForUrls(List.of(1L))).thenReturn(Map.of());
+		when(clickStatisticsService.getRecentDailyStatistics(List.of(1L))).thenReturn(stats());
+
+		// When
+		handler.execute(QUERY);
+
+		// Then
+		verify(transactionManager).getTransaction(argThat((TransactionDefinition definition) ->
+			definition.isReadOnly() && definition.getTimeout() == 1));
+	}
+
+	@Test
+	@DisplayName("통계가 stats-timeout 안에 끝나지 않으면 미니 차트 없이 목록 반환")
+	void 통계_시간초과_미니차트없이() {
+		// Given
+		when(tagService.getTagsForUrls(List.of(1L))).thenReturn(Map.of(1L, List.of(tagInfo())));
+		when(clickStatisticsService.getRecentDailyStatistics(List.of(1L))).thenAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return stats();
+		});
+
+		// When
+		MyUrlsListResult result = handler.execute(QUERY);
+
+		// Then
+		MyUrlsListResult.MyUrlItemResult item = result.getUrls().get(0);
+		assertEquals(1, item.getTags().size());
+		assertTrue(item.getRecentDailyStats().isEmpty());
+		assertEquals(1.0, degraded("timeout"));
+	}
+
+	@Test
+	@DisplayName("통계 조회가 실패해도 미니 차트 없이 목록 반환")
+	void 통계_실패_미니차트없이() {
+		// Given
+		when(tagService.getTagsForUrls(List.of(1L))).thenReturn(Map.of());
+		when(clickStatisticsService.getRecentDailyStatistics(List.of(1L))).thenThrow(new IllegalStateException("db"));
+
+		// When
+		MyUrlsListResult result = handler.execute(QUERY);
+
+		// Then
+		assertTrue(result.getUrls().get(0).getRecentDailyStats().isEmpty());
+		assertEquals(1.0, degraded("error"));
+	}
+
+	@Test
+	@DisplayName("executor 가 포화되어 거절하면 통계 없이 태그만 요청 스레드에서 조회")
+	void executor거절_통계생략() {
+		// Given
+		MyUrlsQueryHandler saturated = new MyUrlsQueryHandler(myUrlService, clickStatisticsService, tagService,
+			liveClickCountService, task -> {
+				throw new RejectedExecutionException("saturated");
+			}, meterRegistry, transactionManager, true, 200);
+		when(tagService.getTagsForUrls(List.of(1L))).thenReturn(Map.of(1L, List.of(tagInfo())));
+
+		// When
+		MyUrlsListResult result = saturated.execute(QUERY);
+
+		// Then
+		MyUrlsListResult.MyUrlItemResult item = result.getUrls().get(0);
+		assertEquals(1, item.getTags().size());
+		assertTrue(item.getRecentDailyStats().isEmpty());
+		assertEquals(1.0, degraded("rejected"));
+		verifyNoInteractions(clickStatisticsService, transactionManager);
+	}
+
+	@Test
+	@DisplayName("태그 조회 실패는 원래 예외로 전파")
+	void 태그_실패_전파() {
+		// Given
+		when(tagService.getTagsForUrls(List.of(1L))).thenThrow(new BusinessException(ErrorCode.TAG_NOT_FOUND));
+		when(clickStatisticsService.getRecentDailyStatistics(anyList())).thenReturn(stats());
+
+		// When & Then
+		BusinessException exception = assertThrows(BusinessException.class, () -> handler.execute(QUERY));
+		assertEquals(ErrorCode.TAG_NOT_FOUND, exception.getErrorCode());
+	}
+
+	private double degraded(String reason) {
+		return meterRegistry.get(MyUrlsQueryHandler.DEGRADED_METRIC_NAME).tag("reason", reason).counter().count();
+	}
+
+	private static RecentDailyStatisticsInfo stats() {
+		return RecentDailyStatisticsInfo.of(Map.of(1L, List.of(RecentDailyStatisticsInfo.DailyStat.of("2026-01-21", 3L))));
+	}
+
+	private static TagInfo tagInfo() {
+		Tag tag = Tag.builder().member(mock(Member.class)).name("태그").build();
+		ReflectionTestUtils.setField(tag, "id", 10L);
+		return TagInfo.from(tag);
+	}
+
+	private static UrlMapping urlMapping(Long id) {
+		UrlMapping urlMapping = UrlMapping.builder()
+			.scrambledId(100L + id)
+			.originalUrl("https://example.com/" + id)
+			.shortUrl("lill.ing/" + id)
+			.clickCount(0L)
+			.build();
+		ReflectionTestUtils.setField(urlMapping, "id", id);
+		ReflectionTestUtils.setField(urlMapping, "createdAt", LocalDateTime.of(2026, 1, 21, 3, 0));
+		return urlMapping;
+	}
+}
@@ -7,17 +7,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
-
-import luti.server.domain.model.ClickCountHistory;
+import luti.server.domain.model.ClickCountDaily;
 import luti.server.domain.service.dto.UrlAnalyticsInfo;
 
 /**
  * 일별 통계 집계자
- * 클릭 히스토리를 일 단위로 집계하여 최근 30일의 통계를 생성
+ * 일별 롤업으로 최근 30일의 통계를 생성
+ *
+ * FusedStatisticsAggregator 결과 검증용 기준 구현 (테스트 전용, 빈 아님)
  */
-@Component
-public class DailyStatisticsAggregator implements StatisticsAggregator<UrlAnalyticsInfo.DailyStat> {
+public class DailyStatisticsAggregator implements StatisticsAggregator<ClickCountDaily, UrlAnalyticsInfo.DailyStat> {
 
 	private static final int DAILY_RANGE_DAYS = 30;
 
@@ -25,24 +24,24 @@ public class DailyStatisticsAggregator implements StatisticsAggregator<UrlAnalyt
 	 * 일별 통계 집계
 	 * 현재 날짜 기준 최근 30일의 일별 클릭 통계를 생성
 	 *
-	 * @param histories 클릭 히스토리 목록
+	 * @param dailies 일별 롤업 목록
 	 * @param now 현재 시각
 	 * @return 일별 통계 목록 (30개)
 	 */
 	@Override
-	public List<UrlAnalyticsInfo.DailyStat> aggregate(List<ClickCountHistory> histories, LocalDateTime now) {
+	public List<UrlAnalyticsInfo.DailyStat> aggregate(List<ClickCountDaily> dailies, LocalDateTime now) {
 
 		// today, since 계산
 		LocalDate today = now.toLocalDate();
 		LocalDate since = today.minusDays(DAILY_RANGE_DAYS - 1);
 
-		// since 이후의 클릭 히스토리를 일 단위로 묶어서 Map 생성
-		Map<LocalDate, Long> dailyMap = histories.stream()
-												 .filter(h -> !h.getHour().toLocalDate().isBefore(since))
-												 .collect(Collectors.groupingBy(
-													 h -> h.getHour().toLocalDate(),
-													 Collectors.summingLong(ClickCountHistory::getClickCount)
-												 ));
+		// since 이후의 일별 롤업으로 Map 생성
+		Map<LocalDate, Long> dailyMap = dailies.stream()
+											   .filter(d -> !d.getDate().isBefore(since))
+											   .collect(Collectors.groupingBy(
+												   ClickCountDaily::getDate,
+												   Collectors.summingLong(ClickCountDaily::getClickCount)
+											   ));
 
 		// 빈 데이터 0으로 채우기
 		List<UrlAnalyticsInfo.DailyStat> result = new ArrayList<>();
@@ -0,0 +1,90 @@
+package luti.server.domain.aggregator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import net.jqwik.api.*;
+
+import luti.server.domain.model.ClickCountDaily;
+import luti.server.domain.model.ClickCountHistory;
+import luti.server.domain.model.ClickCountMonthly;
+import luti.server.domain.service.dto.UrlAnalyticsInfo;
+
+class FusedStatisticsAggregatorTest {
+
+	private final FusedStatisticsAggregator fused = new FusedStatisticsAggregator();
+	private final HourlyStatisticsAggregator hourly = new HourlyStatisticsAggregator();
+	private final DailyStatisticsAggregator daily = new DailyStatisticsAggregator();
+	private final WeeklyStatisticsAggregator weekly = new WeeklyStatisticsAggregator();
+	private final MonthlyStatisticsAggregator monthly = new MonthlyStatisticsAggregator();
+
+	@Property(tries = 300)
+	@Label("통합 집계 결과는 단위별 집계자 4개를 각각 실행한 결과와 동일")
+	void 단위별집계와_동일(@ForAll long seed, @ForAll("nows") LocalDateTime now) {
+		Random random = new Random(seed);
+
+		// 경계 밖(미래/과거), 정시가 아닌 시간, 같은 버킷 중복 행을 섞어서 생성
+		List<ClickCountHistory> histories = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			LocalDateTime hour = now.truncatedTo(ChronoUnit.HOURS).minusHours(random.nextInt(30) - 3);
+			if (random.nextInt(20) == 0) {
+				hour = hour.plusMinutes(30);
+			}
+			histories.add(history(hour, random.nextInt(1000)));
+		}
+
+		List<ClickCountDaily> dailies = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			LocalDate date = now.toLocalDate().minusDays(random.nextInt(100) - 7);
+			dailies.add(ClickCountDaily.builder().date(date).clickCount((long) random.nextInt(1000)).build());
+		}
+
+		List<ClickCountMonthly> monthlies = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			LocalDate month = now.toLocalDate().withDayOfMonth(1).minusMonths(random.nextInt(16) - 2);
+			monthlies.add(ClickCountMonthly.builder().month(month).clickCount((long) random.nextInt(1000)).build());
+		}
+
+		UrlAnalyticsInfo result = fused.aggregate(histories, dailies, monthlies, now);
+
+		assertThat(pairs(result.getHourlyStats(), s -> s.getHour() + "=" + s.getClickCount()))
+			.isEqualTo(pairs(hourly.aggregate(histories, now), s -> s.getHour() + "=" + s.getClickCount()));
+		assertThat(pairs(result.getDailyStats(), s -> s.getDate() + "=" + s.getClickCount()))
+			.isEqualTo(pairs(daily.aggregate(dailies, now), s -> s.getDate() + "=" + s.getClickCount()));
+		assertThat(pairs(result.getWeeklyStats(), s -> s.getWeekStart() + "=" + s.getClickCount()))
+			.isEqualTo(pairs(weekly.aggregate(dailies, now), s -> s.getWeekStart() + "=" + s.getClickCount()));
+		assertThat(pairs(result.getMonthlyStats(), s -> s.getYearMonth() + "=" + s.getClickCount()))
+			.isEqualTo(pairs(monthly.aggregate(monthlies, now), s -> s.getYearMonth() + "=" + s.getClickCount()));
+	}
+
+	@Provide
+	Arbitrary<LocalDateTime> nows() {
+		// 연말/월말/주 경계를 포함하도록 2년 범위의 임의 시각
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+		return Arbitraries.longs().between(0, 2L * 366 * 24 * 60)
+			.map(minutes -> base.plusMinutes(minutes));
+	}
+
+	private static <T> List<String> pairs(List<T> stats, Function<T, String> format) {
+		return stats.stream().map(format).toList();
+	}
+
+	private static ClickCountHistory history(LocalDateTime hour, long clickCount) {
+		ClickCountHistory history = ClickCountHistory.builder().hour(hour).build();
+		try {
+			var field = ClickCountHistory.class.getDeclaredField("clickCount");
+			field.setAccessible(true);
+			field.set(history, clickCount);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+		return history;
+	}
+}
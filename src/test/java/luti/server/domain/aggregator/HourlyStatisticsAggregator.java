@@ -8,17 +8,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
-
 import luti.server.domain.model.ClickCountHistory;
 import luti.server.domain.service.dto.UrlAnalyticsInfo;
 
 /**
  * 시간별 통계 집계자
  * 클릭 히스토리를 시간 단위로 집계하여 최근 24시간의 통계를 생성
+ *
+ * FusedStatisticsAggregator 결과 검증용 기준 구현 (테스트 전용, 빈 아님)
  */
-@Component
-public class HourlyStatisticsAggregator implements StatisticsAggregator<UrlAnalyticsInfo.HourlyStat> {
+public class HourlyStatisticsAggregator implements StatisticsAggregator<ClickCountHistory, UrlAnalyticsInfo.HourlyStat> {
 
 	private static final int HOURLY_RANGE_HOURS = 24;
 
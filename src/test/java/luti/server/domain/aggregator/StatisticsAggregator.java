@@ -0,0 +1,24 @@
+package luti.server.domain.aggregator;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 통계 집계자 인터페이스
+ * 클릭 히스토리(또는 일별/월별 롤업) 데이터를 특정 시간 단위로 집계하는 책임을 정의
+ * (운영 코드는 FusedStatisticsAggregator 를 사용하며, 단위별 구현은 그 결과를 검증하는 테스트 기준으로만 유지)
+ *
+ * @param <S> 집계 원본 타입 (ClickCountHistory, ClickCountDaily, ClickCountMonthly)
+ * @param <T> 집계 결과 타입 (HourlyStat, DailyStat, WeeklyStat, MonthlyStat)
+ */
+public interface StatisticsAggregator<S, T> {
+
+	/**
+	 * 클릭 데이터를 집계하여 통계 데이터를 생성
+	 *
+	 * @param sources 클릭 히스토리 또는 롤업 목록
+	 * @param now 현재 시각 (집계 기준 시점)
+	 * @return 집계된 통계 데이터 목록
+	 */
+	List<T> aggregate(List<S> sources, LocalDateTime now);
+}
@@ -9,17 +9,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
-
-import luti.server.domain.model.ClickCountHistory;
+import luti.server.domain.model.ClickCountDaily;
 import luti.server.domain.service.dto.UrlAnalyticsInfo;
 
 /**
  * 주별 통계 집계자
- * 클릭 히스토리를 주 단위로 집계하여 최근 12주의 통계를 생성
+ * 일별 롤업을 주 단위로 집계하여 최근 12주의 통계를 생성 (최대 84행)
+ *
+ * FusedStatisticsAggregator 결과 검증용 기준 구현 (테스트 전용, 빈 아님)
  */
-@Component
-public class WeeklyStatisticsAggregator implements StatisticsAggregator<UrlAnalyticsInfo.WeeklyStat> {
+public class WeeklyStatisticsAggregator implements StatisticsAggregator<ClickCountDaily, UrlAnalyticsInfo.WeeklyStat> {
 
 	private static final int WEEKLY_RANGE_WEEKS = 12;
 
@@ -28,26 +27,25 @@ public class WeeklyStatisticsAggregator implements StatisticsAggregator<UrlAnaly
 	 * 현재 주 기준 최근 12주의 주별 클릭 통계를 생성
 	 * 주의 시작은 월요일 기준
 	 *
-	 * @param histories 클릭 히스토리 목록
+	 * @param dailies 일별 롤업 목록
 	 * @param now 현재 시각
 	 * @return 주별 통계 목록 (12개)
 	 */
 	@Override
-	public List<UrlAnalyticsInfo.WeeklyStat> aggregate(List<ClickCountHistory> histories, LocalDateTime now) {
+	public List<UrlAnalyticsInfo.WeeklyStat> aggregate(List<ClickCountDaily> dailies, LocalDateTime now) {
 
 		// 이번 주 월요일과 since 계산
 		LocalDate currentWeekStart = now.toLocalDate()
 										.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 		LocalDate since = currentWeekStart.minusWeeks(WEEKLY_RANGE_WEEKS - 1);
 
-		// since 이후의 클릭 히스토리를 주 단위로 묶어서 Map 생성
-		Map<LocalDate, Long> weeklyMap = histories.stream()
-												  .filter(h -> !h.getHour().toLocalDate().isBefore(since))
-												  .collect(Collectors.groupingBy(
-													  h -> h.getHour().toLocalDate()
-															.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
-													  Collectors.summingLong(ClickCountHistory::getClickCount)
-												  ));
+		// since 이후의 일별 롤업을 주 단위로 묶어서 Map 생성
+		Map<LocalDate, Long> weeklyMap = dailies.stream()
+												.filter(d -> !d.getDate().isBefore(since))
+												.collect(Collectors.groupingBy(
+													d -> d.getDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+													Collectors.summingLong(ClickCountDaily::getClickCount)
+												));
 
 		// 빈 데이터 0으로 채우기
 		List<UrlAnalyticsInfo.WeeklyStat> result = new ArrayList<>();
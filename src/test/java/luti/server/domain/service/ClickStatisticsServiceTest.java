@@ -0,0 +1,74 @@
+package luti.server.domain.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import luti.server.domain.port.ClickCountHistoryReader;
+import luti.server.domain.service.dto.RecentDailyStatisticsInfo;
+import luti.server.domain.service.dto.RecentDailyStatisticsInfo.DailyStat;
+
+@ExtendWith(MockitoExtension.class)
+class ClickStatisticsServiceTest {
+
+	@Mock
+	private ClickCountHistoryReader clickCountHistoryReader;
+
+	private ClickStatisticsService clickStatisticsService;
+
+	@BeforeEach
+	void setUp() {
+		clickStatisticsService = new ClickStatisticsService(clickCountHistoryReader);
+	}
+
+	@Test
+	@DisplayName("여러 URL의 최근 7일 통계를 쿼리 1회로 조회하고 누락된 날짜는 0으로 채운다")
+	void 일괄_조회_후_0_채우기() {
+		// Given
+		LocalDate today = LocalDate.now();
+		LocalDateTime since = today.minusDays(6).atStartOfDay();
+		when(clickCountHistoryReader.sumDailyClickCountsByUrlMappingIds(List.of(1L, 2L), since))
+			.thenReturn(Map.of(1L, Map.of(today, 5L, today.minusDays(6), 3L)));
+
+		// When
+		RecentDailyStatisticsInfo info = clickStatisticsService.getRecentDailyStatistics(List.of(1L, 2L));
+
+		// Then
+		verify(clickCountHistoryReader, times(1)).sumDailyClickCountsByUrlMappingIds(anyList(), any());
+
+		List<DailyStat> first = info.getStatisticsForUrl(1L);
+		assertEquals(7, first.size());
+		assertEquals(today.minusDays(6).toString(), first.get(0).getDate());
+		assertEquals(3L, first.get(0).getClickCount());
+		assertEquals(0L, first.get(3).getClickCount());
+		assertEquals(today.toString(), first.get(6).getDate());
+		assertEquals(5L, first.get(6).getClickCount());
+
+		List<DailyStat> second = info.getStatisticsForUrl(2L);
+		assertEquals(7, second.size());
+		assertTrue(second.stream().allMatch(stat -> stat.getClickCount() == 0L));
+	}
+
+	@Test
+	@DisplayName("URL이 없으면 조회하지 않는다")
+	void 빈_목록() {
+		// When
+		RecentDailyStatisticsInfo info = clickStatisticsService.getRecentDailyStatistics(List.of());
+
+		// Then
+		verifyNoInteractions(clickCountHistoryReader);
+		assertTrue(info.getStatisticsForUrl(1L).isEmpty());
+	}
+}
@@ -0,0 +1,104 @@
+package luti.server.domain.service;
+
+import static luti.server.exception.ErrorCode.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import luti.server.domain.model.UrlMapping;
+import luti.server.domain.port.PendingClickCountReader;
+import luti.server.domain.port.UrlMappingReader;
+import luti.server.domain.service.dto.MyUrlsListInfo;
+import luti.server.exception.BusinessException;
+
+@ExtendWith(MockitoExtension.class)
+class LiveClickCountServiceTest {
+
+	@Mock
+	private UrlMappingReader urlMappingReader;
+
+	@Mock
+	private PendingClickCountReader pendingClickCountReader;
+
+	private LiveClickCountService liveClickCountService;
+
+	@BeforeEach
+	void setUp() {
+		liveClickCountService = new LiveClickCountService(urlMappingReader, pendingClickCountReader);
+	}
+
+	@Test
+	@DisplayName("목록 한 페이지의 DB 클릭 수에 대기 중인 클릭 수를 한 번에 조회해 더한다")
+	void 목록_대기클릭_반영() {
+		// Given
+		MyUrlsListInfo page = MyUrlsListInfo.from(new PageImpl<>(
+			List.of(urlMapping(1L, 101L, 10L), urlMapping(2L, 102L, 20L)), PageRequest.of(0, 10), 2));
+		when(pendingClickCountReader.findPendingCounts(List.of(101L, 102L))).thenReturn(Map.of(101L, 5L));
+
+		// When
+		MyUrlsListInfo result = liveClickCountService.applyPendingClicks(page);
+
+		// Then
+		verify(pendingClickCountReader, times(1)).findPendingCounts(anyCollection());
+		assertEquals(15L, result.getUrls().get(0).getClickCount());
+		assertEquals(20L, result.getUrls().get(1).getClickCount());
+		assertEquals(2L, result.getTotalElements());
+	}
+
+	@Test
+	@DisplayName("소유한 URL만 요청 순서대로 실시간 클릭 수를 반환한다")
+	void 실시간_클릭수_소유URL만() {
+		// Given
+		when(urlMappingReader.findByIdsAndMemberId(List.of(2L, 1L, 3L), 1L))
+			.thenReturn(List.of(urlMapping(1L, 101L, 10L), urlMapping(2L, 102L, 20L)));
+		when(pendingClickCountReader.findPendingCounts(anyCollection())).thenReturn(Map.of(102L, 4L));
+
+		// When
+		Map<Long, Long> result = liveClickCountService.getLiveClickCounts(1L, List.of(2L, 1L, 3L));
+
+		// Then
+		assertEquals(List.of(2L, 1L), new ArrayList<>(result.keySet()));
+		assertEquals(24L, result.get(2L));
+		assertEquals(10L, result.get(1L));
+	}
+
+	@Test
+	@DisplayName("최대 개수를 넘는 URL은 조회하지 않는다")
+	void 최대개수_초과() {
+		List<Long> urlIds = new ArrayList<>();
+		for (long id = 1; id <= LiveClickCountService.MAX_URL_IDS + 1; id++) {
+			urlIds.add(id);
+		}
+
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> liveClickCountService.getLiveClickCounts(1L, urlIds));
+
+		assertEquals(TOO_MANY_URL_IDS, exception.getErrorCode());
+		verifyNoInteractions(urlMappingReader, pendingClickCountReader);
+	}
+
+	private UrlMapping urlMapping(Long id, Long scrambledId, Long clickCount) {
+		UrlMapping urlMapping = UrlMapping.builder()
+			.scrambledId(scrambledId)
+			.originalUrl("https://example.com/" + id)
+			.shortUrl("lill.ing/" + id)
+			.clickCount(clickCount)
+			.build();
+		ReflectionTestUtils.setField(urlMapping, "id", id);
+		return urlMapping;
+	}
+}
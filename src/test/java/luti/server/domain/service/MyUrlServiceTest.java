@@ -0,0 +1,292 @@
+package luti.server.domain.service;
+
+import static luti.server.exception.ErrorCode.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.domain.Pageable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import luti.server.domain.enums.Provider;
+import luti.server.domain.model.Member;
+import luti.server.domain.model.Tag;
+import luti.server.domain.model.UrlMapping;
+import luti.server.domain.model.UrlTag;
+import luti.server.domain.port.MemberReader;
+import luti.server.domain.port.MemberStore;
+import luti.server.domain.port.TagReader;
+import luti.server.domain.port.TagStore;
+import luti.server.domain.port.TagUrlIndex;
+import luti.server.domain.port.UrlMappingReader;
+import luti.server.domain.port.UrlMappingStore;
+import luti.server.domain.port.UrlTagReader;
+import luti.server.domain.service.dto.MyUrlsListInfo;
+import luti.server.domain.service.dto.TaggedUrlIds;
+import luti.server.domain.service.dto.UrlListCursor;
+import luti.server.domain.service.dto.UrlMappingInfo;
+import luti.server.exception.BusinessException;
+
+@ExtendWith(MockitoExtension.class)
+class MyUrlServiceTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 21, 3, 0, 0, 123456000);
+
+	@Mock
+	private UrlMappingReader urlMappingReader;
+
+	@Mock
+	private UrlMappingStore urlMappingStore;
+
+	@Mock
+	private MemberReader memberReader;
+
+	@Mock
+	private MemberStore memberStore;
+
+	@Mock
+	private TagReader tagReader;
+
+	@Mock
+	private TagStore tagStore;
+
+	@Mock
+	private UrlTagReader urlTagReader;
+
+	@Mock
+	private TagUrlIndex tagUrlIndex;
+
+	private MyUrlService myUrlService;
+
+	@BeforeEach
+	void setUp() {
+		myUrlService = new MyUrlService(urlMappingReader, urlMappingStore, memberReader, memberStore,
+			tagReader, tagStore, urlTagReader, tagUrlIndex);
+	}
+
+	@Test
+	@DisplayName("태그 필터가 없으면 전체 개수를 회원 카운터에서 읽고 COUNT 하지 않는다")
+	void 목록_회원카운터() {
+		// Given
+		when(memberReader.findById(1L)).thenReturn(Optional.of(member(1L, 12L)));
+		when(urlMappingReader.findContentByMemberId(eq(1L), any(Pageable.class))).thenReturn(urlMappings(5));
+
+		// When
+		MyUrlsListInfo result = myUrlService.getMyUrls(1L, 0, 5, null, false);
+
+		// Then
+		assertEquals(12L, result.getTotalElements());
+		assertEquals(3L, result.getTotalPages());
+		verify(urlMappingReader, never()).findByMemberId(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("본인 태그 1개로 필터링하면 전체 개수를 태그 카운터에서 읽는다")
+	void 목록_태그카운터() {
+		// Given
+		Member member = member(1L, 12L);
+		when(tagReader.findById(5L)).thenReturn(Optional.of(tag(5L, member, 4L)));
+		when(urlMappingReader.findContentByMemberIdAndTagId(eq(1L), eq(5L), any(Pageable.class)))
+			.thenReturn(urlMappings(2));
+
+		// When
+		MyUrlsListInfo result = myUrlService.getMyUrls(1L, 0, 2, List.of(5L), true);
+
+		// Then
+		assertEquals(4L, result.getTotalElements());
+		assertEquals(2L, result.getTotalPages());
+		verify(urlMappingReader, never()).findByMemberIdAndAllTagIds(anyLong(), anyList(), any());
+	}
+
+	@Test
+	@DisplayName("태그 2개 이상 필터는 태그 인덱스가 준 id 순서대로 한 페이지만 조회한다")
+	void 목록_태그인덱스() {
+		// Given
+		List<UrlMapping> rows = urlMappings(3);
+		when(tagUrlIndex.find(1L, List.of(5L, 6L), false, UrlListCursor.first(), 2L, 2))
+			.thenReturn(Optional.of(TaggedUrlIds.of(List.of(3L, 1L), 7L)));
+		when(urlMappingReader.findByIdsAndMemberId(List.of(3L, 1L), 1L)).thenReturn(List.of(rows.get(2), rows.get(0)));
+
+		// When
+		MyUrlsListInfo result = myUrlService.getMyUrls(1L, 1, 2, List.of(5L, 6L), false);
+
+		// Then
+		assertEquals(List.of(3L, 1L), result.getUrlIds());
+		assertEquals(7L, result.getTotalElements());
+		verify(urlMappingReader, never()).findByMemberIdAndTagIds(anyLong(), anyList(), any());
+	}
+
+	@Test
+	@DisplayName("URL 삭제 시 회원 카운터와 URL 에 붙은 태그 카운터를 감소시킨다")
+	void 삭제_카운터감소() {
+		// Given
+		Member member = member(1L, 3L);
+		UrlMapping urlMapping = urlMappings(1).get(0);
+		ReflectionTestUtils.setField(urlMapping, "member", member);
+		when(urlMappingReader.findById(1L)).thenReturn(Optional.of(urlMapping));
+		when(urlTagReader.findByUrlMappingId(1L)).thenReturn(List.of(
+			UrlTag.of(urlMapping, tag(5L, member, 1L)), UrlTag.of(urlMapping, tag(6L, member, 1L))));
+		when(urlMappingStore.deleteById(1L)).thenReturn(true);
+
+		// When
+		myUrlService.deleteUrlMapping(1L, 1L);
+
+		// Then
+		verify(urlMappingStore).deleteById(1L);
+		verify(memberStore).adjustUrlCount(1L, -1);
+		verify(tagStore).adjustUrlCounts(List.of(5L, 6L), -1);
+		verify(tagUrlIndex).invalidate(1L);
+	}
+
+	@Test
+	@DisplayName("이미 삭제된 URL 은 카운터를 다시 감소시키지 않는다")
+	void 삭제_이미삭제됨() {
+		// Given
+		UrlMapping urlMapping = urlMappings(1).get(0);
+		ReflectionTestUtils.setField(urlMapping, "member", member(1L, 0L));
+		ReflectionTestUtils.setField(urlMapping, "deletedAt", BASE);
+		when(urlMappingReader.findById(1L)).thenReturn(Optional.of(urlMapping));
+
+		// When
+		myUrlService.deleteUrlMapping(1L, 1L);
+
+		// Then
+		verifyNoInteractions(urlMappingStore, memberStore, tagStore);
+	}
+
+	@Test
+	@DisplayName("조회 이후 다른 요청이 먼저 삭제했으면 카운터를 감소시키지 않는다")
+	void 삭제_동시삭제() {
+		// Given
+		UrlMapping urlMapping = urlMappings(1).get(0);
+		ReflectionTestUtils.setField(urlMapping, "member", member(1L, 1L));
+		when(urlMappingReader.findById(1L)).thenReturn(Optional.of(urlMapping));
+		when(urlMappingStore.deleteById(1L)).thenReturn(false);
+
+		// When
+		myUrlService.deleteUrlMapping(1L, 1L);
+
+		// Then
+		verifyNoInteractions(memberStore, tagStore, tagUrlIndex);
+	}
+
+	@Test
+	@DisplayName("소유자가 없는 URL 을 클레임하면 회원 카운터를 증가시킨다")
+	void 클레임_카운터증가() {
+		// Given
+		UrlMapping urlMapping = urlMappings(1).get(0);
+		when(urlMappingStore.claimToMember(1L, 1L)).thenReturn(true);
+
+		// When
+		myUrlService.claimUrlMappingToMember(UrlMappingInfo.from(urlMapping), 1L);
+
+		// Then
+		verify(memberStore).adjustUrlCount(1L, 1);
+	}
+
+	@Test
+	@DisplayName("조회 이후 다른 회원이 먼저 클레임했으면 ALREADY_OWNED_URL 이고 카운터는 그대로")
+	void 클레임_동시소유() {
+		// Given
+		UrlMapping urlMapping = urlMappings(1).get(0);
+		when(urlMappingStore.claimToMember(1L, 1L)).thenReturn(false);
+
+		// When & Then
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> myUrlService.claimUrlMappingToMember(UrlMappingInfo.from(urlMapping), 1L));
+		assertEquals(ALREADY_OWNED_URL, exception.getErrorCode());
+		verifyNoInteractions(memberStore);
+	}
+
+	@Test
+	@DisplayName("커서 모드 첫 페이지 - size + 1 개를 읽어 다음 커서를 만들고 COUNT 는 하지 않는다")
+	void 커서_첫페이지() {
+		// Given
+		when(urlMappingReader.findByMemberIdBefore(eq(1L), any(), eq(Long.MAX_VALUE), eq(3)))
+			.thenReturn(urlMappings(3));
+
+		// When
+		MyUrlsListInfo result = myUrlService.getMyUrlsByCursor(1L, null, 2, null, false, false);
+
+		// Then
+		assertEquals(List.of(3L, 2L), result.getUrlIds());
+		assertTrue(result.getHasNext());
+		assertNull(result.getTotalElements());
+		verify(urlMappingReader, never()).countByMemberId(anyLong());
+
+		UrlListCursor next = UrlListCursor.decode(result.getNextCursor());
+		assertEquals(2L, next.getId());
+		assertEquals(BASE.minusMinutes(8), next.getCreatedAt());
+	}
+
+	@Test
+	@DisplayName("커서 모드 - 전달받은 커서 다음부터 조회하고 요청 시에만 전체 개수를 조회한다")
+	void 커서_다음페이지_전체개수() {
+		// Given
+		String cursor = UrlListCursor.of(BASE.minusMinutes(2), 2L).encode();
+		when(urlMappingReader.findByMemberIdAndAllTagIdsBefore(1L, List.of(5L, 6L), BASE.minusMinutes(2), 2L, 3))
+			.thenReturn(urlMappings(1));
+		when(urlMappingReader.countByMemberIdAndAllTagIds(1L, List.of(5L, 6L))).thenReturn(3L);
+
+		// When
+		MyUrlsListInfo result = myUrlService.getMyUrlsByCursor(1L, cursor, 2, List.of(5L, 6L), true, true);
+
+		// Then
+		assertFalse(result.getHasNext());
+		assertNull(result.getNextCursor());
+		assertEquals(3L, result.getTotalElements());
+		assertEquals(2L, result.getTotalPages());
+	}
+
+	@Test
+	@DisplayName("잘못된 커서는 INVALID_CURSOR")
+	void 잘못된커서() {
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> myUrlService.getMyUrlsByCursor(1L, "not-a-cursor", 2, null, false, false));
+
+		assertEquals(INVALID_CURSOR, exception.getErrorCode());
+		verifyNoInteractions(urlMappingReader);
+	}
+
+	private Member member(Long id, Long urlCount) {
+		Member member = new Member(Provider.GOOGLE, "subject-" + id, "member" + id + "@example.com");
+		ReflectionTestUtils.setField(member, "id", id);
+		ReflectionTestUtils.setField(member, "urlCount", urlCount);
+		return member;
+	}
+
+	private Tag tag(Long id, Member member, Long urlCount) {
+		Tag tag = Tag.builder().member(member).name("태그" + id).build();
+		ReflectionTestUtils.setField(tag, "id", id);
+		ReflectionTestUtils.setField(tag, "urlCount", urlCount);
+		return tag;
+	}
+
+	// id 가 큰 순서(최신순)로 count 개, createdAt = BASE - (10 - id)분
+	private List<UrlMapping> urlMappings(int count) {
+		List<UrlMapping> result = new ArrayList<>();
+		for (long id = count; id >= 1; id--) {
+			UrlMapping urlMapping = UrlMapping.builder()
+				.scrambledId(100L + id)
+				.originalUrl("https://example.com/" + id)
+				.shortUrl("lill.ing/" + id)
+				.clickCount(0L)
+				.build();
+			ReflectionTestUtils.setField(urlMapping, "id", id);
+			ReflectionTestUtils.setField(urlMapping, "createdAt", BASE.minusMinutes(10 - id));
+			result.add(urlMapping);
+		}
+		return result;
+	}
+}
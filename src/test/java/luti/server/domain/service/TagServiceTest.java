@@ -25,6 +25,7 @@ import luti.server.domain.model.UrlTag;
 import luti.server.domain.port.MemberReader;
 import luti.server.domain.port.TagReader;
 import luti.server.domain.port.TagStore;
+import luti.server.domain.port.TagUrlIndex;
 import luti.server.domain.port.UrlMappingReader;
 import luti.server.domain.port.UrlTagReader;
 import luti.server.domain.port.UrlTagStore;
@@ -53,6 +54,9 @@ class TagServiceTest {
 	@Mock
 	private UrlMappingReader urlMappingReader;
 
+	@Mock
+	private TagUrlIndex tagUrlIndex;
+
 	private TagService tagService;
 
 	private Member testMember;
@@ -60,7 +64,8 @@ class TagServiceTest {
 
 	@BeforeEach
 	void setUp() {
-		tagService = new TagService(tagReader, tagStore, urlTagReader, urlTagStore, memberReader, urlMappingReader);
+		tagService = new TagService(tagReader, tagStore, urlTagReader, urlTagStore, memberReader, urlMappingReader,
+			tagUrlIndex);
 
 		testMember = new Member(Provider.GOOGLE, "google-123", "test@example.com");
 		ReflectionTestUtils.setField(testMember, "id", 1L);
@@ -381,6 +386,7 @@ class TagServiceTest {
 
 			verify(urlTagStore).deleteByTagId(tagId);
 			verify(tagStore).deleteById(tagId);
+			verify(tagUrlIndex).invalidate(memberId);
 
 			System.out.println("태그 삭제 성공 - UrlTag 먼저 삭제 후 Tag 삭제");
 		}
@@ -466,6 +472,8 @@ class TagServiceTest {
 			assertDoesNotThrow(() -> tagService.assignTags(memberId, urlId, tagIds));
 
 			verify(urlTagStore).saveAll(argThat(list -> list.size() == 2));
+			verify(tagStore).adjustUrlCounts(List.of(tagId1, tagId2), 1);
+			verify(tagUrlIndex).invalidate(memberId);
 
 			System.out.println("태그 할당 성공 - 2개 UrlTag 저장");
 		}
@@ -610,6 +618,27 @@ class TagServiceTest {
 
 			System.out.println("소유권 체크 없이 정상 실행 확인");
 		}
+
+		@Test
+		@DisplayName("태그 해제 - 실제로 할당되어 있던 태그만 URL 카운터 감소")
+		void unassignTags_할당된태그만_카운터감소() {
+			// Given
+			Long memberId = 1L;
+			Long urlId = 100L;
+			UrlMapping urlMapping = buildUrlMapping(urlId, testMember);
+			Tag tag1 = buildTag(10L, testMember, "태그1");
+
+			when(urlTagReader.findByUrlMappingId(urlId)).thenReturn(List.of(UrlTag.of(urlMapping, tag1)));
+			when(urlMappingReader.findById(urlId)).thenReturn(Optional.of(urlMapping));
+
+			// When
+			tagService.unassignTags(memberId, urlId, List.of(10L, 20L));
+
+			// Then
+			verify(urlTagStore).deleteByUrlMappingIdAndTagIdIn(urlId, List.of(10L, 20L));
+			verify(tagStore).adjustUrlCounts(List.of(10L), -1);
+			verify(tagUrlIndex).invalidate(memberId);
+		}
 	}
 
 	// -------------------------------------------------------------------------
@@ -21,15 +21,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import luti.server.domain.aggregator.DailyStatisticsAggregator;
-import luti.server.domain.aggregator.HourlyStatisticsAggregator;
-import luti.server.domain.aggregator.MonthlyStatisticsAggregator;
-import luti.server.domain.aggregator.WeeklyStatisticsAggregator;
+import luti.server.domain.aggregator.FusedStatisticsAggregator;
 import luti.server.domain.enums.Provider;
+import luti.server.domain.model.ClickCountDaily;
 import luti.server.domain.model.ClickCountHistory;
+import luti.server.domain.model.ClickCountMonthly;
 import luti.server.domain.model.Member;
 import luti.server.domain.model.UrlMapping;
 import luti.server.domain.port.ClickCountHistoryReader;
+import luti.server.domain.port.ClickCountRollupReader;
 import luti.server.domain.port.UrlMappingReader;
 import luti.server.domain.service.dto.UrlAnalyticsInfo;
 import luti.server.domain.validator.UrlOwnershipValidator;
@@ -45,6 +45,9 @@ class UrlAnalyticsServiceTest {
 	@Mock
 	private ClickCountHistoryReader clickCountHistoryReader;
 
+	@Mock
+	private ClickCountRollupReader clickCountRollupReader;
+
 	private UrlAnalyticsService urlAnalyticsService;
 
 	private Member testMember;
@@ -69,20 +72,16 @@ class UrlAnalyticsServiceTest {
 
 		// 실제 인스턴스 생성 (검증 로직과 집계 로직을 테스트하기 위해)
 		UrlOwnershipValidator ownershipValidator = new UrlOwnershipValidator();
-		HourlyStatisticsAggregator hourlyAggregator = new HourlyStatisticsAggregator();
-		DailyStatisticsAggregator dailyAggregator = new DailyStatisticsAggregator();
-		WeeklyStatisticsAggregator weeklyAggregator = new WeeklyStatisticsAggregator();
-		MonthlyStatisticsAggregator monthlyAggregator = new MonthlyStatisticsAggregator();
+		FusedStatisticsAggregator statisticsAggregator = new FusedStatisticsAggregator();
 
 		// UrlAnalyticsService 생성 (실제 인스턴스 주입)
 		urlAnalyticsService = new UrlAnalyticsService(
 			urlMappingReader,
 			clickCountHistoryReader,
+			clickCountRollupReader,
 			ownershipValidator,
-			hourlyAggregator,
-			dailyAggregator,
-			weeklyAggregator,
-			monthlyAggregator
+			statisticsAggregator,
+			(urlMappingId, window, loader) -> loader.get()
 		);
 	}
 
@@ -152,6 +151,8 @@ class UrlAnalyticsServiceTest {
 
 		verify(urlMappingReader).findById(urlMappingId);
 		verify(clickCountHistoryReader).findByUrlMappingAndHourGreaterThanEqual(eq(testUrlMapping), any(LocalDateTime.class));
+		verify(clickCountRollupReader).findDailyByUrlMappingAndDateGreaterThanEqual(eq(testUrlMapping), any(LocalDate.class));
+		verify(clickCountRollupReader).findMonthlyByUrlMappingAndMonthGreaterThanEqual(eq(testUrlMapping), any(LocalDate.class));
 	}
 
 	@Test
@@ -162,7 +163,6 @@ class UrlAnalyticsServiceTest {
 		Long memberId = 1L;
 
 		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime since = now.minusMonths(12).withDayOfMonth(1).toLocalDate().atStartOfDay();
 
 		// 최근 24시간 내 데이터 생성
 		List<ClickCountHistory> histories = new ArrayList<>();
@@ -173,7 +173,7 @@ class UrlAnalyticsServiceTest {
 		}
 
 		when(urlMappingReader.findById(urlMappingId)).thenReturn(Optional.of(testUrlMapping));
-		when(clickCountHistoryReader.findByUrlMappingAndHourGreaterThanEqual(testUrlMapping, since))
+		when(clickCountHistoryReader.findByUrlMappingAndHourGreaterThanEqual(eq(testUrlMapping), any(LocalDateTime.class)))
 			.thenReturn(histories);
 
 		System.out.println("=== URL 통계 조회 테스트 (시간별 데이터) ===");
@@ -209,26 +209,20 @@ class UrlAnalyticsServiceTest {
 		Long memberId = 1L;
 
 		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime since = now.minusMonths(12).withDayOfMonth(1).toLocalDate().atStartOfDay();
 
-		// 최근 7일 데이터 생성
-		List<ClickCountHistory> histories = new ArrayList<>();
+		// 최근 7일 일별 롤업 생성 (하루 20)
+		List<ClickCountDaily> dailies = new ArrayList<>();
 		for (int i = 0; i < 7; i++) {
 			LocalDate date = now.toLocalDate().minusDays(i);
-			// 하루에 여러 시간 데이터 생성
-			for (int hour = 0; hour < 24; hour += 6) {
-				LocalDateTime time = date.atStartOfDay().plusHours(hour);
-				ClickCountHistory history = createClickCountHistory(testUrlMapping, time, 5L);
-				histories.add(history);
-			}
+			dailies.add(createClickCountDaily(testUrlMapping, date, 20L));
 		}
 
 		when(urlMappingReader.findById(urlMappingId)).thenReturn(Optional.of(testUrlMapping));
-		when(clickCountHistoryReader.findByUrlMappingAndHourGreaterThanEqual(testUrlMapping, since))
-			.thenReturn(histories);
+		when(clickCountRollupReader.findDailyByUrlMappingAndDateGreaterThanEqual(eq(testUrlMapping), any(LocalDate.class)))
+			.thenReturn(dailies);
 
 		System.out.println("=== URL 통계 조회 테스트 (일별 데이터) ===");
-		System.out.println("생성된 히스토리 개수: " + histories.size());
+		System.out.println("생성된 일별 롤업 개수: " + dailies.size());
 
 		// When
 		UrlAnalyticsInfo result = urlAnalyticsService.getAnalytics(urlMappingId, memberId);
@@ -237,7 +231,7 @@ class UrlAnalyticsServiceTest {
 		assertNotNull(result);
 		assertEquals(30, result.getDailyStats().size());
 
-		// 최근 7일은 각각 20 (4시간 * 5)
+		// 최근 7일은 각각 20
 		long nonZeroCount = result.getDailyStats().stream()
 			.filter(stat -> stat.getClickCount() > 0)
 			.count();
@@ -260,27 +254,24 @@ class UrlAnalyticsServiceTest {
 		Long memberId = 1L;
 
 		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime since = now.minusMonths(12).withDayOfMonth(1).toLocalDate().atStartOfDay();
 
 		// 최근 4주 데이터 생성
-		List<ClickCountHistory> histories = new ArrayList<>();
+		List<ClickCountDaily> dailies = new ArrayList<>();
 		for (int week = 0; week < 4; week++) {
 			LocalDate weekStart = now.toLocalDate()
 				.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
 				.minusWeeks(week);
 
 			// 각 주의 월요일에 데이터 추가
-			LocalDateTime time = weekStart.atStartOfDay();
-			ClickCountHistory history = createClickCountHistory(testUrlMapping, time, 50L);
-			histories.add(history);
+			dailies.add(createClickCountDaily(testUrlMapping, weekStart, 50L));
 		}
 
 		when(urlMappingReader.findById(urlMappingId)).thenReturn(Optional.of(testUrlMapping));
-		when(clickCountHistoryReader.findByUrlMappingAndHourGreaterThanEqual(testUrlMapping, since))
-			.thenReturn(histories);
+		when(clickCountRollupReader.findDailyByUrlMappingAndDateGreaterThanEqual(eq(testUrlMapping), any(LocalDate.class)))
+			.thenReturn(dailies);
 
 		System.out.println("=== URL 통계 조회 테스트 (주별 데이터) ===");
-		System.out.println("생성된 히스토리 개수: " + histories.size());
+		System.out.println("생성된 일별 롤업 개수: " + dailies.size());
 
 		// When
 		UrlAnalyticsInfo result = urlAnalyticsService.getAnalytics(urlMappingId, memberId);
@@ -311,24 +302,20 @@ class UrlAnalyticsServiceTest {
 		Long memberId = 1L;
 
 		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime since = now.minusMonths(12).withDayOfMonth(1).toLocalDate().atStartOfDay();
 
 		// 최근 6개월 데이터 생성
-		List<ClickCountHistory> histories = new ArrayList<>();
+		List<ClickCountMonthly> monthlies = new ArrayList<>();
 		for (int month = 0; month < 6; month++) {
 			YearMonth targetMonth = YearMonth.from(now).minusMonths(month);
-			LocalDateTime time = targetMonth.atDay(1).atStartOfDay();
-
-			ClickCountHistory history = createClickCountHistory(testUrlMapping, time, 100L);
-			histories.add(history);
+			monthlies.add(createClickCountMonthly(testUrlMapping, targetMonth.atDay(1), 100L));
 		}
 
 		when(urlMappingReader.findById(urlMappingId)).thenReturn(Optional.of(testUrlMapping));
-		when(clickCountHistoryReader.findByUrlMappingAndHourGreaterThanEqual(testUrlMapping, since))
-			.thenReturn(histories);
+		when(clickCountRollupReader.findMonthlyByUrlMappingAndMonthGreaterThanEqual(eq(testUrlMapping), any(LocalDate.class)))
+			.thenReturn(monthlies);
 
 		System.out.println("=== URL 통계 조회 테스트 (월별 데이터) ===");
-		System.out.println("생성된 히스토리 개수: " + histories.size());
+		System.out.println("생성된 월별 롤업 개수: " + monthlies.size());
 
 		// When
 		UrlAnalyticsInfo result = urlAnalyticsService.getAnalytics(urlMappingId, memberId);
@@ -372,6 +359,7 @@ class UrlAnalyticsServiceTest {
 
 		verify(urlMappingReader).findById(urlMappingId);
 		verify(clickCountHistoryReader, never()).findByUrlMappingAndHourGreaterThanEqual(any(), any());
+		verify(clickCountRollupReader, never()).findDailyByUrlMappingAndDateGreaterThanEqual(any(), any());
 	}
 
 	@Test
@@ -396,6 +384,7 @@ class UrlAnalyticsServiceTest {
 
 		verify(urlMappingReader).findById(urlMappingId);
 		verify(clickCountHistoryReader, never()).findByUrlMappingAndHourGreaterThanEqual(any(), any());
+		verify(clickCountRollupReader, never()).findDailyByUrlMappingAndDateGreaterThanEqual(any(), any());
 	}
 
 	@Test
@@ -430,6 +419,7 @@ class UrlAnalyticsServiceTest {
 
 		verify(urlMappingReader).findById(urlMappingId);
 		verify(clickCountHistoryReader, never()).findByUrlMappingAndHourGreaterThanEqual(any(), any());
+		verify(clickCountRollupReader, never()).findDailyByUrlMappingAndDateGreaterThanEqual(any(), any());
 	}
 
 	@Test
@@ -440,7 +430,6 @@ class UrlAnalyticsServiceTest {
 		Long memberId = 1L;
 
 		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime since = now.minusMonths(12).withDayOfMonth(1).toLocalDate().atStartOfDay();
 
 		List<ClickCountHistory> histories = new ArrayList<>();
 
@@ -451,9 +440,10 @@ class UrlAnalyticsServiceTest {
 		}
 
 		// 최근 15일 데이터 (하루에 한 번)
+		List<ClickCountDaily> dailies = new ArrayList<>();
 		for (int i = 0; i < 15; i++) {
 			LocalDate date = now.toLocalDate().minusDays(i);
-			histories.add(createClickCountHistory(testUrlMapping, date.atTime(12, 0), 20L));
+			dailies.add(createClickCountDaily(testUrlMapping, date, 20L));
 		}
 
 		// 최근 8주 데이터
@@ -461,21 +451,26 @@ class UrlAnalyticsServiceTest {
 			LocalDate weekStart = now.toLocalDate()
 				.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
 				.minusWeeks(week);
-			histories.add(createClickCountHistory(testUrlMapping, weekStart.atStartOfDay(), 100L));
+			dailies.add(createClickCountDaily(testUrlMapping, weekStart, 100L));
 		}
 
 		// 최근 10개월 데이터
+		List<ClickCountMonthly> monthlies = new ArrayList<>();
 		for (int month = 0; month < 10; month++) {
 			YearMonth targetMonth = YearMonth.from(now).minusMonths(month);
-			histories.add(createClickCountHistory(testUrlMapping, targetMonth.atDay(1).atStartOfDay(), 500L));
+			monthlies.add(createClickCountMonthly(testUrlMapping, targetMonth.atDay(1), 500L));
 		}
 
 		when(urlMappingReader.findById(urlMappingId)).thenReturn(Optional.of(testUrlMapping));
-		when(clickCountHistoryReader.findByUrlMappingAndHourGreaterThanEqual(testUrlMapping, since))
+		when(clickCountHistoryReader.findByUrlMappingAndHourGreaterThanEqual(eq(testUrlMapping), any(LocalDateTime.class)))
 			.thenReturn(histories);
+		when(clickCountRollupReader.findDailyByUrlMappingAndDateGreaterThanEqual(eq(testUrlMapping), any(LocalDate.class)))
+			.thenReturn(dailies);
+		when(clickCountRollupReader.findMonthlyByUrlMappingAndMonthGreaterThanEqual(eq(testUrlMapping), any(LocalDate.class)))
+			.thenReturn(monthlies);
 
 		System.out.println("=== URL 통계 조회 테스트 (복합 데이터) ===");
-		System.out.println("생성된 총 히스토리 개수: " + histories.size());
+		System.out.println("생성된 히스토리/일별/월별 개수: " + histories.size() + "/" + dailies.size() + "/" + monthlies.size());
 
 		// When
 		UrlAnalyticsInfo result = urlAnalyticsService.getAnalytics(urlMappingId, memberId);
@@ -523,4 +518,20 @@ class UrlAnalyticsServiceTest {
 
 		return history;
 	}
+
+	private ClickCountDaily createClickCountDaily(UrlMapping urlMapping, LocalDate date, Long clickCount) {
+		return ClickCountDaily.builder()
+			.urlMapping(urlMapping)
+			.date(date)
+			.clickCount(clickCount)
+			.build();
+	}
+
+	private ClickCountMonthly createClickCountMonthly(UrlMapping urlMapping, LocalDate month, Long clickCount) {
+		return ClickCountMonthly.builder()
+			.urlMapping(urlMapping)
+			.month(month)
+			.clickCount(clickCount)
+			.build();
+	}
 }
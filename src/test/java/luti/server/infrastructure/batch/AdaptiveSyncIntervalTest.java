@@ -0,0 +1,69 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSyncIntervalTest {
+
+	private final AdaptiveSyncInterval interval = new AdaptiveSyncInterval(5_000, 300_000, 10_000, 120_000);
+
+	@Test
+	@DisplayName("백로그가 임계치를 넘으면 즉시 최소 주기로")
+	void 백로그임계치_가속() {
+		assertEquals(5_000, interval.update(10_000, 0));
+		assertEquals(AdaptiveSyncInterval.Decision.ACCELERATE, interval.lastDecision());
+	}
+
+	@Test
+	@DisplayName("대기 시간이 임계치를 넘으면 백로그가 적어도 최소 주기로")
+	void 대기시간임계치_가속() {
+		assertEquals(5_000, interval.update(3, 120_000));
+	}
+
+	@Test
+	@DisplayName("유휴 상태면 2배씩 늘어나되 최대 주기를 넘지 않음")
+	void 유휴_backoff() {
+		interval.update(10_000, 0);
+
+		assertEquals(10_000, interval.update(0, 0));
+		assertEquals(20_000, interval.update(0, 0));
+		for (int i = 0; i < 10; i++) {
+			interval.update(0, 0);
+		}
+		assertEquals(300_000, interval.currentMillis());
+		assertEquals(AdaptiveSyncInterval.Decision.BACKOFF, interval.lastDecision());
+	}
+
+	@Test
+	@DisplayName("임계치 미만 백로그라도 늘린 주기 뒤 대기 시간이 임계치를 넘으면 현재 주기 유지")
+	void 임계치미만_유지() {
+		interval.update(10_000, 0);
+		interval.update(0, 0);
+
+		assertEquals(10_000, interval.update(50, 100_000));
+		assertEquals(AdaptiveSyncInterval.Decision.STEADY, interval.lastDecision());
+	}
+
+	@Test
+	@DisplayName("임계치 미만 백로그이고 대기 시간이 짧으면 2배씩 늘림 (대기 시간 임계치 안에서)")
+	void 임계치미만_완화() {
+		interval.update(10_000, 0);
+
+		assertEquals(10_000, interval.update(50, 1_000));
+		assertEquals(AdaptiveSyncInterval.Decision.RELAX, interval.lastDecision());
+		assertEquals(20_000, interval.update(50, 1_000));
+		assertEquals(40_000, interval.update(50, 1_000));
+		assertEquals(80_000, interval.update(50, 1_000));
+		assertEquals(80_000, interval.update(50, 1_000));
+		assertEquals(AdaptiveSyncInterval.Decision.STEADY, interval.lastDecision());
+	}
+
+	@Test
+	@DisplayName("잘못된 범위는 예외")
+	void 잘못된범위() {
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveSyncInterval(0, 1_000, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveSyncInterval(2_000, 1_000, 1, 1));
+	}
+}
@@ -0,0 +1,88 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class BatchMetadataRetentionTest {
+
+	private JdbcTemplate jdbcTemplate;
+
+	// 조회 때마다 돌려줄 만료된 (jobExecutionId, jobInstanceId) 목록
+	private final List<List<long[]>> pages = new ArrayList<>();
+	private final List<String> updates = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+
+		doAnswer(inv -> {
+			RowCallbackHandler handler = inv.getArgument(1);
+			List<long[]> page = pages.isEmpty() ? List.of() : pages.remove(0);
+			for (long[] row : page) {
+				ResultSet rs = mock(ResultSet.class);
+				when(rs.getLong(1)).thenReturn(row[0]);
+				when(rs.getLong(2)).thenReturn(row[1]);
+				handler.processRow(rs);
+			}
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+		doAnswer(inv -> {
+			updates.add(inv.getArgument(0));
+			return 1;
+		}).when(jdbcTemplate).update(anyString(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("FK 순서대로 step -> job execution -> job instance 삭제")
+	void FK순서대로_삭제() {
+		pages.add(List.of(new long[] {1L, 10L}, new long[] {2L, 11L}));
+		BatchMetadataRetention retention = new BatchMetadataRetention(jdbcTemplate, 14, 500);
+
+		long deleted = retention.purgeBefore(LocalDateTime.now().minusDays(14));
+
+		assertEquals(2, deleted);
+		assertEquals(6, updates.size());
+		assertTrue(updates.get(0).startsWith("DELETE FROM BATCH_STEP_EXECUTION_CONTEXT"));
+		assertTrue(updates.get(1).startsWith("DELETE FROM BATCH_STEP_EXECUTION "));
+		assertTrue(updates.get(2).startsWith("DELETE FROM BATCH_JOB_EXECUTION_CONTEXT"));
+		assertTrue(updates.get(3).startsWith("DELETE FROM BATCH_JOB_EXECUTION_PARAMS"));
+		assertTrue(updates.get(4).startsWith("DELETE FROM BATCH_JOB_EXECUTION "));
+		assertTrue(updates.get(5).startsWith("DELETE FROM BATCH_JOB_INSTANCE"));
+	}
+
+	@Test
+	@DisplayName("배치 크기만큼 찼으면 다음 묶음을 이어서 삭제")
+	void 배치크기만큼_반복삭제() {
+		pages.add(List.of(new long[] {1L, 10L}, new long[] {2L, 11L}));
+		pages.add(List.of(new long[] {3L, 12L}));
+		BatchMetadataRetention retention = new BatchMetadataRetention(jdbcTemplate, 14, 2);
+
+		long deleted = retention.purgeBefore(LocalDateTime.now().minusDays(14));
+
+		assertEquals(3, deleted);
+		assertEquals(12, updates.size());
+		verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("만료된 실행이 없으면 삭제하지 않음")
+	void 만료없음_삭제안함() {
+		BatchMetadataRetention retention = new BatchMetadataRetention(jdbcTemplate, 14, 500);
+
+		assertEquals(0, retention.purgeBefore(LocalDateTime.now().minusDays(14)));
+		assertTrue(updates.isEmpty());
+	}
+}
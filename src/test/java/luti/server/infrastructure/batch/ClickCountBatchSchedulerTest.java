@@ -0,0 +1,144 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
+class ClickCountBatchSchedulerTest {
+
+	private static final long MIN_DELAY = 5_000L;
+
+	private ClickSyncJobRunner jobRunner;
+	private SimpleMeterRegistry meterRegistry;
+	private ClickCountBatchScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		jobRunner = mock(ClickSyncJobRunner.class);
+		// 동기화를 tick 을 호출한 스레드에서 바로 실행
+		scheduler = scheduler(Runnable::run);
+	}
+
+	@Test
+	@DisplayName("백로그가 0이 되지 않아도 실행이 예산 안에 다 비우면 대기 시간이 초기화되어 주기가 다시 늘어남")
+	void 예산안에_비우면_주기완화() throws Exception {
+		when(jobRunner.run()).thenReturn(execution(false));
+
+		tickWithRunDue();
+		assertEquals(MIN_DELAY, interval());
+
+		tickWithRunDue();
+		tickWithRunDue();
+
+		assertTrue(interval() > MIN_DELAY);
+		assertTrue(oldestAge() < 120_000);
+		assertEquals(2.0, decisions("relax"));
+	}
+
+	@Test
+	@DisplayName("예산을 소진한 실행은 대기 시간을 초기화하지 않아 최소 주기 유지")
+	void 예산소진_최소주기유지() throws Exception {
+		when(jobRunner.run()).thenReturn(execution(true));
+
+		for (int i = 0; i < 3; i++) {
+			tickWithRunDue();
+		}
+
+		assertEquals(MIN_DELAY, interval());
+		assertTrue(oldestAge() >= 180_000);
+		assertEquals(3.0, decisions("accelerate"));
+	}
+
+	@Test
+	@DisplayName("실패한 실행은 다 비운 것으로 보지 않음")
+	void 실패실행_비움아님() {
+		JobExecution failed = execution(false);
+		failed.setStatus(BatchStatus.FAILED);
+
+		assertFalse(ClickCountBatchScheduler.drainedWithinBudget(failed));
+		assertTrue(ClickCountBatchScheduler.drainedWithinBudget(execution(false)));
+		assertFalse(ClickCountBatchScheduler.drainedWithinBudget(execution(true)));
+	}
+
+	@Test
+	@DisplayName("이전 동기화가 실행 중이면 주기가 지나도 새로 실행하지 않음")
+	void 실행중_중복실행안함() throws Exception {
+		List<Runnable> submitted = new ArrayList<>();
+		scheduler = scheduler(submitted::add);
+		when(jobRunner.run()).thenReturn(execution(false));
+
+		tickWithRunDue();
+		tickWithRunDue();
+		assertEquals(1, submitted.size());
+
+		submitted.get(0).run();
+		tickWithRunDue();
+
+		assertEquals(2, submitted.size());
+		verify(jobRunner, times(1)).run();
+	}
+
+	@SuppressWarnings("unchecked")
+	private ClickCountBatchScheduler scheduler(Executor syncExecutor) {
+		RedisTemplate<String, Long> redisTemplate = mock(RedisTemplate.class);
+		SetOperations<String, Long> setOps = mock(SetOperations.class);
+		when(redisTemplate.opsForSet()).thenReturn(setOps);
+
+		// 트래픽이 계속 들어와 매 tick 마다 백로그가 남아 있음 (임계치 미만)
+		when(setOps.size(anyString())).thenReturn(5L);
+
+		meterRegistry = new SimpleMeterRegistry();
+		ClickCountBatchScheduler created = new ClickCountBatchScheduler(jobRunner, syncExecutor, redisTemplate,
+			meterRegistry, mock(RedisLeaseLock.class), false, 30_000, 300_000, true, MIN_DELAY, 300_000, 10_000,
+			120_000);
+
+		// 오래 밀린 상태에서 시작 -> 첫 tick 은 최소 주기로 가속
+		ReflectionTestUtils.setField(created, "drainedUpTo", System.currentTimeMillis() - 180_000);
+		return created;
+	}
+
+	// 주기 경과 여부와 무관하게 이번 tick 에서 실행되도록 마지막 실행 시각을 과거로 둠
+	private void tickWithRunDue() {
+		ReflectionTestUtils.setField(scheduler, "lastRunAt", 0L);
+		scheduler.tick();
+	}
+
+	private static JobExecution execution(boolean budgetExhausted) {
+		JobExecution execution = new JobExecution(1L);
+		execution.setStatus(BatchStatus.COMPLETED);
+		execution.createStepExecution("clickCountSyncStep:partition0");
+		if (budgetExhausted) {
+			execution.createStepExecution("clickCountSyncStep:partition1")
+					 .getExecutionContext().put(ClickCountRedisReader.BUDGET_EXHAUSTED_KEY, true);
+		}
+		return execution;
+	}
+
+	private double interval() {
+		return meterRegistry.get("click.sync.interval").gauge().value();
+	}
+
+	private double oldestAge() {
+		return meterRegistry.get("click.sync.oldest.age").gauge().value();
+	}
+
+	private double decisions(String decision) {
+		return meterRegistry.get("click.sync.schedule.decisions").tag("decision", decision).counter().count();
+	}
+}
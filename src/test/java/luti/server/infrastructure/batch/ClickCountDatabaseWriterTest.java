@@ -0,0 +1,207 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import luti.server.infrastructure.batch.dto.ClickCountData;
+import luti.server.infrastructure.cache.ClickDataVersions;
+import luti.server.infrastructure.click.ClickHour;
+
+class ClickCountDatabaseWriterTest {
+
+	private static final LocalDateTime HOUR = LocalDateTime.of(2026, 1, 21, 3, 0);
+
+	private JdbcTemplate jdbcTemplate;
+	private RedisTemplate<String, Long> redisTemplate;
+	private ClickDataVersions clickDataVersions;
+	private ClickCountDatabaseWriter writer;
+
+	// ledger 에 이미 있는 (scrambledId, hour_bucket), url_mapping 의 scrambledId -> id
+	private final List<long[]> ledgerRows = new ArrayList<>();
+	private final Map<Long, Long> urlMappingIds = Map.of(101L, 1L, 102L, 2L);
+
+	// 실행된 update (sql, params)
+	private final List<Object[]> updates = new ArrayList<>();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		redisTemplate = mock(RedisTemplate.class);
+		clickDataVersions = mock(ClickDataVersions.class);
+		writer = new ClickCountDatabaseWriter(jdbcTemplate, redisTemplate, clickDataVersions, 7);
+
+		doAnswer(inv -> {
+			String sql = inv.getArgument(0);
+			RowCallbackHandler handler = inv.getArgument(1);
+			Object[] params = (Object[]) inv.getRawArguments()[2];
+
+			List<long[]> rows = new ArrayList<>();
+			if (sql.contains("click_sync_ledger")) {
+				rows.addAll(ledgerRows);
+			} else {
+				for (Object scrambledId : params) {
+					Long id = urlMappingIds.get((Long) scrambledId);
+					if (id != null) {
+						rows.add(new long[] {(Long) scrambledId, id});
+					}
+				}
+			}
+
+			for (long[] row : rows) {
+				ResultSet rs = mock(ResultSet.class);
+				when(rs.getLong(1)).thenReturn(row[0]);
+				when(rs.getLong(2)).thenReturn(row[1]);
+				handler.processRow(rs);
+			}
+			return null;
+		}).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+		doAnswer(inv -> {
+			updates.add(new Object[] {inv.getArgument(0), inv.getRawArguments()[1]});
+			return 1;
+		}).when(jdbcTemplate).update(anyString(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("chunk 는 id 조회 1회 + ledger/history/total 다중 행 쓰기 각 1회로 반영")
+	void 다중행_일괄반영() {
+		writer.write(Chunk.of(
+			ClickCountData.of(101L, 5L, HOUR, 7L),
+			ClickCountData.of(102L, 3L, HOUR, 7L),
+			ClickCountData.of(101L, 2L, HOUR.plusHours(1), 8L)
+		));
+
+		verify(jdbcTemplate, times(1)).query(contains("FROM url_mapping"), any(RowCallbackHandler.class), any(Object[].class));
+
+		Object[] history = updateParams("click_count_history");
+		assertArrayEquals(new Object[] {
+			1L, 5L, Timestamp.valueOf(HOUR),
+			1L, 2L, Timestamp.valueOf(HOUR.plusHours(1)),
+			2L, 3L, Timestamp.valueOf(HOUR)
+		}, history);
+
+		Object[] totals = updateParams("UPDATE url_mapping");
+		assertArrayEquals(new Object[] {1L, 7L, 2L, 3L, 1L, 2L}, totals);
+
+		assertEquals(9, updateParams("click_sync_ledger").length);
+	}
+
+	@Test
+	@DisplayName("일별/월별 롤업은 시간 버킷을 날짜/월로 합쳐 각각 1회 UPSERT")
+	void 롤업_일괄반영() {
+		LocalDateTime nextDay = HOUR.plusDays(1);
+		LocalDateTime nextMonth = HOUR.plusMonths(1);
+
+		writer.write(Chunk.of(
+			ClickCountData.of(101L, 5L, HOUR, 7L),
+			ClickCountData.of(101L, 2L, HOUR.plusHours(1), 7L),
+			ClickCountData.of(101L, 4L, nextDay, 7L),
+			ClickCountData.of(102L, 3L, nextMonth, 7L)
+		));
+
+		assertArrayEquals(new Object[] {
+			1L, 7L, Date.valueOf(HOUR.toLocalDate()),
+			1L, 4L, Date.valueOf(nextDay.toLocalDate()),
+			2L, 3L, Date.valueOf(nextMonth.toLocalDate())
+		}, updateParams("click_count_daily"));
+
+		assertArrayEquals(new Object[] {
+			1L, 11L, Date.valueOf(HOUR.toLocalDate().withDayOfMonth(1)),
+			2L, 3L, Date.valueOf(nextMonth.toLocalDate().withDayOfMonth(1))
+		}, updateParams("click_count_monthly"));
+	}
+
+	@Test
+	@DisplayName("ledger 에 이미 있는 claim 항목은 다시 반영하지 않고 ack 만 수행")
+	void 이미반영된항목_건너뛰기() {
+		ledgerRows.add(new long[] {101L, ClickHour.bucketOf(HOUR)});
+
+		writer.write(Chunk.of(
+			ClickCountData.of(101L, 5L, HOUR, 7L),
+			ClickCountData.of(102L, 3L, HOUR, 7L)
+		));
+
+		assertArrayEquals(new Object[] {2L, 3L, Timestamp.valueOf(HOUR)}, updateParams("click_count_history"));
+
+		// 트랜잭션 밖이므로 즉시 ack (이미 반영된 항목 포함)
+		verify(redisTemplate).execute(eq(ClickSyncScripts.ACK),
+			eq(List.of(ClickSyncScripts.claimKey(7L), ClickSyncScripts.CLAIMS_KEY)),
+			eq(7L), eq(2026012103L), eq(101L), eq(2026012103L), eq(102L));
+	}
+
+	@Test
+	@DisplayName("모두 이미 반영된 chunk 는 DB 를 갱신하지 않음")
+	void 전부반영됨_갱신없음() {
+		ledgerRows.add(new long[] {101L, ClickHour.bucketOf(HOUR)});
+
+		writer.write(Chunk.of(ClickCountData.of(101L, 5L, HOUR, 7L)));
+
+		assertTrue(updates.isEmpty());
+	}
+
+	@Test
+	@DisplayName("soft delete 된 (조회되지 않는) URL 의 클릭은 건너뛰고 나머지만 반영")
+	void 삭제된URL_건너뛰기() {
+		writer.write(Chunk.of(
+			ClickCountData.of(999L, 5L, HOUR, 7L),
+			ClickCountData.of(102L, 3L, HOUR, 7L)
+		));
+
+		verify(jdbcTemplate).query(
+			argThat((String sql) -> sql.contains("FROM url_mapping") && sql.contains("deleted_at IS NULL")),
+			any(RowCallbackHandler.class), any(Object[].class));
+
+		assertArrayEquals(new Object[] {2L, 3L, Timestamp.valueOf(HOUR)}, updateParams("click_count_history"));
+		assertArrayEquals(new Object[] {2L, 3L, 2L}, updateParams("UPDATE url_mapping"));
+	}
+
+	@Test
+	@DisplayName("반영된 URL 의 클릭 데이터 버전만 한 번에 증가")
+	void 반영된URL_버전증가() {
+		writer.write(Chunk.of(
+			ClickCountData.of(101L, 5L, HOUR, 7L),
+			ClickCountData.of(101L, 2L, HOUR.plusHours(1), 7L),
+			ClickCountData.of(999L, 3L, HOUR, 7L)
+		));
+
+		verify(clickDataVersions, times(1)).bump(Set.of(1L));
+	}
+
+	@Test
+	@DisplayName("반영할 항목이 없으면 버전을 올리지 않음")
+	void 반영없음_버전유지() {
+		ledgerRows.add(new long[] {101L, ClickHour.bucketOf(HOUR)});
+
+		writer.write(Chunk.of(ClickCountData.of(101L, 5L, HOUR, 7L)));
+
+		verifyNoInteractions(clickDataVersions);
+	}
+
+	private Object[] updateParams(String sqlFragment) {
+		List<Object[]> matched = updates.stream()
+			.filter(update -> ((String) update[0]).contains(sqlFragment))
+			.map(update -> (Object[]) update[1])
+			.toList();
+		assertEquals(1, matched.size(), "SQL 은 chunk 당 1회: " + sqlFragment);
+		return matched.get(0);
+	}
+}
@@ -0,0 +1,36 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import luti.server.infrastructure.click.ClickDirtyShards;
+
+class ClickCountPartitionerTest {
+
+	@Test
+	@DisplayName("모든 dirty set 이 정확히 한 파티션에 배정")
+	void 샤드_중복없이_배정() {
+		Map<String, ExecutionContext> partitions = new ClickCountPartitioner().partition(4);
+
+		List<String> assigned = new ArrayList<>();
+		partitions.values().forEach(context -> assigned.addAll(List.of(context.getString("dirtyKeys").split(","))));
+
+		assertEquals(4, partitions.size());
+		assertEquals(ClickDirtyShards.allKeys().size(), assigned.size());
+		assertEquals(new HashSet<>(ClickDirtyShards.allKeys()), new HashSet<>(assigned));
+	}
+
+	@Test
+	@DisplayName("파티션 수는 샤드 수를 넘지 않음")
+	void 파티션수_상한() {
+		assertEquals(ClickDirtyShards.SHARD_COUNT, new ClickCountPartitioner().partition(64).size());
+	}
+}
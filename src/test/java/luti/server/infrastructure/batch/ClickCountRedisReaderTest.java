@@ -0,0 +1,205 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import luti.server.infrastructure.batch.dto.ClickCountData;
+
+class ClickCountRedisReaderTest {
+
+	private static final long HOUR_BUCKET = 2026012103L;
+
+	private RedisTemplate<String, Long> redisTemplate;
+	private static final String SHARD_0 = "click:dirty:0";
+
+	// dirty set 키별 멤버 (기본 데이터는 샤드 0 에 적재)
+	private final Map<String, Deque<Long>> dirtySets = new HashMap<>();
+	private final Deque<Long> dirtySet = new ArrayDeque<>();
+	private final Map<Long, Long> counts = new HashMap<>();
+	private final Deque<List<Object>> staleClaims = new ArrayDeque<>();
+	private final AtomicLong claimSequence = new AtomicLong();
+	private int claimCalls = 0;
+	private final StepExecution stepExecution = new StepExecution("clickCountSyncStep", new JobExecution(1L));
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		SetOperations<String, Long> setOps = mock(SetOperations.class);
+
+		when(redisTemplate.opsForSet()).thenReturn(setOps);
+		when(setOps.size(anyString())).thenAnswer(inv -> (long) dirtySetOf(inv.getArgument(0)).size());
+
+		// Redis 스크립트 대역: CLAIM / RECOVER 동작을 메모리에서 흉내냄
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+			RedisScript<?> script = inv.getArgument(0);
+			if (script == ClickSyncScripts.RECOVER) {
+				return staleClaims.isEmpty() ? List.of() : staleClaims.pollFirst();
+			}
+			if (script == ClickSyncScripts.CLAIM) {
+				claimCalls++;
+				List<String> keys = inv.getArgument(1);
+				return claim(dirtySetOf(keys.get(0)), (Long) inv.getArgument(2));
+			}
+			throw new IllegalStateException("unexpected script");
+		});
+
+		dirtySets.put(SHARD_0, dirtySet);
+		for (long id = 1; id <= 2_500; id++) {
+			dirtySet.add(id);
+			counts.put(id, 1L);
+		}
+	}
+
+	private Deque<Long> dirtySetOf(String key) {
+		return dirtySets.computeIfAbsent(key, k -> new ArrayDeque<>());
+	}
+
+	private List<Object> claim(Deque<Long> dirtySet, long pageSize) {
+		List<Long> ids = new ArrayList<>();
+		while (ids.size() < pageSize && !dirtySet.isEmpty()) {
+			ids.add(dirtySet.pollFirst());
+		}
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		List<Object> reply = new ArrayList<>(List.of(claimSequence.incrementAndGet(), (long) ids.size()));
+		for (Long id : ids) {
+			Long count = counts.remove(id);
+			if (count != null) {
+				reply.add(HOUR_BUCKET);
+				reply.add(id);
+				reply.add(count);
+			}
+		}
+		return reply;
+	}
+
+	@Test
+	@DisplayName("예산 제한이 없으면 dirty set 이 빌 때까지 여러 페이지를 읽음")
+	void 제한없음_전부읽기() {
+		ClickCountRedisReader reader = newReader(0);
+
+		assertEquals(2_500, readAll(reader).size());
+		assertTrue(dirtySet.isEmpty());
+		assertFalse(stepExecution.getExecutionContext().containsKey(ClickCountRedisReader.BUDGET_EXHAUSTED_KEY));
+	}
+
+	@Test
+	@DisplayName("item 예산에 도달하면 남은 dirty URL 은 다음 실행으로 넘기고 step 에 예산 소진 기록")
+	void item예산_조기종료() {
+		ClickCountRedisReader reader = newReader(1_500);
+
+		assertEquals(1_500, readAll(reader).size());
+		assertEquals(1_000, dirtySet.size());
+		assertTrue(stepExecution.getExecutionContext().containsKey(ClickCountRedisReader.BUDGET_EXHAUSTED_KEY));
+	}
+
+	@Test
+	@DisplayName("카운트 키가 만료된 URL 은 건너뛰고 다음 페이지를 계속 읽음")
+	void 만료키_건너뛰기() {
+		counts.keySet().removeIf(id -> String.valueOf(id).startsWith("1"));
+
+		ClickCountRedisReader reader = newReader(0);
+
+		// 1, 10~19, 100~199, 1000~1999 제외
+		assertEquals(2_500 - 1 - 10 - 100 - 1_000, readAll(reader).size());
+		assertTrue(dirtySet.isEmpty());
+	}
+
+	@Test
+	@DisplayName("페이지당 Redis 왕복은 claim 스크립트 1회")
+	void 페이지당_왕복횟수_고정() {
+		ClickCountRedisReader reader = newReader(0, SHARD_0);
+
+		assertEquals(2_500, readAll(reader).size());
+
+		// 1000 + 1000 + 500 (마지막 페이지가 덜 차면 더 조회하지 않음)
+		assertEquals(3, claimCalls);
+	}
+
+	@Test
+	@DisplayName("ack 되지 않은 claim 을 먼저 복구하고, 항목에는 claimId 가 유지됨")
+	void 미완료claim_복구() {
+		staleClaims.add(List.of(77L, HOUR_BUCKET, 9_001L, 5L, 0L, 9_002L, 3L));
+		dirtySet.clear();
+		dirtySet.add(1L);
+
+		List<ClickCountData> items = readAll(newReader(0));
+
+		assertEquals(3, items.size());
+		assertEquals(77L, items.get(0).getClaimId());
+		assertEquals(9_001L, items.get(0).getScrambledId());
+		assertEquals(5L, items.get(0).getCount());
+		assertEquals(LocalDateTime.of(2026, 1, 21, 3, 0), items.get(0).getHour());
+		assertEquals(77L, items.get(1).getClaimId());
+		assertNull(items.get(1).getHour());  // 이전 형식 키
+		assertEquals(1L, items.get(2).getScrambledId());
+		assertNotEquals(77L, items.get(2).getClaimId());
+	}
+
+	@Test
+	@DisplayName("파티션 reader 는 배정된 dirty set 만 소비")
+	void 파티션_배정샤드만() {
+		dirtySetOf("click:dirty:1").add(1L);
+		dirtySetOf("click:dirty:2").add(2L);
+
+		List<ClickCountData> items = readAll(newReader(0, "click:dirty:1,click:dirty:3"));
+
+		assertEquals(1, items.size());
+		assertEquals(2_500, dirtySet.size());
+		assertEquals(1, dirtySetOf("click:dirty:2").size());
+	}
+
+	@Test
+	@DisplayName("단일 step 은 모든 샤드와 이전 형식 dirty set 까지 소비")
+	void 단일step_전체샤드() {
+		dirtySetOf("click:dirty:15").add(1L);
+		dirtySetOf("click:dirty").add(2L);
+
+		readAll(newReader(0));
+
+		assertTrue(dirtySets.values().stream().allMatch(Deque::isEmpty));
+	}
+
+	private ClickCountRedisReader newReader(long maxItems) {
+		return newReader(maxItems, null);
+	}
+
+	private ClickCountRedisReader newReader(long maxItems, String dirtyKeys) {
+		return new ClickCountRedisReader(redisTemplate, new SimpleMeterRegistry(), maxItems, 0, 600_000, dirtyKeys,
+			stepExecution);
+	}
+
+	private List<ClickCountData> readAll(ClickCountRedisReader reader) {
+		List<ClickCountData> items = new ArrayList<>();
+		ClickCountData item;
+		while ((item = reader.read()) != null) {
+			assertNotNull(item.getScrambledId());
+			assertNotNull(item.getClaimId());
+			items.add(item);
+		}
+		return items;
+	}
+}
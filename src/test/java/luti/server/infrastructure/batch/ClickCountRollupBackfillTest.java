@@ -0,0 +1,98 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
+class ClickCountRollupBackfillTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private RedisLeaseLock leaseLock;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		leaseLock = mock(RedisLeaseLock.class);
+	}
+
+	@Test
+	@DisplayName("가장 오래된 히스토리의 달부터 이번 달까지 월마다 일별/월별 롤업 재계산")
+	void 월단위_재계산() {
+		YearMonth oldest = YearMonth.now().minusMonths(2);
+		when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class)))
+			.thenReturn(Timestamp.valueOf(oldest.atDay(15).atTime(3, 0)));
+
+		int months = new ClickCountRollupBackfill(jdbcTemplate, leaseLock, true, 30000).backfill();
+
+		assertEquals(3, months);
+		verify(jdbcTemplate, times(3)).update(contains("INSERT INTO click_count_daily"), any(Object[].class));
+		verify(jdbcTemplate, times(3)).update(contains("INSERT INTO click_count_monthly"), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("히스토리가 없으면 재계산하지 않음")
+	void 히스토리없음() {
+		assertEquals(0, new ClickCountRollupBackfill(jdbcTemplate, leaseLock, true, 30000).backfill());
+		verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("동기화 lease 를 얻지 못하면 건너뛰고 다음 주기에 다시 시도")
+	void lease없음_재시도() {
+		when(leaseLock.tryAcquire(eq(ClickCountBatchScheduler.LOCK_NAME), any(Duration.class)))
+			.thenReturn(Optional.empty());
+		ClickCountRollupBackfill backfill = new ClickCountRollupBackfill(jdbcTemplate, leaseLock, true, 30000);
+
+		backfill.backfillOnStartup();
+		backfill.backfillIfPending();
+
+		verifyNoInteractions(jdbcTemplate);
+		verify(leaseLock, times(2)).tryAcquire(eq(ClickCountBatchScheduler.LOCK_NAME), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("일별 롤업보다 오래된 히스토리가 있으면 설정과 무관하게 재계산 대상")
+	void 롤업이전_히스토리_감지() {
+		LocalDate today = LocalDate.now();
+		when(jdbcTemplate.queryForObject(contains("click_count_history"), eq(Timestamp.class)))
+			.thenReturn(Timestamp.valueOf(today.minusDays(30).atStartOfDay()));
+		when(jdbcTemplate.queryForObject(contains("click_count_daily"), eq(Date.class)))
+			.thenReturn(Date.valueOf(today), Date.valueOf(today.minusDays(30)), null);
+
+		ClickCountRollupBackfill backfill = new ClickCountRollupBackfill(jdbcTemplate, leaseLock, false, 30000);
+
+		assertTrue(backfill.hasUnrolledHistory());
+		assertFalse(backfill.hasUnrolledHistory());
+		assertTrue(backfill.hasUnrolledHistory());
+	}
+
+	@Test
+	@DisplayName("롤업이 이미 히스토리를 덮고 있으면 lease 없이 끝내고 다시 확인하지 않음")
+	void 롤업완료_건너뜀() {
+		when(jdbcTemplate.queryForObject(contains("click_count_history"), eq(Timestamp.class)))
+			.thenReturn(Timestamp.valueOf(LocalDate.now().atStartOfDay()));
+		when(jdbcTemplate.queryForObject(contains("click_count_daily"), eq(Date.class)))
+			.thenReturn(Date.valueOf(LocalDate.now()));
+		ClickCountRollupBackfill backfill = new ClickCountRollupBackfill(jdbcTemplate, leaseLock, false, 30000);
+
+		backfill.backfillOnStartup();
+		backfill.backfillIfPending();
+
+		verifyNoInteractions(leaseLock);
+		verify(jdbcTemplate, times(1)).queryForObject(contains("click_count_history"), eq(Timestamp.class));
+	}
+}
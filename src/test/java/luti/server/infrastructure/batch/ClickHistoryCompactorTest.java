@@ -0,0 +1,144 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
+class ClickHistoryCompactorTest {
+
+	private static final LocalDate HORIZON = LocalDate.of(2026, 1, 10);
+
+	private JdbcTemplate jdbcTemplate;
+
+	// 남아 있는 시간 단위 행 (날짜 -> 행 수), 진행 위치, 롤업한 날짜
+	private final TreeMap<LocalDate, Integer> historyRows = new TreeMap<>();
+	private final List<Date> checkpoint = new ArrayList<>();
+	private final List<LocalDate> rolledUp = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+
+		when(jdbcTemplate.queryForObject(contains("MIN(hour)"), eq(Timestamp.class))).thenAnswer(inv ->
+			historyRows.isEmpty() ? null : Timestamp.valueOf(historyRows.firstKey().atTime(3, 0)));
+		when(jdbcTemplate.queryForList(eq(ClickHistoryCompactor.SELECT_CHECKPOINT_SQL), eq(Date.class)))
+			.thenAnswer(inv -> new ArrayList<>(checkpoint));
+
+		doAnswer(inv -> {
+			String sql = inv.getArgument(0);
+			Object[] params = (Object[]) inv.getRawArguments()[1];
+
+			if (sql.startsWith("INSERT INTO click_count_daily")) {
+				rolledUp.add(((Date) params[0]).toLocalDate());
+				return 1;
+			}
+			if (sql.startsWith("INSERT INTO click_history_compaction")) {
+				checkpoint.clear();
+				checkpoint.add((Date) params[0]);
+				return 1;
+			}
+			if (sql.startsWith("DELETE FROM click_count_history")) {
+				LocalDate before = ((Timestamp) params[0]).toLocalDateTime().toLocalDate();
+				int limit = (Integer) params[1];
+				int deleted = 0;
+				while (deleted < limit && !historyRows.isEmpty() && historyRows.firstKey().isBefore(before)) {
+					LocalDate day = historyRows.firstKey();
+					int take = Math.min(limit - deleted, historyRows.get(day));
+					deleted += take;
+					if (historyRows.get(day) == take) {
+						historyRows.remove(day);
+					} else {
+						historyRows.put(day, historyRows.get(day) - take);
+					}
+				}
+				return deleted;
+			}
+			return 0;
+		}).when(jdbcTemplate).update(anyString(), any(Object[].class));
+	}
+
+	private ClickHistoryCompactor compactor(int deleteBatchSize, int maxDaysPerRun) {
+		return compactor(deleteBatchSize, maxDaysPerRun, false);
+	}
+
+	private ClickHistoryCompactor compactor(int deleteBatchSize, int maxDaysPerRun, boolean partitioned) {
+		return new ClickHistoryCompactor(jdbcTemplate, mock(PlatformTransactionManager.class),
+			mock(RedisLeaseLock.class), 90, deleteBatchSize, maxDaysPerRun, partitioned, 30000);
+	}
+
+	@Test
+	@DisplayName("horizon 이전 날짜만 일별 롤업 확정 후 나눠서 삭제")
+	void horizon이전만_압축() {
+		historyRows.put(HORIZON.minusDays(2), 5);
+		historyRows.put(HORIZON.minusDays(1), 3);
+		historyRows.put(HORIZON, 4);
+
+		int days = compactor(2, 31).compactBefore(HORIZON);
+
+		assertEquals(2, days);
+		assertEquals(List.of(HORIZON.minusDays(2), HORIZON.minusDays(1)), rolledUp);
+		assertEquals(List.of(HORIZON), new ArrayList<>(historyRows.keySet()));
+		assertEquals(4, historyRows.get(HORIZON));
+		assertEquals(Date.valueOf(HORIZON.minusDays(1)), checkpoint.get(0));
+	}
+
+	@Test
+	@DisplayName("삭제 도중 중단된 날짜는 롤업을 다시 계산하지 않고 남은 행만 삭제")
+	void 중단후_재개() {
+		// 이전 실행이 HORIZON-3 을 확정하고 일부만 삭제한 상태
+		checkpoint.add(Date.valueOf(HORIZON.minusDays(3)));
+		historyRows.put(HORIZON.minusDays(3), 2);
+		historyRows.put(HORIZON.minusDays(2), 1);
+
+		int days = compactor(100, 31).compactBefore(HORIZON);
+
+		assertEquals(1, days);
+		assertEquals(List.of(HORIZON.minusDays(2)), rolledUp);
+		assertTrue(historyRows.isEmpty());
+	}
+
+	@Test
+	@DisplayName("1회 실행당 max-days-per-run 일까지만 압축")
+	void 실행당_최대일수() {
+		for (int i = 1; i <= 5; i++) {
+			historyRows.put(HORIZON.minusDays(i), 1);
+		}
+
+		assertEquals(2, compactor(100, 2).compactBefore(HORIZON));
+		assertEquals(3, historyRows.size());
+
+		assertEquals(3, compactor(100, 31).compactBefore(HORIZON));
+		assertTrue(historyRows.isEmpty());
+	}
+
+	@Test
+	@DisplayName("파티션 모드는 행을 지우지 않고 진행 위치 다음 날부터 롤업만 확정")
+	void 파티션모드_삭제없음() {
+		historyRows.put(HORIZON.minusDays(3), 2);
+		historyRows.put(HORIZON.minusDays(1), 1);
+
+		ClickHistoryCompactor compactor = compactor(100, 31, true);
+		assertEquals(3, compactor.compactBefore(HORIZON));
+		assertEquals(List.of(HORIZON.minusDays(3), HORIZON.minusDays(2), HORIZON.minusDays(1)), rolledUp);
+		assertEquals(2, historyRows.size());
+
+		// 다시 실행해도 확정된 날짜는 건너뜀
+		assertEquals(0, compactor.compactBefore(HORIZON));
+		verify(jdbcTemplate, never()).update(startsWith("DELETE"), any(Object[].class));
+	}
+}
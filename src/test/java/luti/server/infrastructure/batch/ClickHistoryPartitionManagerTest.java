@@ -0,0 +1,103 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
+class ClickHistoryPartitionManagerTest {
+
+	private static final YearMonth NOW = YearMonth.of(2026, 3);
+
+	private JdbcTemplate jdbcTemplate;
+	private ClickHistoryPartitionManager manager;
+
+	private final List<String> partitions = new ArrayList<>();
+	private final List<Date> checkpoint = new ArrayList<>();
+	private final List<String> ddl = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		manager = new ClickHistoryPartitionManager(jdbcTemplate, mock(RedisLeaseLock.class), true, 2, 30000);
+
+		when(jdbcTemplate.queryForList(contains("information_schema.PARTITIONS"), eq(String.class)))
+			.thenAnswer(inv -> new ArrayList<>(partitions));
+		when(jdbcTemplate.queryForList(contains("FOREIGN KEY"), eq(String.class)))
+			.thenReturn(List.of("FK_url_mapping"));
+		when(jdbcTemplate.queryForList(eq(ClickHistoryCompactor.SELECT_CHECKPOINT_SQL), eq(Date.class)))
+			.thenAnswer(inv -> new ArrayList<>(checkpoint));
+		doAnswer(inv -> {
+			String sql = inv.getArgument(0);
+			ddl.add(sql);
+			if (sql.contains("PARTITION BY RANGE")) {
+				partitions.addAll(List.of("p202601", "p202602", "p202603", "p202604", "p202605", "p_max"));
+			}
+			return null;
+		}).when(jdbcTemplate).execute(anyString());
+	}
+
+	@Test
+	@DisplayName("파티션이 없으면 FK/PK 정리 후 가장 오래된 월부터 months-ahead 까지 파티션으로 변환")
+	void 최초변환() {
+		when(jdbcTemplate.queryForObject(contains("MIN(hour)"), eq(Timestamp.class)))
+			.thenReturn(Timestamp.valueOf(LocalDate.of(2026, 1, 15).atStartOfDay()));
+
+		manager.maintain(NOW);
+
+		assertEquals("ALTER TABLE click_count_history DROP FOREIGN KEY `FK_url_mapping`", ddl.get(0));
+		assertTrue(ddl.get(1).contains("ADD PRIMARY KEY (id, hour)"));
+		assertEquals("ALTER TABLE click_count_history PARTITION BY RANGE COLUMNS(hour) ("
+			+ "PARTITION p202601 VALUES LESS THAN ('2026-02-01'), "
+			+ "PARTITION p202602 VALUES LESS THAN ('2026-03-01'), "
+			+ "PARTITION p202603 VALUES LESS THAN ('2026-04-01'), "
+			+ "PARTITION p202604 VALUES LESS THAN ('2026-05-01'), "
+			+ "PARTITION p202605 VALUES LESS THAN ('2026-06-01'), "
+			+ "PARTITION p_max VALUES LESS THAN (MAXVALUE))", ddl.get(2));
+		assertEquals(3, ddl.size());
+	}
+
+	@Test
+	@DisplayName("다음 달이 되면 p_max 를 나눠 부족한 미래 파티션만 생성")
+	void 미래파티션_생성() {
+		partitions.addAll(List.of("p202603", "p202604", "p202605", "p_max"));
+
+		manager.maintain(NOW.plusMonths(1));
+
+		assertEquals(List.of("ALTER TABLE click_count_history REORGANIZE PARTITION p_max INTO ("
+			+ "PARTITION p202606 VALUES LESS THAN ('2026-07-01'), "
+			+ "PARTITION p_max VALUES LESS THAN (MAXVALUE))"), ddl);
+	}
+
+	@Test
+	@DisplayName("월 전체가 압축 확정된 파티션만 DROP PARTITION")
+	void 압축된파티션_제거() {
+		partitions.addAll(List.of("p202601", "p202602", "p202603", "p202604", "p202605", "p_max"));
+		checkpoint.add(Date.valueOf(LocalDate.of(2026, 2, 20)));
+
+		manager.maintain(NOW);
+
+		assertEquals(List.of("ALTER TABLE click_count_history DROP PARTITION p202601"), ddl);
+	}
+
+	@Test
+	@DisplayName("파티션 이름과 월 변환")
+	void 파티션이름() {
+		assertEquals("p202612", ClickHistoryPartitionManager.partitionName(YearMonth.of(2026, 12)));
+		assertEquals(YearMonth.of(2026, 12), ClickHistoryPartitionManager.monthOf("p202612"));
+		assertNull(ClickHistoryPartitionManager.monthOf(ClickHistoryPartitionManager.MAX_PARTITION));
+	}
+}
@@ -0,0 +1,61 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import luti.server.infrastructure.batch.config.ClickCountBatchConfig;
+
+class ClickSyncJobRunnerTest {
+
+	private final ResourcelessJobRepository jobRepository = new ResourcelessJobRepository();
+	private final ResourcelessTransactionManager transactionManager = new ResourcelessTransactionManager();
+	private final AtomicInteger stepRuns = new AtomicInteger();
+
+	private Step workerStep() {
+		return new StepBuilder("clickCountSyncStep", jobRepository)
+			.tasklet((contribution, chunkContext) -> {
+				stepRuns.incrementAndGet();
+				return RepeatStatus.FINISHED;
+			}, transactionManager)
+			.build();
+	}
+
+	private ClickSyncJobRunner runner(Job job, SimpleMeterRegistry meterRegistry) throws Exception {
+		TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+		launcher.setJobRepository(jobRepository);
+		launcher.afterPropertiesSet();
+		return new ClickSyncJobRunner(launcher, job, meterRegistry, ClickCountBatchConfig.IN_MEMORY_REPOSITORY);
+	}
+
+	@Test
+	@DisplayName("in-memory 저장소로 반복 실행해도 매번 새 실행으로 완료")
+	void 인메모리_반복실행() throws Exception {
+		Job job = new JobBuilder("clickCountSyncJob", jobRepository).start(workerStep()).build();
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ClickSyncJobRunner runner = runner(job, meterRegistry);
+
+		for (int i = 0; i < 3; i++) {
+			JobExecution execution = runner.run();
+			assertEquals(BatchStatus.COMPLETED, execution.getStatus());
+		}
+
+		assertEquals(3, stepRuns.get());
+		assertEquals(3, meterRegistry.get("click.sync.job.overhead").tag("repository", "in-memory").timer().count());
+		assertEquals(3, meterRegistry.get("click.sync.job.run").timer().count());
+	}
+}
@@ -0,0 +1,80 @@
+package luti.server.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import luti.server.infrastructure.lock.RedisLeaseLock;
+
+class UrlCountReconcilerTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private RedisLeaseLock leaseLock;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		leaseLock = mock(RedisLeaseLock.class);
+	}
+
+	@Test
+	@DisplayName("회원 id 를 batch-size 구간으로 나눠 보정하고 보정한 행 수를 합산")
+	void 구간별_회원_보정() {
+		when(jdbcTemplate.queryForObject(contains("FROM member"), eq(Long.class))).thenReturn(2500L);
+		when(jdbcTemplate.update(contains("UPDATE member"), any(Object[].class))).thenReturn(2, 0, 1);
+
+		int repaired = new UrlCountReconciler(jdbcTemplate, leaseLock, 1000, false, 30000).reconcileMembers();
+
+		assertEquals(3, repaired);
+		verify(jdbcTemplate).update(contains("UPDATE member"), eq(1L), eq(1000L), eq(1L), eq(1000L));
+		verify(jdbcTemplate).update(contains("UPDATE member"), eq(1001L), eq(2000L), eq(1001L), eq(2000L));
+		verify(jdbcTemplate).update(contains("UPDATE member"), eq(2001L), eq(3000L), eq(2001L), eq(3000L));
+	}
+
+	@Test
+	@DisplayName("태그가 없으면 보정하지 않음")
+	void 태그없음() {
+		assertEquals(0, new UrlCountReconciler(jdbcTemplate, leaseLock, 1000, false, 30000).reconcileTags());
+		verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 lease 를 가지고 있으면 건너뜀")
+	void lease없음_건너뜀() {
+		when(leaseLock.tryAcquire(eq("url-count-reconcile"), any(Duration.class))).thenReturn(Optional.empty());
+
+		new UrlCountReconciler(jdbcTemplate, leaseLock, 1000, false, 30000).run();
+
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	@Test
+	@DisplayName("reconcile-on-startup=false 이고 카운터가 채워져 있으면 기동 시 실행하지 않음")
+	void 기동시_초기화됨_건너뜀() {
+		when(jdbcTemplate.queryForObject(contains("url_count = 0"), eq(Long.class))).thenReturn(0L);
+
+		new UrlCountReconciler(jdbcTemplate, leaseLock, 1000, false, 30000).reconcileOnStartup();
+
+		verifyNoInteractions(leaseLock);
+		verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("URL 이 있는데 카운터가 0 인 회원이 있으면 설정과 무관하게 기동 시 보정")
+	void 기동시_미초기화_자동보정() {
+		when(jdbcTemplate.queryForObject(contains("url_count = 0"), eq(Long.class))).thenReturn(1L);
+		when(leaseLock.tryAcquire(eq("url-count-reconcile"), any(Duration.class))).thenReturn(Optional.empty());
+
+		new UrlCountReconciler(jdbcTemplate, leaseLock, 1000, false, 30000).reconcileOnStartup();
+
+		verify(leaseLock).tryAcquire(eq("url-count-reconcile"), any(Duration.class));
+	}
+}
@@ -0,0 +1,153 @@
+package luti.server.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import luti.server.domain.port.UrlTagReader;
+import luti.server.domain.service.dto.TagUrlEntry;
+import luti.server.domain.service.dto.TaggedUrlIds;
+import luti.server.domain.service.dto.UrlListCursor;
+
+class TagUrlBitmapIndexTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 21, 3, 0);
+	private static final UrlListCursor FIRST = UrlListCursor.first();
+
+	private UrlTagReader urlTagReader;
+	private TagIndexVersions versions;
+	private SimpleMeterRegistry meterRegistry;
+	private TagUrlBitmapIndex index;
+
+	@BeforeEach
+	void setUp() {
+		urlTagReader = mock(UrlTagReader.class);
+		versions = mock(TagIndexVersions.class);
+		meterRegistry = new SimpleMeterRegistry();
+		index = new TagUrlBitmapIndex(urlTagReader, versions, meterRegistry, true, 100, Duration.ofMinutes(10));
+
+		// id 9 는 다른 인스턴스의 id 블록에서 발급되어 id 는 크지만 가장 먼저 생성된 URL
+		when(urlTagReader.findActiveTagUrlEntries(1L)).thenReturn(entries(Map.of(
+			10L, List.of(1L, 2L, 3L, 5L, 8L),
+			20L, List.of(2L, 3L, 4L, 8L, 9L)
+		)));
+	}
+
+	private static LocalDateTime createdAt(long urlId) {
+		return urlId == 9L ? BASE.minusMinutes(1) : BASE.plusMinutes(urlId);
+	}
+
+	// DB 처럼 URL (created_at, id) 오름차순으로 정렬된 태그 할당
+	private static List<TagUrlEntry> entries(Map<Long, List<Long>> urlIdsByTagId) {
+		List<TagUrlEntry> entries = new ArrayList<>();
+		urlIdsByTagId.forEach((tagId, urlIds) ->
+			urlIds.forEach(urlId -> entries.add(TagUrlEntry.of(tagId, urlId, createdAt(urlId)))));
+		entries.sort(Comparator.comparing(TagUrlEntry::getCreatedAt).thenComparing(TagUrlEntry::getUrlId));
+		return entries;
+	}
+
+	@Test
+	@DisplayName("AND 필터는 태그 비트맵 교집합을 (created_at, id) 역순으로 반환")
+	void AND_교집합() {
+		TaggedUrlIds result = index.find(1L, List.of(10L, 20L), true, FIRST, 0, 10).orElseThrow();
+
+		assertEquals(List.of(8L, 3L, 2L), result.getIds());
+		assertEquals(3L, result.getTotal());
+	}
+
+	@Test
+	@DisplayName("OR 필터는 합집합에서 offset 만큼 건너뛰고 limit 개만 반환 (id 가 아닌 생성 시각 순)")
+	void OR_합집합_페이지() {
+		TaggedUrlIds result = index.find(1L, List.of(10L, 20L), false, FIRST, 2, 3).orElseThrow();
+
+		assertEquals(List.of(4L, 3L, 2L), result.getIds());
+		assertEquals(7L, result.getTotal());
+	}
+
+	@Test
+	@DisplayName("커서가 있으면 (created_at, id) 가 그보다 앞선 URL 부터 반환")
+	void 커서_이전위치부터() {
+		TaggedUrlIds result = index.find(1L, List.of(10L, 20L), false, UrlListCursor.of(createdAt(2L), 2L), 0, 3)
+			.orElseThrow();
+
+		assertEquals(List.of(1L, 9L), result.getIds());
+		assertEquals(7L, result.getTotal());
+	}
+
+	@Test
+	@DisplayName("생성 시각이 같으면 id 역순 (DB 커서 쿼리와 같은 tie-break)")
+	void 같은생성시각_id역순() {
+		when(urlTagReader.findActiveTagUrlEntries(2L)).thenReturn(List.of(
+			TagUrlEntry.of(10L, 4L, BASE), TagUrlEntry.of(20L, 4L, BASE),
+			TagUrlEntry.of(10L, 7L, BASE), TagUrlEntry.of(20L, 7L, BASE),
+			TagUrlEntry.of(10L, 6L, BASE.plusSeconds(1))));
+
+		assertEquals(List.of(7L, 4L),
+			index.find(2L, List.of(10L, 20L), true, FIRST, 0, 10).orElseThrow().getIds());
+		assertEquals(List.of(4L),
+			index.find(2L, List.of(10L, 20L), true, UrlListCursor.of(BASE, 7L), 0, 10).orElseThrow().getIds());
+	}
+
+	@Test
+	@DisplayName("회원 인덱스가 없는 태그가 섞인 AND 필터는 빈 결과")
+	void 없는태그_AND() {
+		TaggedUrlIds result = index.find(1L, List.of(10L, 99L), true, FIRST, 0, 10).orElseThrow();
+
+		assertTrue(result.getIds().isEmpty());
+		assertEquals(0L, result.getTotal());
+	}
+
+	@Test
+	@DisplayName("버전이 같으면 인덱스를 다시 구성하지 않고, 바뀌면 한 번만 다시 구성")
+	void 버전기반_재구성() {
+		when(versions.current(1L)).thenReturn(0L, 0L, 1L, 1L);
+
+		for (int i = 0; i < 4; i++) {
+			index.find(1L, List.of(10L, 20L), true, FIRST, 0, 10);
+		}
+
+		verify(urlTagReader, times(2)).findActiveTagUrlEntries(1L);
+		assertEquals(2.0, gets("hit"));
+		assertEquals(2.0, gets("miss"));
+	}
+
+	@Test
+	@DisplayName("버전 조회에 실패하면 인덱스를 쓰지 않음")
+	void 버전조회실패_우회() {
+		when(versions.current(1L)).thenThrow(new RuntimeException("redis down"));
+
+		Optional<TaggedUrlIds> result = index.find(1L, List.of(10L, 20L), true, FIRST, 0, 10);
+
+		assertTrue(result.isEmpty());
+		assertEquals(1.0, gets("bypass"));
+		verifyNoInteractions(urlTagReader);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서 무효화하면 바로 버전을 올리고 로컬 인덱스를 버림")
+	void 무효화_버전증가() {
+		index.find(1L, List.of(10L, 20L), true, FIRST, 0, 10);
+
+		index.invalidate(1L);
+		index.find(1L, List.of(10L, 20L), true, FIRST, 0, 10);
+
+		verify(versions).bump(1L);
+		verify(urlTagReader, times(2)).findActiveTagUrlEntries(1L);
+	}
+
+	private double gets(String result) {
+		return meterRegistry.get(TagUrlBitmapIndex.METRIC_NAME).tag("result", result).counter().count();
+	}
+}
@@ -0,0 +1,102 @@
+package luti.server.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TwoLevelCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+	private Cache remoteCache;
+	private TwoLevelCache cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		localCache = Caffeine.newBuilder()
+							 .maximumSize(100)
+							 .expireAfterWrite(Duration.ofMinutes(1))
+							 .build();
+		remoteCache = spy(new ConcurrentMapCache("urlMapping", false));
+		cache = new TwoLevelCache("urlMapping", localCache, remoteCache, meterRegistry);
+	}
+
+	private double count(String tier, String result) {
+		return meterRegistry.get(TwoLevelCache.METRIC_NAME)
+							.tag("cache", "urlMapping")
+							.tag("tier", tier)
+							.tag("result", result)
+							.counter()
+							.count();
+	}
+
+	@Test
+	@DisplayName("L1 히트 시 L2(Redis)를 조회하지 않음")
+	void L1히트_L2미조회() {
+		cache.put(1L, "https://example.com");
+		clearInvocations(remoteCache);
+
+		Cache.ValueWrapper result = cache.get(1L);
+
+		assertNotNull(result);
+		assertEquals("https://example.com", result.get());
+		verify(remoteCache, never()).get(any());
+		assertEquals(1.0, count("l1", "hit"));
+	}
+
+	@Test
+	@DisplayName("L1 미스, L2 히트 시 L1에 적재되어 다음 조회는 L1에서 처리")
+	void L2히트_L1적재() {
+		remoteCache.put(2L, "https://naver.com");
+
+		assertEquals("https://naver.com", cache.get(2L).get());
+		assertEquals("https://naver.com", cache.get(2L).get());
+
+		verify(remoteCache, times(1)).get(2L);
+		assertEquals(1.0, count("l1", "miss"));
+		assertEquals(1.0, count("l2", "hit"));
+		assertEquals(1.0, count("l1", "hit"));
+	}
+
+	@Test
+	@DisplayName("L1, L2 모두 미스 시 null 반환 (DB 조회로 fallback)")
+	void 전체미스() {
+		assertNull(cache.get(3L));
+
+		assertEquals(1.0, count("l1", "miss"));
+		assertEquals(1.0, count("l2", "miss"));
+	}
+
+	@Test
+	@DisplayName("L2 저장 실패 시에도 L1에는 저장됨")
+	void L2저장실패_L1유지() {
+		doThrow(new RuntimeException("redis down")).when(remoteCache).put(any(), any());
+
+		assertThrows(RuntimeException.class, () -> cache.put(4L, "https://google.com"));
+
+		assertEquals("https://google.com", localCache.getIfPresent(4L));
+	}
+
+	@Test
+	@DisplayName("evict 시 두 단계 모두 삭제")
+	void evict_양쪽삭제() {
+		cache.put(5L, "https://github.com");
+
+		cache.evict(5L);
+
+		assertNull(localCache.getIfPresent(5L));
+		assertNull(remoteCache.get(5L));
+	}
+}
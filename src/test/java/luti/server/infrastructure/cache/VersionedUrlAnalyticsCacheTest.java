@@ -0,0 +1,92 @@
+package luti.server.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import luti.server.domain.service.dto.UrlAnalyticsInfo;
+
+class VersionedUrlAnalyticsCacheTest {
+
+	private static final LocalDateTime WINDOW = LocalDateTime.of(2026, 1, 21, 3, 0);
+
+	private ClickDataVersions versions;
+	private SimpleMeterRegistry meterRegistry;
+	private VersionedUrlAnalyticsCache cache;
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private final Supplier<UrlAnalyticsInfo> loader = () -> {
+		loads.incrementAndGet();
+		return UrlAnalyticsInfo.of(List.of(), List.of(), List.of(), List.of());
+	};
+
+	@BeforeEach
+	void setUp() {
+		versions = mock(ClickDataVersions.class);
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new VersionedUrlAnalyticsCache(versions, meterRegistry, true, 100);
+	}
+
+	@Test
+	@DisplayName("버전과 시간대가 같으면 다시 계산하지 않음")
+	void 같은버전_캐시히트() {
+		when(versions.current(1L)).thenReturn(3L);
+
+		UrlAnalyticsInfo first = cache.get(1L, WINDOW, loader);
+		UrlAnalyticsInfo second = cache.get(1L, WINDOW, loader);
+
+		assertSame(first, second);
+		assertEquals(1, loads.get());
+		assertEquals(1.0, gets("hit"));
+		assertEquals(1.0, gets("miss"));
+	}
+
+	@Test
+	@DisplayName("버전이 바뀌면 한 번만 다시 계산")
+	void 버전변경_재계산() {
+		when(versions.current(1L)).thenReturn(3L, 4L, 4L);
+
+		cache.get(1L, WINDOW, loader);
+		cache.get(1L, WINDOW, loader);
+		cache.get(1L, WINDOW, loader);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	@DisplayName("시간대가 바뀌면 같은 버전이어도 다시 계산")
+	void 시간대변경_재계산() {
+		when(versions.current(1L)).thenReturn(3L);
+
+		cache.get(1L, WINDOW, loader);
+		cache.get(1L, WINDOW.plusHours(1), loader);
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	@DisplayName("버전 조회 실패 시 캐시 없이 매번 계산")
+	void 버전조회실패_우회() {
+		when(versions.current(1L)).thenThrow(new RuntimeException("redis down"));
+
+		cache.get(1L, WINDOW, loader);
+		cache.get(1L, WINDOW, loader);
+
+		assertEquals(2, loads.get());
+		assertEquals(2.0, gets("bypass"));
+		assertEquals(2, meterRegistry.get("analytics.cache.recompute").timer().count());
+	}
+
+	private double gets(String result) {
+		return meterRegistry.get(VersionedUrlAnalyticsCache.METRIC_NAME).tag("result", result).counter().count();
+	}
+}
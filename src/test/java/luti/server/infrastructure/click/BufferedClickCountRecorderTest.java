@@ -0,0 +1,50 @@
+package luti.server.infrastructure.click;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+
+class BufferedClickCountRecorderTest {
+
+	private static final ClickKey FIRST = new ClickKey(1L, 100L);
+	private static final ClickKey SECOND = new ClickKey(1L, 200L);
+	private static final ClickKey THIRD = new ClickKey(2L, 100L);
+
+	@Test
+	@DisplayName("파이프라인 결과가 오류인 엔트리만 미반영으로 판단 (반영된 엔트리는 복원하지 않음)")
+	void 오류결과만_미반영() {
+		Map<ClickKey, Long> sent = sent();
+		RedisPipelineException failure = new RedisPipelineException("pipeline failed",
+			Arrays.asList(1L, new RuntimeException("OOM"), 3L));
+
+		Map<ClickKey, Long> unapplied = BufferedClickCountRecorder.unappliedEntries(sent, failure);
+
+		assertEquals(Map.of(SECOND, 2L), unapplied);
+	}
+
+	@Test
+	@DisplayName("명령별 결과가 없으면 반영 여부를 알 수 없어 전부 미반영으로 판단")
+	void 결과없음_전부미반영() {
+		Map<ClickKey, Long> sent = sent();
+
+		assertEquals(sent, BufferedClickCountRecorder.unappliedEntries(sent,
+			new RedisPipelineException(new QueryTimeoutException("Redis command timed out"))));
+		assertEquals(sent, BufferedClickCountRecorder.unappliedEntries(sent,
+			new IllegalStateException("connection refused")));
+	}
+
+	private static Map<ClickKey, Long> sent() {
+		Map<ClickKey, Long> sent = new LinkedHashMap<>();
+		sent.put(FIRST, 1L);
+		sent.put(SECOND, 2L);
+		sent.put(THIRD, 3L);
+		return sent;
+	}
+}
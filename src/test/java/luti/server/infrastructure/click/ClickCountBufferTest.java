@@ -0,0 +1,89 @@
+package luti.server.infrastructure.click;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+class ClickCountBufferTest {
+
+	@Test
+	@DisplayName("같은 키의 클릭은 하나의 증가분으로 병합")
+	void 같은키_병합() {
+		ClickCountBuffer<Long> buffer = new ClickCountBuffer<Long>(4);
+
+		for (int i = 0; i < 10_000; i++) {
+			buffer.add(1L);
+		}
+		buffer.add(2L);
+
+		Map<Long, Long> drained = buffer.drain();
+
+		assertEquals(2, drained.size());
+		assertEquals(10_000L, drained.get(1L));
+		assertEquals(1L, drained.get(2L));
+		assertEquals(0, buffer.pendingEntries());
+	}
+
+	@Test
+	@DisplayName("restore 시 꺼냈던 증가분이 다시 누적")
+	void restore_재누적() {
+		ClickCountBuffer<Long> buffer = new ClickCountBuffer<Long>(4);
+		buffer.add(1L);
+		buffer.add(1L);
+
+		Map<Long, Long> drained = buffer.drain();
+		buffer.add(1L);
+		buffer.restore(drained);
+
+		assertEquals(3L, buffer.drain().get(1L));
+	}
+
+	@RepeatedTest(5)
+	@DisplayName("멀티스레드 누적 중 drain을 반복해도 클릭 유실 없음")
+	void 동시누적_drain_유실없음() throws Exception {
+		ClickCountBuffer<Long> buffer = new ClickCountBuffer<Long>(8);
+		int threads = 8;
+		int clicksPerThread = 50_000;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+		AtomicBoolean running = new AtomicBoolean(true);
+		Map<Long, Long> total = new ConcurrentHashMap<>();
+
+		for (int t = 0; t < threads; t++) {
+			executor.submit(() -> {
+				for (int i = 0; i < clicksPerThread; i++) {
+					buffer.add((long) (i % 10));
+				}
+				done.countDown();
+			});
+		}
+
+		// flusher 역할: 누적 중에 계속 drain
+		Thread flusher = new Thread(() -> {
+			while (running.get()) {
+				buffer.drain().forEach((k, v) -> total.merge(k, v, Long::sum));
+			}
+		});
+		flusher.start();
+
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		running.set(false);
+		flusher.join();
+		buffer.drain().forEach((k, v) -> total.merge(k, v, Long::sum));
+		executor.shutdown();
+
+		long sum = total.values().stream().mapToLong(Long::longValue).sum();
+		assertEquals((long) threads * clicksPerThread, sum);
+	}
+}
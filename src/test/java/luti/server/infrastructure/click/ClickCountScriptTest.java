@@ -0,0 +1,39 @@
+package luti.server.infrastructure.click;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+
+class ClickCountScriptTest {
+
+	@Test
+	@DisplayName("NOSCRIPT 오류는 cause 체인과 파이프라인 결과에서 모두 감지")
+	void NOSCRIPT_감지() {
+		RuntimeException noScript = new RuntimeException("NOSCRIPT No matching script. Please use EVAL.");
+
+		assertTrue(ClickCountScript.isNoScriptError(new RedisSystemException("wrapped", noScript)));
+		assertTrue(ClickCountScript.isNoScriptError(
+			new RedisPipelineException("pipeline failed", List.of(1L, noScript))));
+	}
+
+	@Test
+	@DisplayName("다른 오류는 NOSCRIPT 로 판단하지 않음")
+	void 다른오류_미감지() {
+		assertFalse(ClickCountScript.isNoScriptError(new InvalidDataAccessApiUsageException("WRONGTYPE")));
+		assertFalse(ClickCountScript.isNoScriptError(
+			new RedisPipelineException("pipeline failed", List.of(1L, new RuntimeException("OOM")))));
+	}
+
+	@Test
+	@DisplayName("스크립트 SHA 는 고정값 (EVALSHA 파이프라인과 Spring 스크립트 실행이 같은 캐시를 공유)")
+	void SHA_고정() {
+		assertEquals(40, ClickCountScript.sha().length());
+		assertEquals(ClickCountScript.SCRIPT.getSha1(), ClickCountScript.sha());
+	}
+}
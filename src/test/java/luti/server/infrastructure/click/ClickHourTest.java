@@ -0,0 +1,48 @@
+package luti.server.infrastructure.click;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClickHourTest {
+
+	@Test
+	@DisplayName("시간 버킷과 시각은 서로 변환 가능")
+	void 버킷_시각_변환() {
+		LocalDateTime hour = LocalDateTime.of(2026, 12, 31, 23, 0);
+
+		assertEquals(2026123123L, ClickHour.bucketOf(hour));
+		assertEquals(hour, ClickHour.toHour(2026123123L));
+	}
+
+	@Test
+	@DisplayName("현재 버킷은 현재 시각을 시간 단위로 절삭한 값")
+	void 현재버킷() {
+		LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+		long bucket = ClickHour.currentBucket();
+		LocalDateTime after = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+		assertTrue(bucket == ClickHour.bucketOf(before) || bucket == ClickHour.bucketOf(after));
+	}
+
+	@Test
+	@DisplayName("최근 버킷은 현재 버킷부터 한 시간씩 과거로")
+	void 최근버킷() {
+		long[] buckets = ClickHour.recentBuckets(26);
+
+		assertEquals(27, buckets.length);
+		for (int i = 1; i < buckets.length; i++) {
+			assertEquals(ClickHour.toHour(buckets[i - 1]).minusHours(1), ClickHour.toHour(buckets[i]));
+		}
+	}
+
+	@Test
+	@DisplayName("이전 형식 버킷은 시각이 없음")
+	void 이전형식() {
+		assertNull(ClickHour.toHour(ClickHour.LEGACY_BUCKET));
+	}
+}
@@ -0,0 +1,70 @@
+package luti.server.infrastructure.click;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class RedisPendingClickCountReaderTest {
+
+	private RedisTemplate<String, Long> redisTemplate;
+	private ValueOperations<String, Long> valueOperations;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("모든 URL x 시간 버킷 키를 MGET 한 번으로 조회해 URL별로 합산")
+	@SuppressWarnings("unchecked")
+	void MGET_한번_합산() {
+		RedisPendingClickCountReader reader = new RedisPendingClickCountReader(redisTemplate, true, 2);
+		long[] buckets = ClickHour.recentBuckets(2);
+
+		when(valueOperations.multiGet(anyCollection())).thenAnswer(inv -> {
+			List<String> keys = new ArrayList<>((java.util.Collection<String>) inv.getArgument(0));
+			Long[] values = new Long[keys.size()];
+			values[keys.indexOf(ClickCountScript.countKey(buckets[0], 101L))] = 5L;
+			values[keys.indexOf(ClickCountScript.countKey(buckets[2], 101L))] = 2L;
+			values[keys.indexOf(ClickCountScript.countKey(buckets[1], 102L))] = 3L;
+			return Arrays.asList(values);
+		});
+
+		Map<Long, Long> pending = reader.findPendingCounts(List.of(101L, 102L, 103L));
+
+		verify(valueOperations, times(1)).multiGet(argThat(keys -> keys.size() == 9));
+		assertEquals(Map.of(101L, 7L, 102L, 3L), pending);
+	}
+
+	@Test
+	@DisplayName("Redis 조회 실패 시 빈 결과")
+	void 조회실패_빈결과() {
+		RedisPendingClickCountReader reader = new RedisPendingClickCountReader(redisTemplate, true, 26);
+		when(valueOperations.multiGet(anyCollection())).thenThrow(new RuntimeException("redis down"));
+
+		assertTrue(reader.findPendingCounts(List.of(101L)).isEmpty());
+	}
+
+	@Test
+	@DisplayName("비활성화되어 있으면 조회하지 않음")
+	void 비활성화() {
+		RedisPendingClickCountReader reader = new RedisPendingClickCountReader(redisTemplate, false, 26);
+
+		assertTrue(reader.findPendingCounts(List.of(101L)).isEmpty());
+		verifyNoInteractions(valueOperations);
+	}
+}
@@ -0,0 +1,67 @@
+package luti.server.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ClickRecordExecutorTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private ThreadPoolTaskExecutor executor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		executor = new AsyncConfig().clickRecordExecutor(meterRegistry, 1, 1, 2);
+		executor.initialize();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("큐가 가득 차면 호출 스레드를 막지 않고 작업을 버린 뒤 카운트")
+	void 큐초과_버리고카운트() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+
+		// 워커 1개를 점유
+		executor.execute(() -> {
+			started.countDown();
+			await(release);
+		});
+		assertTrue(started.await(1, TimeUnit.SECONDS));
+
+		// 큐 2칸 채우고 3건 초과 제출
+		long begin = System.nanoTime();
+		for (int i = 0; i < 5; i++) {
+			executor.execute(() -> await(release));
+		}
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+		assertEquals(3.0, meterRegistry.get("click.record.executor.rejected").counter().count());
+		assertEquals(2.0, meterRegistry.get("click.record.executor.queue.size").gauge().value());
+		assertTrue(elapsedMs < 500, "호출 스레드가 블로킹됨: " + elapsedMs + "ms");
+
+		release.countDown();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
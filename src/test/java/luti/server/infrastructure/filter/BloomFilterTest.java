@@ -0,0 +1,80 @@
+package luti.server.infrastructure.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	@DisplayName("추가한 키는 항상 존재 가능으로 판정 (미탐 없음)")
+	void 추가한키_미탐없음() {
+		BloomFilter filter = BloomFilter.create(100_000, 0.01);
+
+		for (long id = 0; id < 100_000; id++) {
+			filter.put(id * 7919L);
+		}
+
+		for (long id = 0; id < 100_000; id++) {
+			assertTrue(filter.mightContain(id * 7919L), "미탐 발생: " + id);
+		}
+	}
+
+	@Test
+	@DisplayName("목표 오탐률 근처로 유지")
+	void 오탐률_목표근처() {
+		BloomFilter filter = BloomFilter.create(100_000, 0.01);
+
+		for (long id = 0; id < 100_000; id++) {
+			filter.put(id);
+		}
+
+		int falsePositives = 0;
+		int probes = 100_000;
+		for (long id = 1_000_000_000L; id < 1_000_000_000L + probes; id++) {
+			if (filter.mightContain(id)) {
+				falsePositives++;
+			}
+		}
+
+		double observed = (double) falsePositives / probes;
+		System.out.println("관측 오탐률: " + observed + ", 예상 오탐률: " + filter.expectedFalsePositiveRate());
+
+		assertTrue(observed < 0.02, "오탐률이 너무 높음: " + observed);
+		assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+	}
+
+	@Test
+	@DisplayName("멀티스레드 동시 추가 시에도 미탐 없음")
+	void 동시추가_미탐없음() throws Exception {
+		BloomFilter filter = BloomFilter.create(200_000, 0.01);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		for (int t = 0; t < 8; t++) {
+			long base = t * 25_000L;
+			executor.submit(() -> {
+				for (long id = base; id < base + 25_000; id++) {
+					filter.put(id);
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		for (long id = 0; id < 200_000; id++) {
+			assertTrue(filter.mightContain(id), "미탐 발생: " + id);
+		}
+	}
+
+	@Test
+	@DisplayName("잘못된 파라미터는 예외")
+	void 잘못된파라미터() {
+		assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+		assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+	}
+}
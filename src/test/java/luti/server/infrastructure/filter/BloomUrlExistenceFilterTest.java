@@ -0,0 +1,97 @@
+package luti.server.infrastructure.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BloomUrlExistenceFilterTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private StreamOperations<String, Object, Object> streamOperations;
+	private BloomUrlExistenceFilter filter;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+		streamOperations = mock(StreamOperations.class);
+		when(stringRedisTemplate.opsForStream()).thenReturn((StreamOperations)streamOperations);
+
+		when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+		when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenReturn(List.of());
+		when(streamOperations.reverseRange(eq(BloomUrlExistenceFilter.CREATED_STREAM), any(Range.class), any(Limit.class)))
+			.thenReturn(List.of(record("5-0", 1L)));
+
+		filter = new BloomUrlExistenceFilter(jdbcTemplate, stringRedisTemplate, new SimpleMeterRegistry(),
+			true, 1000, 0.001, 1000);
+		assertTrue(filter.rebuild());
+	}
+
+	@Test
+	@DisplayName("pub/sub 으로 받지 못한 URL 도 stream catch-up 으로 필터에 반영")
+	@SuppressWarnings("unchecked")
+	void stream_누락분_반영() {
+		// Given
+		assertFalse(filter.mightExist(42L));
+		when(streamOperations.read(any(StreamReadOptions.class), any(StreamOffset.class)))
+			.thenReturn(List.of(record("6-0", 42L)), List.of());
+
+		// When
+		filter.catchUp();
+		filter.catchUp();
+
+		// Then
+		assertTrue(filter.mightExist(42L));
+		verify(streamOperations).read(any(StreamReadOptions.class),
+			argThat((StreamOffset<String> offset) -> offset.getOffset().getOffset().equals("5-0")));
+		verify(streamOperations).read(any(StreamReadOptions.class),
+			argThat((StreamOffset<String> offset) -> offset.getOffset().getOffset().equals("6-0")));
+	}
+
+	@Test
+	@DisplayName("stream 읽기에 실패했다가 다시 연결되면 전체 재빌드")
+	@SuppressWarnings("unchecked")
+	void stream_재연결시_재빌드() {
+		// Given
+		when(streamOperations.read(any(StreamReadOptions.class), any(StreamOffset.class)))
+			.thenThrow(new RedisConnectionFailureException("redis down"));
+		filter.catchUp();
+
+		// When
+		filter.catchUp();
+
+		// Then
+		verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class));
+		verify(streamOperations, times(2)).reverseRange(eq(BloomUrlExistenceFilter.CREATED_STREAM), any(Range.class),
+			any(Limit.class));
+	}
+
+	private static MapRecord<String, Object, Object> record(String id, long scrambledId) {
+		return StreamRecords.<String, Object, Object>mapBacked(
+				Map.of(BloomUrlExistenceFilter.STREAM_FIELD, String.valueOf(scrambledId)))
+			.withStreamKey(BloomUrlExistenceFilter.CREATED_STREAM)
+			.withId(RecordId.of(id));
+	}
+}
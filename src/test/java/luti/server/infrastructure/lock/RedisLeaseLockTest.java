@@ -0,0 +1,144 @@
+package luti.server.infrastructure.lock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class RedisLeaseLockTest {
+
+	private static final Duration TTL = Duration.ofMillis(300);
+
+	// Redis 대역: key -> (token, 만료 시각)
+	private final Map<String, Entry> store = new ConcurrentHashMap<>();
+
+	private RedisLeaseLock nodeA;
+	private RedisLeaseLock nodeB;
+
+	private record Entry(String value, long expiresAt) {
+		boolean alive() {
+			return System.currentTimeMillis() < expiresAt;
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		nodeA = new RedisLeaseLock(redisStandIn());
+		nodeB = new RedisLeaseLock(redisStandIn());
+	}
+
+	@AfterEach
+	void tearDown() {
+		nodeA.shutdown();
+		nodeB.shutdown();
+	}
+
+	@SuppressWarnings("unchecked")
+	private StringRedisTemplate redisStandIn() {
+		StringRedisTemplate template = mock(StringRedisTemplate.class);
+		ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+		when(template.opsForValue()).thenReturn(valueOps);
+
+		// SET NX PX
+		when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(inv -> {
+			String key = inv.getArgument(0);
+			Duration ttl = inv.getArgument(2);
+			synchronized (store) {
+				Entry current = store.get(key);
+				if (current != null && current.alive()) {
+					return false;
+				}
+				store.put(key, new Entry(inv.getArgument(1), System.currentTimeMillis() + ttl.toMillis()));
+				return true;
+			}
+		});
+
+		// 토큰 비교 후 PEXPIRE / DEL
+		when(template.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+			RedisScript<?> script = inv.getArgument(0);
+			String key = ((List<String>) inv.getArgument(1)).get(0);
+			Object[] args = (Object[]) inv.getRawArguments()[2];
+			synchronized (store) {
+				Entry current = store.get(key);
+				if (current == null || !current.alive() || !current.value().equals(args[0])) {
+					return 0L;
+				}
+				if (script == RedisLeaseLock.RENEW) {
+					store.put(key, new Entry(current.value(), System.currentTimeMillis() + Long.parseLong((String) args[1])));
+				} else {
+					store.remove(key);
+				}
+				return 1L;
+			}
+		});
+		return template;
+	}
+
+	@Test
+	@DisplayName("한 노드가 보유 중이면 다른 노드는 획득 실패, 해제 후 획득 가능")
+	void 상호배제_해제후획득() {
+		Optional<RedisLeaseLock.Lease> leaseA = nodeA.tryAcquire("sync", TTL);
+		assertTrue(leaseA.isPresent());
+		assertTrue(nodeB.tryAcquire("sync", TTL).isEmpty());
+
+		leaseA.get().close();
+
+		Optional<RedisLeaseLock.Lease> leaseB = nodeB.tryAcquire("sync", TTL);
+		assertTrue(leaseB.isPresent());
+		leaseB.get().close();
+	}
+
+	@Test
+	@DisplayName("보유 중에는 ttl 이 지나도 갱신되어 다른 노드가 획득하지 못함")
+	void 갱신_유지() throws Exception {
+		Optional<RedisLeaseLock.Lease> leaseA = nodeA.tryAcquire("sync", TTL);
+		assertTrue(leaseA.isPresent());
+
+		Thread.sleep(TTL.toMillis() * 3);
+
+		assertTrue(leaseA.get().isHeld());
+		assertTrue(nodeB.tryAcquire("sync", TTL).isEmpty());
+		leaseA.get().close();
+	}
+
+	@Test
+	@DisplayName("보유 노드가 죽어 갱신이 멈추면 ttl 후 다른 노드가 획득 (failover)")
+	void 보유노드장애_failover() throws Exception {
+		assertTrue(nodeA.tryAcquire("sync", TTL).isPresent());
+
+		nodeA.shutdown();  // 갱신 중단 = 노드 장애
+		Thread.sleep(TTL.toMillis() + 100);
+
+		Optional<RedisLeaseLock.Lease> leaseB = nodeB.tryAcquire("sync", TTL);
+		assertTrue(leaseB.isPresent());
+		leaseB.get().close();
+	}
+
+	@Test
+	@DisplayName("만료 후 다른 노드에 넘어간 lease 는 갱신/해제하지 않음")
+	void 빼앗긴lease_건드리지않음() {
+		RedisLeaseLock.Lease leaseA = nodeA.tryAcquire("sync", TTL).orElseThrow();
+
+		// 만료되어 다른 노드가 획득한 상황
+		store.put(RedisLeaseLock.KEY_PREFIX + "sync", new Entry("other-token", System.currentTimeMillis() + 10_000));
+
+		leaseA.renew();
+		assertFalse(leaseA.isHeld());
+
+		leaseA.close();
+		assertEquals("other-token", store.get(RedisLeaseLock.KEY_PREFIX + "sync").value());
+	}
+}
@@ -7,7 +7,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,9 +29,11 @@ import luti.server.application.bus.QueryBus;
 import luti.server.application.command.ClaimUrlCommand;
 import luti.server.application.command.DeleteUrlCommand;
 import luti.server.application.command.DescriptionCommand;
+import luti.server.application.query.LiveClickCountsQuery;
 import luti.server.application.query.MyUrlsQuery;
 import luti.server.application.query.UrlAnalyticsQuery;
 import luti.server.application.query.VerifyUrlQuery;
+import luti.server.application.result.LiveClickCountsResult;
 import luti.server.application.result.MyUrlsListResult;
 import luti.server.application.result.UrlAnalyticsResult;
 import luti.server.application.result.UrlVerifyResult;
@@ -345,6 +349,77 @@ class MyUrlsControllerTest {
 
             verify(queryBus).execute(any(MyUrlsQuery.class));
         }
+
+        @Test
+        @DisplayName("커서 파라미터 포함 요청 - 커서 모드로 QueryBus에 전달됨")
+        void 커서_파라미터_포함_요청() throws Exception {
+            // Given
+            Long memberId = 1L;
+
+            MyUrlsListResult mockResult = buildMyUrlsListResult(0);
+            when(queryBus.execute(any(MyUrlsQuery.class))).thenReturn(mockResult);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/my-urls/list")
+                    .param("size", "20")
+                    .param("paging", "cursor")
+                    .param("cursor", "abc")
+                    .param("includeTotal", "true")
+                    .with(user(memberId.toString())))
+                .andExpect(status().isOk());
+
+            verify(queryBus).execute(argThat((MyUrlsQuery query) ->
+                query.isCursorMode() && "abc".equals(query.getCursor()) && query.isIncludeTotal()
+                    && query.getSize() == 20));
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // GET /api/v1/my-urls/click-counts
+    // -------------------------------------------------------------------------
+
+    @Nested
+    @DisplayName("GET /api/v1/my-urls/click-counts - 실시간 클릭 수 일괄 조회")
+    class GetLiveClickCounts {
+
+        @Test
+        @DisplayName("여러 URL id 요청 - urlId/clickCount 목록 반환")
+        void 실시간클릭수_조회() throws Exception {
+            // Given
+            Long memberId = 1L;
+
+            Map<Long, Long> clickCounts = new LinkedHashMap<>();
+            clickCounts.put(1L, 15L);
+            clickCounts.put(2L, 20L);
+            when(queryBus.execute(any(LiveClickCountsQuery.class)))
+                .thenReturn(LiveClickCountsResult.from(clickCounts));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/my-urls/click-counts")
+                    .param("urlIds", "1", "2")
+                    .with(user(memberId.toString())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clickCounts[0].urlId").value(1))
+                .andExpect(jsonPath("$.clickCounts[0].clickCount").value(15))
+                .andExpect(jsonPath("$.clickCounts[1].urlId").value(2));
+
+            verify(queryBus).execute(any(LiveClickCountsQuery.class));
+        }
+
+        @Test
+        @DisplayName("최대 개수 초과 - 400 + 에러코드 6005 반환")
+        void 최대개수초과_400반환() throws Exception {
+            // Given
+            when(queryBus.execute(any(LiveClickCountsQuery.class)))
+                .thenThrow(new BusinessException(ErrorCode.TOO_MANY_URL_IDS));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/my-urls/click-counts")
+                    .param("urlIds", "1")
+                    .with(user("1")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("6005"));
+        }
     }
 
     // -------------------------------------------------------------------------